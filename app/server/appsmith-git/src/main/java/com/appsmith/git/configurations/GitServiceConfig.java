@@ -14,4 +14,12 @@ public class GitServiceConfig {
     @Value("gitInitializeRepo/GitConnect-Initialize-Repo-Template")
     private String readmeTemplatePath;
 
+    // Maximum number of local repositories kept open across git operations on this node
+    @Value("${appsmith.git.repository-cache.max-size:100}")
+    private int repositoryCacheMaxSize;
+
+    // Open repositories which haven't been used for this long are closed
+    @Value("${appsmith.git.repository-cache.idle-timeout-minutes:30}")
+    private long repositoryCacheIdleTimeoutMinutes;
+
 }
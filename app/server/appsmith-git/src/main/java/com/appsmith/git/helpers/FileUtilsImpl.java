@@ -16,9 +16,11 @@ import org.apache.commons.io.IOUtils;
 import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
 import org.springframework.util.FileSystemUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
@@ -32,6 +34,7 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -55,12 +58,22 @@ public class FileUtilsImpl implements FileInterface {
 
     private final GitExecutor gitExecutor;
 
+    private final GitRepositoryCache gitRepositoryCache;
+
     private static final String EDIT_MODE_URL_TEMPLATE = "{{editModeUrl}}";
 
     private static final String VIEW_MODE_URL_TEMPLATE = "{{viewModeUrl}}";
 
     private static final Pattern FILE_EXTENSION_PATTERN = Pattern.compile("([^/]*|LICENSE).(md|git|gitignore|)$");
 
+    // Maximum number of resource files read and written at the same time while saving an application
+    private static final int FILE_IO_PARALLELISM = 8;
+
+    private final Scheduler fileIoScheduler = Schedulers.newBoundedElastic(FILE_IO_PARALLELISM, Integer.MAX_VALUE, "git-file-io");
+
+    // Gson instances are thread safe, and the same one is shared by all the file writes
+    private final Gson gson = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
+
 
     /**
      * This method will save the complete application in the local repo directory.
@@ -80,8 +93,7 @@ public class FileUtilsImpl implements FileInterface {
                 .flatMap(isSwitched -> {
 
                     Path baseRepo = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
-                    Gson gson = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
-                    Set<String> validFileNames = new HashSet<>();
+                    Map<Path, Object> resourcesByPath = new LinkedHashMap<>();
 
                     /*
                     Application will be stored in the following structure :
@@ -98,70 +110,79 @@ public class FileUtilsImpl implements FileInterface {
                         --page2
                      */
 
-                    // Save application
-                    saveFile(applicationGitReference.getApplication(), baseRepo.resolve("application.json"), gson);
-
-                    // Save application metadata
-                    saveFile(applicationGitReference.getMetadata(), baseRepo.resolve("metadata.json"), gson);
-
-                    // Save pages
-                    for (Map.Entry<String, Object> resource : applicationGitReference.getPages().entrySet()) {
-                        saveFile(resource.getValue(), baseRepo.resolve(PAGE_DIRECTORY).resolve(resource.getKey() + ".json"), gson);
-                        validFileNames.add(resource.getKey() + ".json");
-                    }
-                    // Scan page directory and delete if any unwanted file if present
-                    scanAndDeleteFileForDeletedResources(validFileNames, baseRepo.resolve(PAGE_DIRECTORY));
-                    validFileNames.clear();
-
-                    // Save actions
-                    for (Map.Entry<String, Object> resource : applicationGitReference.getActions().entrySet()) {
-                        saveFile(resource.getValue(), baseRepo.resolve(ACTION_DIRECTORY).resolve(resource.getKey() + ".json"), gson);
-                        validFileNames.add(resource.getKey() + ".json");
-                    }
-                    // Scan actions directory and delete if any unwanted file if present
-                    if (!applicationGitReference.getActions().isEmpty()) {
-                        scanAndDeleteFileForDeletedResources(validFileNames, baseRepo.resolve(ACTION_DIRECTORY));
-                        validFileNames.clear();
-                    }
-
-                    // Save jsActionCollections
-                    for (Map.Entry<String, Object> resource : applicationGitReference.getActionsCollections().entrySet()) {
-                        saveFile(resource.getValue(), baseRepo.resolve(ACTION_COLLECTION_DIRECTORY).resolve(resource.getKey() + ".json"), gson);
-                        validFileNames.add(resource.getKey() + ".json");
-                    }
-                    // Scan actionCollections directory and delete if any unwanted file if present
-                    if (!applicationGitReference.getActionsCollections().isEmpty()) {
-                        scanAndDeleteFileForDeletedResources(validFileNames, baseRepo.resolve(ACTION_COLLECTION_DIRECTORY));
-                        validFileNames.clear();
-                    }
-
-                    // Save datasources ref
-                    for (Map.Entry<String, Object> resource : applicationGitReference.getDatasources().entrySet()) {
-                        saveFile(resource.getValue(), baseRepo.resolve(DATASOURCE_DIRECTORY).resolve(resource.getKey() + ".json"), gson);
-                        validFileNames.add(resource.getKey() + ".json");
-                    }
-                    // Scan page directory and delete if any unwanted file if present
-                    if (!applicationGitReference.getDatasources().isEmpty()) {
-                        scanAndDeleteFileForDeletedResources(validFileNames, baseRepo.resolve(DATASOURCE_DIRECTORY));
-                    }
-                    return Mono.just(baseRepo);
+                    // Application and application metadata
+                    resourcesByPath.put(baseRepo.resolve("application.json"), applicationGitReference.getApplication());
+                    resourcesByPath.put(baseRepo.resolve("metadata.json"), applicationGitReference.getMetadata());
+
+                    // Pages, actions, jsActionCollections and datasources refs
+                    Set<String> validPageFileNames = addResources(resourcesByPath, applicationGitReference.getPages(), baseRepo.resolve(PAGE_DIRECTORY));
+                    Set<String> validActionFileNames = addResources(resourcesByPath, applicationGitReference.getActions(), baseRepo.resolve(ACTION_DIRECTORY));
+                    Set<String> validActionCollectionFileNames = addResources(resourcesByPath, applicationGitReference.getActionsCollections(), baseRepo.resolve(ACTION_COLLECTION_DIRECTORY));
+                    Set<String> validDatasourceFileNames = addResources(resourcesByPath, applicationGitReference.getDatasources(), baseRepo.resolve(DATASOURCE_DIRECTORY));
+
+                    // Only the files whose content has changed are written, so that the rest keep their timestamps and
+                    // git doesn't have to hash them again while staging
+                    return Flux.fromIterable(resourcesByPath.entrySet())
+                            .flatMap(
+                                    resource -> Mono.fromCallable(() -> saveFile(resource.getValue(), resource.getKey()))
+                                            .subscribeOn(fileIoScheduler),
+                                    FILE_IO_PARALLELISM
+                            )
+                            .filter(Boolean.TRUE::equals)
+                            .count()
+                            .map(writtenFilesCount -> {
+                                log.debug("Updated {} out of {} files in {}", writtenFilesCount, resourcesByPath.size(), baseRepo);
+
+                                // Scan resource directories and delete if any unwanted file if present
+                                scanAndDeleteFileForDeletedResources(validPageFileNames, baseRepo.resolve(PAGE_DIRECTORY));
+                                if (!applicationGitReference.getActions().isEmpty()) {
+                                    scanAndDeleteFileForDeletedResources(validActionFileNames, baseRepo.resolve(ACTION_DIRECTORY));
+                                }
+                                if (!applicationGitReference.getActionsCollections().isEmpty()) {
+                                    scanAndDeleteFileForDeletedResources(validActionCollectionFileNames, baseRepo.resolve(ACTION_COLLECTION_DIRECTORY));
+                                }
+                                if (!applicationGitReference.getDatasources().isEmpty()) {
+                                    scanAndDeleteFileForDeletedResources(validDatasourceFileNames, baseRepo.resolve(DATASOURCE_DIRECTORY));
+                                }
+                                return baseRepo;
+                            });
                 });
     }
 
     /**
-     * This method will be used to store the DB resource to JSON file
+     * Adds the resources to be stored in the given directory, one JSON file per resource
+     * @param resourcesByPath resources to be stored, by the file path where they are to be stored
+     * @param resources resources by their unique names
+     * @param directory directory where the resources are to be stored
+     * @return names of the files for the given resources
+     */
+    private Set<String> addResources(Map<Path, Object> resourcesByPath, Map<String, Object> resources, Path directory) {
+        Set<String> validFileNames = new HashSet<>();
+        for (Map.Entry<String, Object> resource : resources.entrySet()) {
+            resourcesByPath.put(directory.resolve(resource.getKey() + ".json"), resource.getValue());
+            validFileNames.add(resource.getKey() + ".json");
+        }
+        return validFileNames;
+    }
+
+    /**
+     * This method will be used to store the DB resource to JSON file. The file is left untouched if it already has the
+     * same content.
      * @param sourceEntity resource extracted from DB to be stored in file
      * @param path file path where the resource to be stored
-     * @param gson
-     * @return if the file operation is successful
+     * @return if the file was written
      */
-    private boolean saveFile(Object sourceEntity, Path path, Gson gson) {
+    private boolean saveFile(Object sourceEntity, Path path) {
+        final byte[] content = gson.toJson(sourceEntity).getBytes(StandardCharsets.UTF_8);
         try {
-            Files.createDirectories(path.getParent());
-            try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-                gson.toJson(sourceEntity, fileWriter);
-                return true;
+            if (Files.isRegularFile(path)
+                    && Files.size(path) == content.length
+                    && Arrays.equals(Files.readAllBytes(path), content)) {
+                return false;
             }
+            Files.createDirectories(path.getParent());
+            Files.write(path, content);
+            return true;
         } catch (IOException e) {
             log.debug(e.getMessage());
         }
@@ -282,27 +303,35 @@ public class FileUtilsImpl implements FileInterface {
 
     @Override
     public Mono<Boolean> detachRemote(Path baseRepoSuffix) {
-        File file = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix).toFile();
-        while (file.exists()) {
-            FileSystemUtils.deleteRecursively(file);
-        }
-        return Mono.just(Boolean.TRUE);
+        return Mono.fromCallable(() -> {
+            File file = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix).toFile();
+            // Any handle open on the repository is closed before it's deleted
+            return gitRepositoryCache.withoutGit(file.toPath(), () -> {
+                while (file.exists()) {
+                    FileSystemUtils.deleteRecursively(file);
+                }
+                return Boolean.TRUE;
+            });
+        });
     }
 
     @Override
     public Mono<Boolean> checkIfDirectoryIsEmpty(Path baseRepoSuffix) throws IOException {
         return Mono.fromCallable(() -> {
-            File[] files = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix).toFile().listFiles();
-            for(File file : files) {
-                if(!FILE_EXTENSION_PATTERN.matcher(file.getName()).matches()) {
-                    //Remove the cloned repo from the file system since the repo doesnt satisfy the criteria
-                    while (file.exists()) {
-                        FileSystemUtils.deleteRecursively(file);
+            Path repoPath = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
+            return gitRepositoryCache.withoutGit(repoPath, () -> {
+                File[] files = repoPath.toFile().listFiles();
+                for(File file : files) {
+                    if(!FILE_EXTENSION_PATTERN.matcher(file.getName()).matches()) {
+                        //Remove the cloned repo from the file system since the repo doesnt satisfy the criteria
+                        while (file.exists()) {
+                            FileSystemUtils.deleteRecursively(file);
+                        }
+                        return false;
                     }
-                    return false;
                 }
-            }
-            return true;
+                return true;
+            });
         });
     }
 
@@ -0,0 +1,208 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.git.configurations.GitServiceConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the JGit handles of the local repositories open across git operations, so that the object database, packfiles
+ * and config of a repository aren't read from disk again on every operation. Operations on the same repository are
+ * serialised with a per repository lock, since most of them move HEAD or touch the working tree.
+ * <p>
+ * Handles are reference counted, and only the ones not in use are closed, when they have been idle for longer than the
+ * configured timeout or when more repositories than the configured maximum are open.
+ */
+@Slf4j
+@Component
+@Import({GitServiceConfig.class})
+public class GitRepositoryCache {
+
+    @FunctionalInterface
+    public interface GitOperation<T> {
+        T apply(Git git) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface RepositoryOperation<T> {
+        T call() throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface LockedOperation<T> {
+        T apply(CachedRepository cachedRepository) throws Exception;
+    }
+
+    private static class CachedRepository {
+        final ReentrantLock lock = new ReentrantLock();
+
+        // Guarded by `lock`
+        Git git;
+
+        // Number of operations using or waiting for this repository. Only updated inside `repositories.compute`.
+        int references = 0;
+
+        volatile long lastUsedAt = System.nanoTime();
+
+        void close() {
+            if (git != null) {
+                git.close();
+                git = null;
+            }
+        }
+    }
+
+    private static final long EVICTION_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<Path, CachedRepository> repositories = new ConcurrentHashMap<>();
+
+    private final int maxSize;
+
+    private final long idleTimeoutNanos;
+
+    private final AtomicLong lastEvictionAt = new AtomicLong(System.nanoTime());
+
+    public GitRepositoryCache(GitServiceConfig gitServiceConfig) {
+        this.maxSize = Math.max(1, gitServiceConfig.getRepositoryCacheMaxSize());
+        this.idleTimeoutNanos = TimeUnit.MINUTES.toNanos(gitServiceConfig.getRepositoryCacheIdleTimeoutMinutes());
+    }
+
+    /**
+     * Runs the operation with the cached handle of the repository at the given path, opening it if it isn't open yet.
+     * The handle must not be closed, nor used after the operation returns.
+     */
+    public <T> T withGit(Path repoPath, GitOperation<T> operation) throws Exception {
+        final Path key = toKey(repoPath);
+        return withLock(key, cachedRepository -> {
+            if (cachedRepository.git == null) {
+                cachedRepository.git = Git.open(key.toFile());
+            }
+            return operation.apply(cachedRepository.git);
+        });
+    }
+
+    /**
+     * Runs the operation holding the lock of the repository at the given path, with its cached handle closed. This is
+     * for operations which delete or replace the repository on disk, like a clone. The next operation on the path opens
+     * a fresh handle.
+     */
+    public <T> T withoutGit(Path repoPath, RepositoryOperation<T> operation) throws Exception {
+        return withLock(toKey(repoPath), cachedRepository -> {
+            cachedRepository.close();
+            return operation.call();
+        });
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        for (Path key : new ArrayList<>(repositories.keySet())) {
+            evictIfUnused(key);
+        }
+    }
+
+    private <T> T withLock(Path key, LockedOperation<T> operation) throws Exception {
+        // Take a reference first, so that the repository can't be evicted while this operation waits for the lock
+        final CachedRepository cachedRepository = repositories.compute(key, (k, existing) -> {
+            final CachedRepository repository = existing == null ? new CachedRepository() : existing;
+            repository.references++;
+            return repository;
+        });
+
+        try {
+            cachedRepository.lock.lock();
+            try {
+                return operation.apply(cachedRepository);
+            } catch (GitAPIException e) {
+                throw e;
+            } catch (Exception e) {
+                // The handle may be left in a bad state, e.g. if the repository was changed on disk underneath it, so
+                // it's opened afresh for the next operation.
+                cachedRepository.close();
+                throw e;
+            } finally {
+                cachedRepository.lastUsedAt = System.nanoTime();
+                cachedRepository.lock.unlock();
+            }
+        } finally {
+            repositories.computeIfPresent(key, (k, repository) -> {
+                repository.references--;
+                return repository;
+            });
+            evictIfDue();
+        }
+    }
+
+    /**
+     * Closes the idle handles even when no git operation runs, which would otherwise be the only trigger of an eviction.
+     */
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedDelay = 60 * 1000 /* one minute */)
+    public void evictIdle() {
+        final long now = System.nanoTime();
+        lastEvictionAt.set(now);
+        evict(now);
+    }
+
+    /**
+     * Runs an eviction at most once a minute, or whenever the cache is over its maximum size.
+     */
+    private void evictIfDue() {
+        final long now = System.nanoTime();
+        final long lastEviction = lastEvictionAt.get();
+        if ((repositories.size() <= maxSize && now - lastEviction < EVICTION_INTERVAL_NANOS)
+                || !lastEvictionAt.compareAndSet(lastEviction, now)) {
+            return;
+        }
+        evict(now);
+    }
+
+    /**
+     * Closes the handles which have been idle for too long, and then the least recently used ones if there are still
+     * too many open.
+     */
+    private void evict(long now) {
+        // Snapshot the last used times, since they keep changing while the entries are being sorted
+        final List<Map.Entry<Path, Long>> entries = new ArrayList<>();
+        repositories.forEach((key, repository) -> entries.add(Map.entry(key, repository.lastUsedAt)));
+        entries.sort(Map.Entry.comparingByValue());
+
+        int size = entries.size();
+        for (Map.Entry<Path, Long> entry : entries) {
+            final boolean isIdle = now - entry.getValue() > idleTimeoutNanos;
+            if ((isIdle || size > maxSize) && evictIfUnused(entry.getKey())) {
+                size--;
+            }
+        }
+    }
+
+    private boolean evictIfUnused(Path key) {
+        final boolean[] isEvicted = {false};
+        repositories.computeIfPresent(key, (k, repository) -> {
+            if (repository.references > 0) {
+                return repository;
+            }
+            // No operation holds or waits for the lock, so the handle can be closed right here
+            repository.close();
+            isEvicted[0] = true;
+            log.debug("Closed the cached git repository at {}", k);
+            return null;
+        });
+        return isEvicted[0];
+    }
+
+    private static Path toKey(Path repoPath) {
+        return repoPath.toAbsolutePath().normalize();
+    }
+}
@@ -6,6 +6,7 @@ import com.appsmith.external.dtos.MergeStatus;
 import com.appsmith.external.git.GitExecutor;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.Constraint;
+import com.appsmith.git.helpers.GitRepositoryCache;
 import com.appsmith.git.helpers.RepositoryHelper;
 import com.appsmith.git.helpers.SshTransportConfigCallback;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,7 @@ import org.eclipse.jgit.lib.StoredConfig;
 import org.eclipse.jgit.merge.MergeStrategy;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.util.StringUtils;
+import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
 import org.springframework.util.FileSystemUtils;
 import reactor.core.publisher.Mono;
@@ -49,6 +51,7 @@ import java.util.Set;
 
 @RequiredArgsConstructor
 @Component
+@Import({GitRepositoryCache.class})
 @Slf4j
 public class GitExecutorImpl implements GitExecutor {
 
@@ -56,6 +59,8 @@ public class GitExecutorImpl implements GitExecutor {
 
     private final GitServiceConfig gitServiceConfig;
 
+    private final GitRepositoryCache gitRepositoryCache;
+
     public static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_INSTANT.withZone(ZoneId.from(ZoneOffset.UTC));
 
     private final Scheduler scheduler = Schedulers.elastic();
@@ -83,21 +88,19 @@ public class GitExecutorImpl implements GitExecutor {
                 // Not present or not a Git repository
                 createNewRepository(repoPath);
             }
-            // Just need to open a repository here and make a commit
-            Git git = Git.open(repoPath.toFile());
-            // Stage all the files
-            git.add().addFilepattern(".").call();
-
-            // Commit the changes
-            git.commit()
-                    .setMessage(commitMessage)
-                    // Only make a commit if there are any updates
-                    .setAllowEmpty(false)
-                    .setAuthor(authorName, authorEmail)
-                    .call();
-            // Close the repo once the operation is successful
-            git.close();
-            return "Committed successfully!";
+            return gitRepositoryCache.withGit(repoPath, git -> {
+                // Stage all the files
+                git.add().addFilepattern(".").call();
+
+                // Commit the changes
+                git.commit()
+                        .setMessage(commitMessage)
+                        // Only make a commit if there are any updates
+                        .setAllowEmpty(false)
+                        .setAuthor(authorName, authorEmail)
+                        .call();
+                return "Committed successfully!";
+            });
         }).subscribeOn(scheduler);
 
     }
@@ -111,7 +114,7 @@ public class GitExecutorImpl implements GitExecutor {
     public boolean createNewRepository(Path repoPath) throws GitAPIException {
         // create new repo to the mentioned path
         log.debug("Trying to create new repository: {}", repoPath);
-        Git.init().setDirectory(repoPath.toFile()).call();
+        Git.init().setDirectory(repoPath.toFile()).call().close();
         return true;
     }
 
@@ -126,21 +129,21 @@ public class GitExecutorImpl implements GitExecutor {
             log.debug(Thread.currentThread().getName() + ": get commit history for  " + repoSuffix);
             List<GitLogDTO> commitLogs = new ArrayList<>();
             Path repoPath = createRepoPath(repoSuffix);
-            Git git = Git.open(repoPath.toFile());
-            Iterable<RevCommit> gitLogs = git.log().setMaxCount(Constraint.MAX_COMMIT_LOGS).call();
-            gitLogs.forEach(revCommit -> {
-                PersonIdent author = revCommit.getAuthorIdent();
-                GitLogDTO gitLog = new GitLogDTO(
-                        revCommit.getName(),
-                        author.getName(),
-                        author.getEmailAddress(),
-                        revCommit.getFullMessage(),
-                        ISO_FORMATTER.format(new Date(revCommit.getCommitTime() * 1000L).toInstant())
-                );
-                commitLogs.add(gitLog);
+            return gitRepositoryCache.withGit(repoPath, git -> {
+                Iterable<RevCommit> gitLogs = git.log().setMaxCount(Constraint.MAX_COMMIT_LOGS).call();
+                gitLogs.forEach(revCommit -> {
+                    PersonIdent author = revCommit.getAuthorIdent();
+                    GitLogDTO gitLog = new GitLogDTO(
+                            revCommit.getName(),
+                            author.getName(),
+                            author.getEmailAddress(),
+                            revCommit.getFullMessage(),
+                            ISO_FORMATTER.format(new Date(revCommit.getCommitTime() * 1000L).toInstant())
+                    );
+                    commitLogs.add(gitLog);
+                });
+                return commitLogs;
             });
-            git.close();
-            return commitLogs;
         }).subscribeOn(scheduler);
     }
 
@@ -168,23 +171,23 @@ public class GitExecutorImpl implements GitExecutor {
             log.debug(Thread.currentThread().getName() + ": pushing changes to remote " + remoteUrl);
             // open the repo
             Path baseRepoPath = createRepoPath(branchSuffix);
-            Git git = Git.open(baseRepoPath.toFile());
 
             TransportConfigCallback transportConfigCallback = new SshTransportConfigCallback(privateKey, publicKey);
 
             StringBuilder result = new StringBuilder("Pushed successfully with status : ");
-            git.push()
-                    .setTransportConfigCallback(transportConfigCallback)
-                    .setRemote(remoteUrl)
-                    .call()
-                    .forEach(pushResult ->
-                            pushResult.getRemoteUpdates()
-                                    .forEach(remoteRefUpdate -> result.append(remoteRefUpdate.getStatus().name()).append(","))
-                    );
-            // We can support username and password in future if needed
-            // pushCommand.setCredentialsProvider(new UsernamePasswordCredentialsProvider("username", "password"));
-            git.close();
-            return result.substring(0, result.length() - 1);
+            return gitRepositoryCache.withGit(baseRepoPath, git -> {
+                git.push()
+                        .setTransportConfigCallback(transportConfigCallback)
+                        .setRemote(remoteUrl)
+                        .call()
+                        .forEach(pushResult ->
+                                pushResult.getRemoteUpdates()
+                                        .forEach(remoteRefUpdate -> result.append(remoteRefUpdate.getStatus().name()).append(","))
+                        );
+                // We can support username and password in future if needed
+                // pushCommand.setCredentialsProvider(new UsernamePasswordCredentialsProvider("username", "password"));
+                return result.substring(0, result.length() - 1);
+            });
         }).subscribeOn(scheduler);
     }
 
@@ -206,18 +209,21 @@ public class GitExecutorImpl implements GitExecutor {
             log.debug(Thread.currentThread().getName() + ": Cloning the repo from the remote " + remoteUrl);
             final TransportConfigCallback transportConfigCallback = new SshTransportConfigCallback(privateKey, publicKey);
             File file = Paths.get(gitServiceConfig.getGitRootPath()).resolve(repoSuffix).toFile();
-            while (file.exists()) {
-                FileSystemUtils.deleteRecursively(file);
-            }
+            // Any handle open on a repository previously cloned here is closed before it's deleted
+            return gitRepositoryCache.withoutGit(file.toPath(), () -> {
+                while (file.exists()) {
+                    FileSystemUtils.deleteRecursively(file);
+                }
 
-            Git result = Git.cloneRepository()
-                    .setURI(remoteUrl)
-                    .setTransportConfigCallback(transportConfigCallback)
-                    .setDirectory(file)
-                    .call();
-            String branchName = result.getRepository().getBranch();
-            result.close();
-            return branchName;
+                Git result = Git.cloneRepository()
+                        .setURI(remoteUrl)
+                        .setTransportConfigCallback(transportConfigCallback)
+                        .setDirectory(file)
+                        .call();
+                String branchName = result.getRepository().getBranch();
+                result.close();
+                return branchName;
+            });
         }).subscribeOn(scheduler);
     }
 
@@ -229,22 +235,23 @@ public class GitExecutorImpl implements GitExecutor {
             log.debug(Thread.currentThread().getName() + ": Creating branch  " + branchName + "for the repo " + repoSuffix);
             // open the repo
             Path baseRepoPath = createRepoPath(repoSuffix);
-            Git git = Git.open(baseRepoPath.toFile());
-            // Create and checkout to new branch
-            git.checkout()
-                    .setCreateBranch(Boolean.TRUE)
-                    .setName(branchName)
-                    .setUpstreamMode(CreateBranchCommand.SetupUpstreamMode.TRACK)
-                    .call();
-
-            StoredConfig config = git.getRepository().getConfig();
-            config.setString("branch", branchName, "remote", "origin");
-            config.setString("branch", branchName, "merge", "refs/heads/" + branchName);
-            config.save();
-
-            // TODO immediately commit and push the created branch
-
-            return git.getRepository().getBranch();
+            return gitRepositoryCache.withGit(baseRepoPath, git -> {
+                // Create and checkout to new branch
+                git.checkout()
+                        .setCreateBranch(Boolean.TRUE)
+                        .setName(branchName)
+                        .setUpstreamMode(CreateBranchCommand.SetupUpstreamMode.TRACK)
+                        .call();
+
+                StoredConfig config = git.getRepository().getConfig();
+                config.setString("branch", branchName, "remote", "origin");
+                config.setString("branch", branchName, "merge", "refs/heads/" + branchName);
+                config.save();
+
+                // TODO immediately commit and push the created branch
+
+                return git.getRepository().getBranch();
+            });
         }).subscribeOn(scheduler);
     }
 
@@ -256,14 +263,15 @@ public class GitExecutorImpl implements GitExecutor {
             log.debug(Thread.currentThread().getName() + ": Deleting branch  " + branchName + "for the repo " + repoSuffix);
             // open the repo
             Path baseRepoPath = createRepoPath(repoSuffix);
-            Git git = Git.open(baseRepoPath.toFile());
-            // Create and checkout to new branch
-            git.branchDelete()
-                    .setBranchNames(branchName)
-                    .setForce(Boolean.TRUE)
-                    .call();
-
-            return Boolean.TRUE;
+            return gitRepositoryCache.withGit(baseRepoPath, git -> {
+                // Create and checkout to new branch
+                git.branchDelete()
+                        .setBranchNames(branchName)
+                        .setForce(Boolean.TRUE)
+                        .call();
+
+                return Boolean.TRUE;
+            });
         }).subscribeOn(scheduler);
     }
 
@@ -275,18 +283,19 @@ public class GitExecutorImpl implements GitExecutor {
             // We can safely assume that repo has been already initialised either in commit or clone flow and can directly
             // open the repo
             Path baseRepoPath = createRepoPath(repoSuffix);
-            Git git = Git.open(baseRepoPath.toFile());
-            if (StringUtils.equalsIgnoreCase(branchName, git.getRepository().getBranch())) {
-                return Boolean.TRUE;
-            }
-            // Create and checkout to new branch
-            String checkedOutBranch =  git.checkout()
-                    .setCreateBranch(Boolean.FALSE)
-                    .setName(branchName)
-                    .setUpstreamMode(CreateBranchCommand.SetupUpstreamMode.SET_UPSTREAM)
-                    .call()
-                    .getName();
-            return StringUtils.equalsIgnoreCase(checkedOutBranch, branchName);
+            return gitRepositoryCache.withGit(baseRepoPath, git -> {
+                if (StringUtils.equalsIgnoreCase(branchName, git.getRepository().getBranch())) {
+                    return Boolean.TRUE;
+                }
+                // Create and checkout to new branch
+                String checkedOutBranch =  git.checkout()
+                        .setCreateBranch(Boolean.FALSE)
+                        .setName(branchName)
+                        .setUpstreamMode(CreateBranchCommand.SetupUpstreamMode.SET_UPSTREAM)
+                        .call()
+                        .getName();
+                return StringUtils.equalsIgnoreCase(checkedOutBranch, branchName);
+            });
         }).subscribeOn(scheduler);
     }
 
@@ -299,32 +308,31 @@ public class GitExecutorImpl implements GitExecutor {
         TransportConfigCallback transportConfigCallback = new SshTransportConfigCallback(privateKey, publicKey);
         return Mono.fromCallable(() -> {
             log.debug(Thread.currentThread().getName() + ": Pull changes from remote  " + remoteUrl + " for the branch "+ branchName);
-            Git git = Git.open(repoPath.toFile());
-            //checkout the branch on which the merge command is run
-            git.checkout().setName(branchName).setCreateBranch(false).call();
-            try {
-                long count = Arrays.stream(git
-                        .pull()
-                        .setRemoteBranchName(branchName)
-                        .setTransportConfigCallback(transportConfigCallback)
-                        .setFastForward(MergeCommand.FastForwardMode.FF)
-                        .call()
-                        .getMergeResult()
-                        .getMergedCommits())
-                        .count();
-                git.close();
-                if (count > 0) {
-                    return count + " commits merged from origin/" + branchName;
+            return gitRepositoryCache.withGit(repoPath, git -> {
+                //checkout the branch on which the merge command is run
+                git.checkout().setName(branchName).setCreateBranch(false).call();
+                try {
+                    long count = Arrays.stream(git
+                            .pull()
+                            .setRemoteBranchName(branchName)
+                            .setTransportConfigCallback(transportConfigCallback)
+                            .setFastForward(MergeCommand.FastForwardMode.FF)
+                            .call()
+                            .getMergeResult()
+                            .getMergedCommits())
+                            .count();
+                    if (count > 0) {
+                        return count + " commits merged from origin/" + branchName;
+                    }
+                    return "Your branch is up-to-date with latest commits";
+                } catch (GitAPIException e) {
+                    //On merge conflicts abort the merge => git merge --abort
+                    git.getRepository().writeMergeCommitMsg(null);
+                    git.getRepository().writeMergeHeads(null);
+                    Git.wrap(git.getRepository()).reset().setMode(ResetCommand.ResetType.HARD).call();
+                    return e.getMessage();
                 }
-                return "Your branch is up-to-date with latest commits";
-            } catch (GitAPIException e) {
-                //On merge conflicts abort the merge => git merge --abort
-                git.getRepository().writeMergeCommitMsg(null);
-                git.getRepository().writeMergeHeads(null);
-                Git.wrap(git.getRepository()).reset().setMode(ResetCommand.ResetType.HARD).call();
-                git.close();
-                return e.getMessage();
-            }
+            });
         }).subscribeOn(scheduler);
     }
 
@@ -334,42 +342,42 @@ public class GitExecutorImpl implements GitExecutor {
         return Mono.fromCallable(() -> {
             log.debug(Thread.currentThread().getName() + ": Get branches for the application " + repoSuffix);
             TransportConfigCallback transportConfigCallback = new SshTransportConfigCallback(privateKey, publicKey);
-            Git git = Git.open(baseRepoPath.toFile());
-            List<Ref> refList;
-            if (listMode == null) {
-                // Only show local branches
-                refList = git.branchList().call();
-            } else {
-                // Show remote/all the branches depending upon the listMode
-                refList = git.branchList().setListMode(listMode).call();
-            }
-            List<GitBranchListDTO> branchList = new ArrayList<>();
-
-            if(refList.isEmpty()) {
-                GitBranchListDTO gitBranchListDTO = new GitBranchListDTO();
-                gitBranchListDTO.setBranchName(git.getRepository().getBranch());
-                gitBranchListDTO.setDefault(true);
-                branchList.add(gitBranchListDTO);
-            } else {
-                // Get default branch name from the remote
-                String defaultBranch = git.lsRemote().setRemote(remoteUrl).setTransportConfigCallback(transportConfigCallback).callAsMap().get("HEAD").getTarget().getName();
-                GitBranchListDTO gitBranchListDTO = new GitBranchListDTO();
-                gitBranchListDTO.setBranchName(defaultBranch.replace("refs/heads/",""));
-                gitBranchListDTO.setDefault(true);
-                branchList.add(gitBranchListDTO);
-
-                for(Ref ref : refList) {
-                    if(!ref.getName().equals(defaultBranch)) {
-                        gitBranchListDTO = new GitBranchListDTO();
-                        gitBranchListDTO.setBranchName(ref.getName()
-                                .replace("refs/heads/",""));
-                        gitBranchListDTO.setDefault(false);
-                        branchList.add(gitBranchListDTO);
+            return gitRepositoryCache.withGit(baseRepoPath, git -> {
+                List<Ref> refList;
+                if (listMode == null) {
+                    // Only show local branches
+                    refList = git.branchList().call();
+                } else {
+                    // Show remote/all the branches depending upon the listMode
+                    refList = git.branchList().setListMode(listMode).call();
+                }
+                List<GitBranchListDTO> branchList = new ArrayList<>();
+
+                if(refList.isEmpty()) {
+                    GitBranchListDTO gitBranchListDTO = new GitBranchListDTO();
+                    gitBranchListDTO.setBranchName(git.getRepository().getBranch());
+                    gitBranchListDTO.setDefault(true);
+                    branchList.add(gitBranchListDTO);
+                } else {
+                    // Get default branch name from the remote
+                    String defaultBranch = git.lsRemote().setRemote(remoteUrl).setTransportConfigCallback(transportConfigCallback).callAsMap().get("HEAD").getTarget().getName();
+                    GitBranchListDTO gitBranchListDTO = new GitBranchListDTO();
+                    gitBranchListDTO.setBranchName(defaultBranch.replace("refs/heads/",""));
+                    gitBranchListDTO.setDefault(true);
+                    branchList.add(gitBranchListDTO);
+
+                    for(Ref ref : refList) {
+                        if(!ref.getName().equals(defaultBranch)) {
+                            gitBranchListDTO = new GitBranchListDTO();
+                            gitBranchListDTO.setBranchName(ref.getName()
+                                    .replace("refs/heads/",""));
+                            gitBranchListDTO.setDefault(false);
+                            branchList.add(gitBranchListDTO);
+                        }
                     }
                 }
-            }
-            git.close();
-            return branchList;
+                return branchList;
+            });
         }).subscribeOn(scheduler);
     }
 
@@ -384,63 +392,59 @@ public class GitExecutorImpl implements GitExecutor {
     public Mono<Map<String, Object>> getStatus(Path repoPath, String branchName) {
         return Mono.fromCallable(() -> {
             log.debug(Thread.currentThread().getName() + ": Get status for repo  " + repoPath + ", branch " + branchName);
-            Git git = Git.open(repoPath.toFile());
-            Status status = git.status().call();
-            Map<String, Object> response = new HashMap<>();
-            Set<String> modifiedAssets = new HashSet<>();
-            modifiedAssets.addAll(status.getModified());
-            modifiedAssets.addAll(status.getAdded());
-            modifiedAssets.addAll(status.getRemoved());
-            modifiedAssets.addAll(status.getUncommittedChanges());
-            modifiedAssets.addAll(status.getUntracked());
-            response.put("modified", modifiedAssets);
-            response.put("conflicting", status.getConflicting());
-            response.put("isClean", status.isClean());
-
-            BranchTrackingStatus trackingStatus = BranchTrackingStatus.of(git.getRepository(), branchName);
-            if (trackingStatus != null) {
-                response.put("aheadCount", trackingStatus.getAheadCount());
-                response.put("behindCount", trackingStatus.getBehindCount());
-                response.put("remoteBranch", trackingStatus.getRemoteTrackingBranch());
-            } else {
-                log.debug("Remote tracking details not present for branch: {}, repo: {}", branchName, repoPath);
-                response.put("aheadCount", 0);
-                response.put("behindCount", 0);
-                response.put("remoteBranch", "untracked");
-            }
+            return gitRepositoryCache.withGit(repoPath, git -> {
+                Status status = git.status().call();
+                Map<String, Object> response = new HashMap<>();
+                Set<String> modifiedAssets = new HashSet<>();
+                modifiedAssets.addAll(status.getModified());
+                modifiedAssets.addAll(status.getAdded());
+                modifiedAssets.addAll(status.getRemoved());
+                modifiedAssets.addAll(status.getUncommittedChanges());
+                modifiedAssets.addAll(status.getUntracked());
+                response.put("modified", modifiedAssets);
+                response.put("conflicting", status.getConflicting());
+                response.put("isClean", status.isClean());
+
+                BranchTrackingStatus trackingStatus = BranchTrackingStatus.of(git.getRepository(), branchName);
+                if (trackingStatus != null) {
+                    response.put("aheadCount", trackingStatus.getAheadCount());
+                    response.put("behindCount", trackingStatus.getBehindCount());
+                    response.put("remoteBranch", trackingStatus.getRemoteTrackingBranch());
+                } else {
+                    log.debug("Remote tracking details not present for branch: {}, repo: {}", branchName, repoPath);
+                    response.put("aheadCount", 0);
+                    response.put("behindCount", 0);
+                    response.put("remoteBranch", "untracked");
+                }
 
-            // Remove modified changes from current branch so that checkout to other branches will be possible
-            if (!status.isClean()) {
-                return resetToLastCommit(git)
-                        .map(ref -> {
-                            git.close();
-                            return response;
-                        });
-            }
-            git.close();
-            return Mono.just(response);
-        }).flatMap(response -> response).subscribeOn(scheduler);
+                // Remove modified changes from current branch so that checkout to other branches will be possible
+                if (!status.isClean()) {
+                    resetToLastCommit(git);
+                }
+                return response;
+            });
+        }).subscribeOn(scheduler);
     }
 
     @Override
     public Mono<String> mergeBranch(Path repoPath, String sourceBranch, String destinationBranch) {
         return Mono.fromCallable(() -> {
             log.debug(Thread.currentThread().getName() + ": Merge branch  " + sourceBranch + " on " + destinationBranch);
-            Git git = Git.open(Paths.get(gitServiceConfig.getGitRootPath()).resolve(repoPath).toFile());
-            try {
-                //checkout the branch on which the merge command is run
-                git.checkout().setName(destinationBranch).setCreateBranch(false).call();
-
-                MergeResult mergeResult = git.merge().include(git.getRepository().findRef(sourceBranch)).call();
-                return mergeResult.getMergeStatus().name();
-            } catch (GitAPIException e) {
-                //On merge conflicts abort the merge => git merge --abort
-                git.getRepository().writeMergeCommitMsg(null);
-                git.getRepository().writeMergeHeads(null);
-                Git.wrap(git.getRepository()).reset().setMode(ResetCommand.ResetType.HARD).call();
-                git.close();
-                return e.getMessage();
-            }
+            return gitRepositoryCache.withGit(Paths.get(gitServiceConfig.getGitRootPath()).resolve(repoPath), git -> {
+                try {
+                    //checkout the branch on which the merge command is run
+                    git.checkout().setName(destinationBranch).setCreateBranch(false).call();
+
+                    MergeResult mergeResult = git.merge().include(git.getRepository().findRef(sourceBranch)).call();
+                    return mergeResult.getMergeStatus().name();
+                } catch (GitAPIException e) {
+                    //On merge conflicts abort the merge => git merge --abort
+                    git.getRepository().writeMergeCommitMsg(null);
+                    git.getRepository().writeMergeHeads(null);
+                    Git.wrap(git.getRepository()).reset().setMode(ResetCommand.ResetType.HARD).call();
+                    return e.getMessage();
+                }
+            });
         }).subscribeOn(scheduler);
     }
 
@@ -449,12 +453,13 @@ public class GitExecutorImpl implements GitExecutor {
         Path repoPath = Boolean.TRUE.equals(isRepoPath) ? repoSuffix : createRepoPath(repoSuffix);
         return Mono.fromCallable(() -> {
             TransportConfigCallback config = new SshTransportConfigCallback(privateKey, publicKey);
-            Git git = Git.open(repoPath.toFile());
-            log.debug(Thread.currentThread().getName() + ": fetch remote repo " + git.getRepository());
-            return git.fetch()
-                    .setTransportConfigCallback(config)
-                    .call()
-                    .getMessages();
+            return gitRepositoryCache.withGit(repoPath, git -> {
+                log.debug(Thread.currentThread().getName() + ": fetch remote repo " + git.getRepository());
+                return git.fetch()
+                        .setTransportConfigCallback(config)
+                        .call()
+                        .getMessages();
+            });
         })
         .onErrorResume(error -> {
             log.error(error.getMessage());
@@ -463,8 +468,8 @@ public class GitExecutorImpl implements GitExecutor {
         .subscribeOn(scheduler);
     }
 
-    private Mono<Ref> resetToLastCommit(Git git) throws GitAPIException {
-        return Mono.fromCallable(() -> git.reset().setMode(ResetCommand.ResetType.HARD).call()).subscribeOn(scheduler);
+    private Ref resetToLastCommit(Git git) throws GitAPIException {
+        return git.reset().setMode(ResetCommand.ResetType.HARD).call();
     }
 
     @Override
@@ -472,17 +477,18 @@ public class GitExecutorImpl implements GitExecutor {
         return Mono.fromCallable(() -> {
             log.debug(Thread.currentThread().getName() + ": Merge status for the branch  " + sourceBranch + " on " + destinationBranch);
 
-            Git git = Git.open(Paths.get(gitServiceConfig.getGitRootPath()).resolve(repoPath).toFile());
-            //checkout the branch on which the merge command is run
-            git.checkout().setName(destinationBranch).setCreateBranch(false).call();
+            MergeResult mergeResult = gitRepositoryCache.withGit(Paths.get(gitServiceConfig.getGitRootPath()).resolve(repoPath), git -> {
+                //checkout the branch on which the merge command is run
+                git.checkout().setName(destinationBranch).setCreateBranch(false).call();
 
-            MergeResult mergeResult = git.merge().include(git.getRepository().findRef(sourceBranch)).setStrategy(MergeStrategy.RECURSIVE).setCommit(false).call();
+                MergeResult result = git.merge().include(git.getRepository().findRef(sourceBranch)).setStrategy(MergeStrategy.RECURSIVE).setCommit(false).call();
 
-            //On merge conflicts abort the merge => git merge --abort
-            git.getRepository().writeMergeCommitMsg(null);
-            git.getRepository().writeMergeHeads(null);
-            Git.wrap(git.getRepository()).reset().setMode(ResetCommand.ResetType.HARD).call();
-            git.close();
+                //On merge conflicts abort the merge => git merge --abort
+                git.getRepository().writeMergeCommitMsg(null);
+                git.getRepository().writeMergeHeads(null);
+                Git.wrap(git.getRepository()).reset().setMode(ResetCommand.ResetType.HARD).call();
+                return result;
+            });
 
             MergeStatus mergeStatus = new MergeStatus();
             if(mergeResult.getMergeStatus().isSuccessful()) {
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
@@ -27,13 +28,14 @@ import reactor.core.Exceptions;
 import java.io.IOException;
 import java.io.StringReader;
 import java.text.DateFormat;
-import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.APPSMITH_SUBSTITUTION_PLACEHOLDER;
@@ -46,7 +48,64 @@ public class DataTypeStringUtils {
 
     private static Pattern questionPattern = Pattern.compile(regexForQuestionMark);
 
-    private static Pattern placeholderPattern = Pattern.compile(APPSMITH_SUBSTITUTION_PLACEHOLDER);
+    // Hexadecimal floating point literals, as accepted by Float.parseFloat
+    private static final Pattern hexFloatPattern = Pattern.compile(
+            "[+-]?0[xX](\\p{XDigit}+\\.?|\\p{XDigit}*\\.\\p{XDigit}+)[pP][+-]?\\p{Digit}+[fFdD]?");
+
+    // Character classes of the decimal floating point literal grammar
+    private static final int FLOAT_DIGIT = 0;
+    private static final int FLOAT_SIGN = 1;
+    private static final int FLOAT_DOT = 2;
+    private static final int FLOAT_EXPONENT = 3;
+    private static final int FLOAT_SUFFIX = 4;
+    private static final int FLOAT_OTHER = 5;
+
+    private static final int[] FLOAT_CHAR_CLASSES = new int[128];
+
+    static {
+        Arrays.fill(FLOAT_CHAR_CLASSES, FLOAT_OTHER);
+        for (char c = '0'; c <= '9'; ++c) {
+            FLOAT_CHAR_CLASSES[c] = FLOAT_DIGIT;
+        }
+        FLOAT_CHAR_CLASSES['+'] = FLOAT_SIGN;
+        FLOAT_CHAR_CLASSES['-'] = FLOAT_SIGN;
+        FLOAT_CHAR_CLASSES['.'] = FLOAT_DOT;
+        FLOAT_CHAR_CLASSES['e'] = FLOAT_EXPONENT;
+        FLOAT_CHAR_CLASSES['E'] = FLOAT_EXPONENT;
+        FLOAT_CHAR_CLASSES['f'] = FLOAT_SUFFIX;
+        FLOAT_CHAR_CLASSES['F'] = FLOAT_SUFFIX;
+        FLOAT_CHAR_CLASSES['d'] = FLOAT_SUFFIX;
+        FLOAT_CHAR_CLASSES['D'] = FLOAT_SUFFIX;
+    }
+
+    // States of the decimal floating point literal grammar
+    private static final int FLOAT_REJECT = -1;
+    private static final int FLOAT_START = 0;
+    private static final int FLOAT_SIGNED = 1;
+    private static final int FLOAT_INTEGER_DIGITS = 2;
+    private static final int FLOAT_LEADING_DOT = 3;
+    private static final int FLOAT_FRACTION = 4;
+    private static final int FLOAT_EXPONENT_MARK = 5;
+    private static final int FLOAT_EXPONENT_SIGN = 6;
+    private static final int FLOAT_EXPONENT_DIGITS = 7;
+    private static final int FLOAT_TYPE_SUFFIX = 8;
+
+    // Next state for each state (row) and character class (column: digit, sign, dot, exponent, suffix, other)
+    private static final int[][] FLOAT_TRANSITIONS = {
+            /* START */ {FLOAT_INTEGER_DIGITS, FLOAT_SIGNED, FLOAT_LEADING_DOT, FLOAT_REJECT, FLOAT_REJECT, FLOAT_REJECT},
+            /* SIGNED */ {FLOAT_INTEGER_DIGITS, FLOAT_REJECT, FLOAT_LEADING_DOT, FLOAT_REJECT, FLOAT_REJECT, FLOAT_REJECT},
+            /* INTEGER_DIGITS */ {FLOAT_INTEGER_DIGITS, FLOAT_REJECT, FLOAT_FRACTION, FLOAT_EXPONENT_MARK, FLOAT_TYPE_SUFFIX, FLOAT_REJECT},
+            /* LEADING_DOT */ {FLOAT_FRACTION, FLOAT_REJECT, FLOAT_REJECT, FLOAT_REJECT, FLOAT_REJECT, FLOAT_REJECT},
+            /* FRACTION */ {FLOAT_FRACTION, FLOAT_REJECT, FLOAT_REJECT, FLOAT_EXPONENT_MARK, FLOAT_TYPE_SUFFIX, FLOAT_REJECT},
+            /* EXPONENT_MARK */ {FLOAT_EXPONENT_DIGITS, FLOAT_EXPONENT_SIGN, FLOAT_REJECT, FLOAT_REJECT, FLOAT_REJECT, FLOAT_REJECT},
+            /* EXPONENT_SIGN */ {FLOAT_EXPONENT_DIGITS, FLOAT_REJECT, FLOAT_REJECT, FLOAT_REJECT, FLOAT_REJECT, FLOAT_REJECT},
+            /* EXPONENT_DIGITS */ {FLOAT_EXPONENT_DIGITS, FLOAT_REJECT, FLOAT_REJECT, FLOAT_REJECT, FLOAT_TYPE_SUFFIX, FLOAT_REJECT},
+            /* TYPE_SUFFIX */ {FLOAT_REJECT, FLOAT_REJECT, FLOAT_REJECT, FLOAT_REJECT, FLOAT_REJECT, FLOAT_REJECT},
+    };
+
+    private static final boolean[] FLOAT_ACCEPTING = {
+            false, false, true, false, true, false, false, true, true
+    };
 
     private static ObjectMapper objectMapper = new ObjectMapper();
 
@@ -66,12 +125,11 @@ public class DataTypeStringUtils {
         public boolean isValid(String dateStr) {
             DateFormat sdf = new SimpleDateFormat(this.dateFormat);
             sdf.setLenient(false);
-            try {
-                sdf.parse(dateStr);
-            } catch (ParseException e) {
-                return false;
-            }
-            return true;
+            // Same as `sdf.parse(dateStr)` succeeding, which only needs a prefix of the string to be parsed, but
+            // without throwing an exception for every string that isn't a date.
+            ParsePosition position = new ParsePosition(0);
+            sdf.parse(dateStr, position);
+            return position.getIndex() != 0;
         }
     }
 
@@ -94,42 +152,27 @@ public class DataTypeStringUtils {
             return DataType.ARRAY;
         }
 
-        try {
-            Integer.parseInt(input);
-            return DataType.INTEGER;
-        } catch (NumberFormatException e) {
-            // Not an integer
-        }
-
-        try {
-            Long.parseLong(input);
-            return DataType.LONG;
-        } catch (NumberFormatException e1) {
-            // Not long
+        DataType integerType = integerType(input);
+        if (integerType != null) {
+            return integerType;
         }
 
-        try {
-            Float.parseFloat(input);
+        // Float.parseFloat and Double.parseDouble accept the same strings, so anything that isn't a float isn't a
+        // double either.
+        if (isFloatingPointLiteral(input)) {
             return DataType.FLOAT;
-        } catch (NumberFormatException e2) {
-            // Not float
         }
 
-        try {
-            Double.parseDouble(input);
-            return DataType.DOUBLE;
-        } catch (NumberFormatException e3) {
-            // Not double
-        }
-
-        // Creating a copy of the input in lower case form to do simple string equality to check for boolean/null types.
-        String copyInput = String.valueOf(input).toLowerCase().trim();
-        if (copyInput.equals("true") || copyInput.equals("false")) {
-            return DataType.BOOLEAN;
-        }
+        // Only strings of the length of `true`, `false` and `null` are lower cased to check for boolean/null types.
+        if (input.length() == 4 || input.length() == 5) {
+            String copyInput = input.toLowerCase();
+            if (copyInput.equals("true") || copyInput.equals("false")) {
+                return DataType.BOOLEAN;
+            }
 
-        if (copyInput.equals("null")) {
-            return DataType.NULL;
+            if (copyInput.equals("null")) {
+                return DataType.NULL;
+            }
         }
 
         DateValidator timestampValidator = new DateValidatorUsingDateFormat("yyyy-MM-dd HH:mm:ss");
@@ -147,12 +190,19 @@ public class DataTypeStringUtils {
             return DataType.TIME;
         }
 
-        try (JsonReader reader = new JsonReader(new StringReader(input))) {
-            strictGsonObjectAdapter.read(reader);
-            reader.hasNext(); // throws on multiple top level values
-            return DataType.JSON_OBJECT;
-        } catch (IOException | JsonSyntaxException e) {
-            // Not a strict JSON object
+        // Neither a strict JSON object nor a BSON document can start with anything but a brace
+        if (!startsWithBrace(input)) {
+            return DataType.STRING;
+        }
+
+        if (input.charAt(0) == '{') {
+            try (JsonReader reader = new JsonReader(new StringReader(input))) {
+                strictGsonObjectAdapter.read(reader);
+                reader.hasNext(); // throws on multiple top level values
+                return DataType.JSON_OBJECT;
+            } catch (IOException | JsonSyntaxException e) {
+                // Not a strict JSON object
+            }
         }
 
         try {
@@ -186,15 +236,124 @@ public class DataTypeStringUtils {
         return DataType.STRING;
     }
 
+    /**
+     * @return INTEGER or LONG if Integer.parseInt or Long.parseLong would parse the input, and null otherwise. Like
+     * them, a sign and any Unicode decimal digits are accepted.
+     */
+    private static DataType integerType(String input) {
+        final int length = input.length();
+        int i = 0;
+        boolean negative = false;
+
+        if (length > 0 && (input.charAt(0) == '-' || input.charAt(0) == '+')) {
+            negative = input.charAt(0) == '-';
+            i = 1;
+        }
+        if (i == length) {
+            return null;
+        }
+
+        // Accumulated negatively, like Long.parseLong does, so that Long.MIN_VALUE can be represented.
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; i < length; ++i) {
+            final int digit = Character.digit(input.charAt(i), 10);
+            if (digit < 0 || result < multiplyLimit) {
+                return null;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return null;
+            }
+            result -= digit;
+        }
+
+        final long value = negative ? result : -result;
+        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? DataType.INTEGER : DataType.LONG;
+    }
+
+    /**
+     * @return Whether Float.parseFloat would parse the (trimmed) input. Decimal literals are checked by walking the
+     * transition table of their grammar, `[+-]? (Digits . Digits? | . Digits | Digits) ([eE] [+-]? Digits)? [fFdD]?`.
+     */
+    private static boolean isFloatingPointLiteral(String input) {
+        final int length = input.length();
+        if (length == 0) {
+            return false;
+        }
+
+        final int signLength = input.charAt(0) == '-' || input.charAt(0) == '+' ? 1 : 0;
+        if (input.startsWith("NaN", signLength) || input.startsWith("Infinity", signLength)) {
+            return input.length() == signLength + (input.charAt(signLength) == 'N' ? 3 : 8);
+        }
+        if (input.startsWith("0x", signLength) || input.startsWith("0X", signLength)) {
+            return hexFloatPattern.matcher(input).matches();
+        }
+
+        int state = FLOAT_START;
+        for (int i = 0; i < length && state != FLOAT_REJECT; ++i) {
+            final char c = input.charAt(i);
+            state = FLOAT_TRANSITIONS[state][c < FLOAT_CHAR_CLASSES.length ? FLOAT_CHAR_CLASSES[c] : FLOAT_OTHER];
+        }
+
+        return state != FLOAT_REJECT && FLOAT_ACCEPTING[state];
+    }
+
+    private static boolean startsWithBrace(String input) {
+        // The BSON parser skips all of the whitespace that Character.isWhitespace knows of, not just what trim() removes.
+        for (int i = 0; i < input.length(); ++i) {
+            final char c = input.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '{';
+            }
+        }
+        return false;
+    }
+
     public static String jsonSmartReplacementPlaceholderWithValue(String input,
                                                                   String replacement,
                                                                   List<Map.Entry<String, String>> insertedParams) {
+        return jsonSmartReplacementPlaceholdersWithValues(input, Collections.singletonList(replacement), insertedParams);
+    }
 
-        DataType dataType = DataTypeStringUtils.stringToKnownDataTypeConverter(replacement);
+    /**
+     * Replaces the placeholders in the input with the given values, in order, each converted to JSON according to its
+     * data type. The output is built in a single pass over the input, instead of searching the input from the start
+     * again for every value.
+     *
+     * @param input          JSON with a placeholder in place of each binding
+     * @param replacements   Evaluated values of the bindings, in the order of the placeholders
+     * @param insertedParams Gets each value added to it along with its data type
+     * @return The input with the placeholders replaced
+     */
+    public static String jsonSmartReplacementPlaceholdersWithValues(String input,
+                                                                    List<String> replacements,
+                                                                    List<Map.Entry<String, String>> insertedParams) {
+        final StringBuilder output = new StringBuilder(input.length());
+        int from = 0;
+
+        for (String replacement : replacements) {
+            DataType dataType = DataTypeStringUtils.stringToKnownDataTypeConverter(replacement);
+
+            Map.Entry<String, String> parameter = new SimpleEntry<>(replacement, dataType.toString());
+            insertedParams.add(parameter);
+
+            // Converted even when no placeholder is left for it, so that invalid values still fail the substitution
+            final String value = toJsonValue(replacement, dataType);
+
+            final int placeholderIndex = input.indexOf(APPSMITH_SUBSTITUTION_PLACEHOLDER, from);
+            if (placeholderIndex < 0) {
+                continue;
+            }
+            output.append(input, from, placeholderIndex).append(value);
+            from = placeholderIndex + APPSMITH_SUBSTITUTION_PLACEHOLDER.length();
+        }
 
-        Map.Entry<String, String> parameter = new SimpleEntry<>(replacement, dataType.toString());
-        insertedParams.add(parameter);
+        return output.append(input, from, input.length()).toString();
+    }
 
+    private static String toJsonValue(String replacement, DataType dataType) {
         switch (dataType) {
             case INTEGER:
             case LONG:
@@ -202,12 +361,11 @@ public class DataTypeStringUtils {
             case DOUBLE:
             case NULL:
             case BOOLEAN:
-                input = placeholderPattern.matcher(input).replaceFirst(String.valueOf(replacement));
-                break;
+                return String.valueOf(replacement);
             case ARRAY:
                 try {
                     JSONArray jsonArray = (JSONArray) parser.parse(replacement);
-                    input = placeholderPattern.matcher(input).replaceFirst(String.valueOf(objectMapper.writeValueAsString(jsonArray)));
+                    return objectMapper.writeValueAsString(jsonArray);
                 } catch (net.minidev.json.parser.ParseException | JsonProcessingException e) {
                     throw Exceptions.propagate(
                             new AppsmithPluginException(
@@ -217,13 +375,10 @@ public class DataTypeStringUtils {
                             )
                     );
                 }
-                break;
             case JSON_OBJECT:
                 try {
                     JSONObject jsonObject = (JSONObject) parser.parse(replacement);
-                    String jsonString = String.valueOf(objectMapper.writeValueAsString(jsonObject));
-                    // Adding Matcher.quoteReplacement so that "/" and "$" in the string are escaped during replacement
-                    input = placeholderPattern.matcher(input).replaceFirst(Matcher.quoteReplacement(jsonString));
+                    return objectMapper.writeValueAsString(jsonObject);
                 } catch (net.minidev.json.parser.ParseException | JsonProcessingException e) {
                     throw Exceptions.propagate(
                             new AppsmithPluginException(
@@ -233,10 +388,8 @@ public class DataTypeStringUtils {
                             )
                     );
                 }
-                break;
             case BSON:
-                input = placeholderPattern.matcher(input).replaceFirst(Matcher.quoteReplacement(replacement));
-                break;
+                return replacement;
             case DATE:
             case TIME:
             case ASCII:
@@ -246,8 +399,7 @@ public class DataTypeStringUtils {
             default:
                 try {
                     replacement = escapeSpecialCharacters(replacement);
-                    String valueAsString = objectMapper.writeValueAsString(replacement);
-                    input = placeholderPattern.matcher(input).replaceFirst(Matcher.quoteReplacement(valueAsString));
+                    return objectMapper.writeValueAsString(replacement);
                 } catch (JsonProcessingException e) {
                     throw Exceptions.propagate(
                             new AppsmithPluginException(
@@ -258,8 +410,6 @@ public class DataTypeStringUtils {
                     );
                 }
         }
-
-        return input;
     }
 
     private static String escapeSpecialCharacters(String raw) {
@@ -297,6 +447,21 @@ public class DataTypeStringUtils {
                             .allMatch(e -> ((Map.Entry)e).getValue() == null ||
                             isPrimitiveOrWrapper(((Map.Entry)e).getValue().getClass())));
         }
+        else if (data instanceof ArrayNode) {
+            // Check if the data is an array of simple json objects. The array is walked in place, since converting it
+            // into a list of maps (like below) would create a copy of the entire result.
+            for (JsonNode item : (ArrayNode) data) {
+                if (!item.isObject()) {
+                    return false;
+                }
+                for (JsonNode value : item) {
+                    if (!value.isValueNode() || value.isPojo()) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
         else if (data instanceof JsonNode) {
             // Check if the data is an array of simple json objects
             try {
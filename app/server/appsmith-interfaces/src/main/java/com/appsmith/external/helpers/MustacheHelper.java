@@ -2,14 +2,21 @@ package com.appsmith.external.helpers;
 
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.DynamicBinding;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.text.StringEscapeUtils;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -57,6 +64,15 @@ public class MustacheHelper {
     private static String laxMustacheBindingRegex = "\\{\\{([\\s\\S]*?)\\}\\}";
     private static Pattern laxMustacheBindingPattern = Pattern.compile(laxMustacheBindingRegex);
 
+    // Templates are compiled on their first render. The number of templates kept is bounded, so that the templates
+    // which aren't rendered anymore, e.g. those of an action before it was edited, are dropped first.
+    private static final int MAX_COMPILED_TEMPLATES = 10000;
+    private static final Cache<String, CompiledTemplate> compiledTemplates = CacheBuilder.newBuilder()
+            .maximumSize(MAX_COMPILED_TEMPLATES)
+            .build();
+
+    private static final Map<Class<?>, List<BeanProperty>> beanProperties = new ConcurrentReferenceHashMap<>();
+
 
     /**
      * Tokenize a Mustache template string into a list of plain text and Mustache interpolations.
@@ -275,6 +291,9 @@ public class MustacheHelper {
      * - If object is map type, then iterate over each value in the map and render field value for them.
      * - If the object is string type (base case), then do the binding substitution if applicable.
      * - If the object falls under none of the above conditions then return the object without doing anything.
+     *
+     * Lists and maps are only replaced, with an ArrayList or a HashMap, when one of their values renders to a different
+     * object. Otherwise they are returned as they are.
      */
     public static <T> T renderFieldValues(T object, Map<String, String> context) {
         if (object == null) {
@@ -283,38 +302,47 @@ public class MustacheHelper {
 
         if (isDomainModel(object.getClass())) {
             try {
-                final BeanWrapper sourceBeanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(object);
-                for (PropertyDescriptor propertyDescriptor : sourceBeanWrapper.getPropertyDescriptors()) {
-                    // For properties like `class` that don't have a set method, just ignore them.
-                    if (propertyDescriptor.getWriteMethod() == null) {
-                        continue;
+                for (BeanProperty property : getBeanProperties(object.getClass())) {
+                    final Object value = property.readMethod.invoke(object);
+                    final Object renderedValue = renderFieldValues(value, context);
+                    if (renderedValue != value) {
+                        property.write(object, renderedValue);
                     }
-
-                    String name = propertyDescriptor.getName();
-                    Object value = sourceBeanWrapper.getPropertyValue(name);
-                    sourceBeanWrapper.setPropertyValue(name, renderFieldValues(value, context));
                 }
-            } catch (BeansException e) {
+            } catch (ReflectiveOperationException | BeansException e) {
                 log.error("Exception caught while substituting values in mustache template.", e);
             }
         } else if (object instanceof List) {
-            List renderedList = new ArrayList();
+            List renderedList = null;
+            int index = 0;
             for (Object childValue : (List) object) {
-                renderedList.add(renderFieldValues(childValue, context));
+                final Object renderedValue = renderFieldValues(childValue, context);
+                if (renderedList == null && renderedValue != childValue) {
+                    // This is the first value that changed, so copy over the values before it
+                    renderedList = new ArrayList(((List) object).subList(0, index));
+                }
+                if (renderedList != null) {
+                    renderedList.add(renderedValue);
+                }
+                ++index;
             }
 
-            return (T) renderedList;
+            return renderedList == null ? object : (T) renderedList;
 
         } else if (object instanceof Map) {
-            Map renderedMap = new HashMap();
+            Map renderedMap = null;
             for (Object entry : ((Map) object).entrySet()) {
-                renderedMap.put(
-                        ((Map.Entry) entry).getKey(), // key
-                        renderFieldValues(((Map.Entry) entry).getValue(), context) // value
-                );
+                final Object value = ((Map.Entry) entry).getValue();
+                final Object renderedValue = renderFieldValues(value, context);
+                if (renderedMap == null && renderedValue != value) {
+                    renderedMap = new HashMap((Map) object);
+                }
+                if (renderedMap != null) {
+                    renderedMap.put(((Map.Entry) entry).getKey(), renderedValue);
+                }
             }
 
-            return (T) renderedMap;
+            return renderedMap == null ? object : (T) renderedMap;
 
         } else if (object instanceof String) {
             return (T) render((String) object, context);
@@ -326,20 +354,105 @@ public class MustacheHelper {
     /**
      * @param template    : This is the string which contains {{key}} which would be replaced with value
      * @param keyValueMap : This is the map of keys with values.
-     * @return It finally returns the string in which all the keys in template have been replaced with values.
+     * @return It finally returns the string in which all the keys in template have been replaced with values. The same
+     * string is returned if there's nothing to replace or unescape in it.
      */
     public static String render(String template, Map<String, String> keyValueMap) {
-        final StringBuilder rendered = new StringBuilder();
+        if (StringUtils.isEmpty(template)) {
+            return "";
+        }
 
-        for (String token : tokenize(template)) {
-            if (token.startsWith("{{") && token.endsWith("}}")) {
-                rendered.append(keyValueMap.get(token.substring(2, token.length() - 2).trim()));
+        if (template.indexOf("{{") < 0) {
+            return unescapeHtml4(template);
+        }
+
+        return unescapeHtml4(compiledTemplates.asMap().computeIfAbsent(template, CompiledTemplate::new).render(keyValueMap));
+    }
+
+    /**
+     * HTML entities all start with an `&`, so strings without one are returned as they are, without copying them.
+     */
+    private static String unescapeHtml4(String input) {
+        return input.indexOf('&') < 0 ? input : StringEscapeUtils.unescapeHtml4(input);
+    }
+
+    /**
+     * A template split into its tokens once, so that rendering it again only looks up the values of its bindings. The
+     * configurations of an action are rendered with the same templates on every execution, until the action changes.
+     */
+    private static final class CompiledTemplate {
+        private final String[] tokens;
+
+        // The trimmed key of each token which is a mustache binding, and null for each token which is plain text.
+        private final String[] keys;
+
+        private CompiledTemplate(String template) {
+            final List<String> tokenList = tokenize(template);
+            tokens = tokenList.toArray(new String[0]);
+            keys = new String[tokens.length];
+            for (int i = 0; i < tokens.length; ++i) {
+                final String token = tokens[i];
+                if (token.startsWith("{{") && token.endsWith("}}")) {
+                    keys[i] = token.substring(2, token.length() - 2).trim();
+                }
+            }
+        }
+
+        private String render(Map<String, String> keyValueMap) {
+            final StringBuilder rendered = new StringBuilder();
+
+            for (int i = 0; i < tokens.length; ++i) {
+                if (keys[i] != null) {
+                    rendered.append(keyValueMap.get(keys[i]));
+                } else {
+                    rendered.append(tokens[i]);
+                }
+            }
+
+            return rendered.toString();
+        }
+    }
+
+    /**
+     * A property of a domain model that can be written to, with the accessors looked up once per class.
+     */
+    private static final class BeanProperty {
+        private final String name;
+        private final Class<?> type;
+        private final Method readMethod;
+        private final Method writeMethod;
+
+        private BeanProperty(PropertyDescriptor propertyDescriptor) {
+            name = propertyDescriptor.getName();
+            type = ClassUtils.resolvePrimitiveIfNecessary(propertyDescriptor.getPropertyType());
+            readMethod = propertyDescriptor.getReadMethod();
+            writeMethod = propertyDescriptor.getWriteMethod();
+            ReflectionUtils.makeAccessible(readMethod);
+            ReflectionUtils.makeAccessible(writeMethod);
+        }
+
+        private void write(Object object, Object value) throws ReflectiveOperationException {
+            if (value == null || type.isInstance(value)) {
+                writeMethod.invoke(object, value);
             } else {
-                rendered.append(token);
+                // The value needs a conversion, e.g. a rendered HashMap for a property of a more specific map type
+                PropertyAccessorFactory.forBeanPropertyAccess(object).setPropertyValue(name, value);
             }
         }
+    }
 
-        return StringEscapeUtils.unescapeHtml4(rendered.toString());
+    private static List<BeanProperty> getBeanProperties(Class<?> type) {
+        return beanProperties.computeIfAbsent(type, beanType -> {
+            final List<BeanProperty> properties = new ArrayList<>();
+            for (PropertyDescriptor propertyDescriptor : BeanUtils.getPropertyDescriptors(beanType)) {
+                // For properties like `class` that don't have a set method, just ignore them.
+                if (propertyDescriptor.getWriteMethod() == null || propertyDescriptor.getReadMethod() == null) {
+                    continue;
+                }
+                properties.add(new BeanProperty(propertyDescriptor));
+            }
+            return properties;
+        });
     }
 
     public static void extractActionNamesAndAddValidActionBindingsToSet(Map<String, DynamicBinding> bindingNames, String mustacheKey) {
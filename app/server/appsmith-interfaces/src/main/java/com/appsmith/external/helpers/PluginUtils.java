@@ -2,6 +2,7 @@ package com.appsmith.external.helpers;
 
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -76,6 +77,38 @@ public class PluginUtils {
         return "$" + i;
     }
 
+    /**
+     * Returns the value of the first property with the given key, or null if no such property has been configured.
+     * Useful for optional datasource properties that are configured via `FIXED_KEY_INPUT` controls and hence are not
+     * guaranteed to be present at a fixed index.
+     */
+    public static Object getValueSafelyFromPropertyList(List<Property> properties, String key) {
+        if (CollectionUtils.isEmpty(properties)) {
+            return null;
+        }
+
+        for (Property property : properties) {
+            if (property != null && key.equals(property.getKey())) {
+                return property.getValue();
+            }
+        }
+
+        return null;
+    }
+
+    public static int getIntegerValueSafelyFromPropertyList(List<Property> properties, String key, int defaultValue) {
+        Object value = getValueSafelyFromPropertyList(properties, key);
+        if (value == null || StringUtils.isEmpty(String.valueOf(value).trim())) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(String.valueOf(value).trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
     public static Boolean validConfigurationPresentInFormData(Map<String, Object> formData, String field) {
         return getValueSafelyFromFormData(formData, field) != null;
     }
@@ -0,0 +1,150 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Keeps a running estimate of the size of a response as it is being built, e.g. row by row while reading a result
+ * set. Every value added is measured once, so checking the size of a response with n rows is O(n) rather than
+ * re-measuring everything read so far every few rows.
+ * <p>
+ * The estimate approximates the number of bytes the value takes up when serialized to JSON, which is what is
+ * eventually sent to the client.
+ */
+public class ResponseSizeAccountant {
+
+    // Length of `null`, `true` and `false` as JSON literals
+    private static final int NULL_SIZE = 4;
+    private static final int TRUE_SIZE = 4;
+    private static final int FALSE_SIZE = 5;
+
+    // Quotes around a string
+    private static final int STRING_OVERHEAD = 2;
+
+    // Brackets around an array or an object
+    private static final int CONTAINER_OVERHEAD = 2;
+
+    // Separating comma between two elements, or the colon between a key and its value
+    private static final int SEPARATOR_SIZE = 1;
+
+    private final long maxSize;
+
+    private long size = 0;
+
+    public ResponseSizeAccountant(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds the estimated size of the given value to the running total.
+     *
+     * @param value Value being added to the response
+     * @return The estimated size of the response so far, in bytes
+     */
+    public long add(Object value) {
+        size += estimateSize(value) + SEPARATOR_SIZE;
+        return size;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public boolean isLimitExceeded() {
+        return size > maxSize;
+    }
+
+    /**
+     * Estimates the size of the given value when serialized to JSON. Maps, collections, arrays and JSON trees are
+     * walked recursively, any other object is measured by its string representation.
+     */
+    public static long estimateSize(Object value) {
+        if (value == null) {
+            return NULL_SIZE;
+        }
+
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() + STRING_OVERHEAD;
+        }
+
+        if (value instanceof Boolean) {
+            return (Boolean) value ? TRUE_SIZE : FALSE_SIZE;
+        }
+
+        if (value instanceof Number) {
+            return value.toString().length();
+        }
+
+        if (value instanceof JsonNode) {
+            return estimateJsonNodeSize((JsonNode) value);
+        }
+
+        if (value instanceof Map) {
+            long mapSize = CONTAINER_OVERHEAD;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                mapSize += estimateSize(String.valueOf(entry.getKey())) + SEPARATOR_SIZE
+                        + estimateSize(entry.getValue()) + SEPARATOR_SIZE;
+            }
+            return mapSize;
+        }
+
+        if (value instanceof Collection) {
+            long collectionSize = CONTAINER_OVERHEAD;
+            for (Object item : (Collection<?>) value) {
+                collectionSize += estimateSize(item) + SEPARATOR_SIZE;
+            }
+            return collectionSize;
+        }
+
+        if (value.getClass().isArray()) {
+            final int length = Array.getLength(value);
+            long arraySize = CONTAINER_OVERHEAD;
+            for (int i = 0; i < length; i++) {
+                arraySize += estimateSize(Array.get(value, i)) + SEPARATOR_SIZE;
+            }
+            return arraySize;
+        }
+
+        return value.toString().length() + STRING_OVERHEAD;
+    }
+
+    private static long estimateJsonNodeSize(JsonNode node) {
+        if (node.isObject()) {
+            long objectSize = CONTAINER_OVERHEAD;
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                objectSize += field.getKey().length() + STRING_OVERHEAD + SEPARATOR_SIZE
+                        + estimateJsonNodeSize(field.getValue()) + SEPARATOR_SIZE;
+            }
+            return objectSize;
+        }
+
+        if (node.isArray()) {
+            long arraySize = CONTAINER_OVERHEAD;
+            for (JsonNode element : node) {
+                arraySize += estimateJsonNodeSize(element) + SEPARATOR_SIZE;
+            }
+            return arraySize;
+        }
+
+        if (node.isTextual()) {
+            return node.textValue().length() + STRING_OVERHEAD;
+        }
+
+        if (node.isNull() || node.isMissingNode()) {
+            return NULL_SIZE;
+        }
+
+        if (node.isPojo()) {
+            return estimateSize(((POJONode) node).getPojo());
+        }
+
+        return node.asText().length();
+    }
+}
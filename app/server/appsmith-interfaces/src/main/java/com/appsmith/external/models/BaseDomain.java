@@ -56,6 +56,12 @@ public abstract class BaseDomain implements Persistable<String>, AppsmithDomain
     @JsonIgnore
     protected Set<Policy> policies = new HashSet<>();
 
+    // Flattened copy of the users and groups in `policies`, with the permission each of them has. This is kept in sync
+    // with `policies` on every save, and is what permissions are checked against when querying, since unlike
+    // `policies` it can be indexed with a single multikey index.
+    @JsonIgnore
+    protected Set<String> permissionKeys;
+
     @Override
     public boolean isNew() {
         return this.getId() == null;
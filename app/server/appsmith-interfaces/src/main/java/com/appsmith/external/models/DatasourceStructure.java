@@ -2,12 +2,14 @@ package com.appsmith.external.models;
 
 import com.appsmith.external.exceptions.BaseException;
 import com.appsmith.external.exceptions.ErrorDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.gson.InstanceCreator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.lang.reflect.Type;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -18,6 +20,11 @@ public class DatasourceStructure {
 
     List<Table> tables;
 
+    // When this structure was fetched from the datasource. Set by the server when caching the structure, to decide
+    // when it's due for a refresh.
+    @JsonIgnore
+    Instant refreshedAt;
+
     public DatasourceStructure(List<Table> tables) {
         this.tables = tables;
     }
@@ -0,0 +1,26 @@
+package com.appsmith.external.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SortCondition {
+
+    String path;
+
+    Direction direction;
+
+    public enum Direction {
+        ASC, DESC
+    }
+
+    public SortCondition(String path, String direction) {
+        this.path = path;
+        this.direction = Direction.valueOf(direction);
+    }
+}
@@ -53,6 +53,18 @@ public interface PluginExecutor<C> extends ExtensionPoint {
      */
     void datasourceDestroy(C connection);
 
+    /**
+     * This function returns the maximum number of connections to the data source that the connection object may hold
+     * open at the same time. The server uses it to keep the connections held by all the cached connection objects
+     * within a budget. Plugins that pool connections should return the maximum size of the pool.
+     *
+     * @param connection
+     * @return Maximum number of connections held by the connection object
+     */
+    default int getConnectionCount(C connection) {
+        return 1;
+    }
+
     /**
      * This function tells the platform if datasource is valid by checking the set of invalid strings.
      * If empty, the datasource is valid. This set of invalid strings is populated by
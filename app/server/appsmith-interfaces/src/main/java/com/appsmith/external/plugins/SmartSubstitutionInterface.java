@@ -4,9 +4,10 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Param;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public interface SmartSubstitutionInterface {
 
@@ -29,25 +30,46 @@ public interface SmartSubstitutionInterface {
 
         if (mustacheValuesInOrder != null && !mustacheValuesInOrder.isEmpty()) {
 
+            final List<String> valuesInOrder = getBindingValuesInOrder(mustacheValuesInOrder, evaluatedParams);
             for (int i = 0; i < mustacheValuesInOrder.size(); i++) {
-                String key = mustacheValuesInOrder.get(i);
-                Optional<Param> matchingParam = evaluatedParams.stream().filter(param -> param.getKey().trim().equals(key)).findFirst();
-
-                // If the evaluated value of the mustache binding is present, set it in the prepared statement
-                if (matchingParam.isPresent()) {
-                    String value = matchingParam.get().getValue();
-                    input = substituteValueInInput(i + 1, key,
-                            value, input, insertedParams, args);
-                } else {
-                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Uh oh! This is unexpected. " +
-                            "Did not receive any information for the binding "
-                            + key + ". Please contact customer support at Appsmith.");
-                }
+                input = substituteValueInInput(i + 1, mustacheValuesInOrder.get(i),
+                        valuesInOrder.get(i), input, insertedParams, args);
             }
         }
         return input;
     }
 
+    /**
+     * Looks up the evaluated value of each of the mustache bindings. If a binding was evaluated more than once, the
+     * first value is used.
+     *
+     * @param mustacheValuesInOrder Bindings, in the order they appear in the input
+     * @param evaluatedParams       Evaluated values of the bindings, as sent by the client
+     * @return The value of each binding, in the same order as the bindings
+     * @throws AppsmithPluginException If there's no value for one of the bindings
+     */
+    default List<String> getBindingValuesInOrder(List<String> mustacheValuesInOrder,
+                                                 List<Param> evaluatedParams) throws AppsmithPluginException {
+        final Map<String, String> valuesByKey = new HashMap<>();
+        for (Param param : evaluatedParams) {
+            // A binding can be evaluated to null, so the key being present is what's checked further down
+            if (!valuesByKey.containsKey(param.getKey().trim())) {
+                valuesByKey.put(param.getKey().trim(), param.getValue());
+            }
+        }
+
+        final List<String> valuesInOrder = new ArrayList<>(mustacheValuesInOrder.size());
+        for (String key : mustacheValuesInOrder) {
+            if (!valuesByKey.containsKey(key)) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Uh oh! This is unexpected. " +
+                        "Did not receive any information for the binding "
+                        + key + ". Please contact customer support at Appsmith.");
+            }
+            valuesInOrder.add(valuesByKey.get(key));
+        }
+        return valuesInOrder;
+    }
+
     // Default implementation does not do any substitution. The plugin doing intelligent substitution is responsible
     // for overriding this function.
     default Object substituteValueInInput(int index, String binding, String value, Object input,
@@ -5,439 +5,340 @@ import com.appsmith.external.constants.DataType;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.SortCondition;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
-import lombok.extern.slf4j.Slf4j;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.StringUtils;
-import org.bson.types.ObjectId;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
-import java.sql.SQLException;
-import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Predicate;
 
 import static com.appsmith.external.helpers.DataTypeStringUtils.stringToKnownDataTypeConverter;
-import static com.appsmith.external.models.Condition.addValueDataType;
 
+/**
+ * Filters, sorts and paginates rows of JSON objects in memory, e.g. the rows of a Google Sheet.
+ * <p>
+ * The data type of every column is inferred from its values and both the cell values and the values in the conditions
+ * are compared as that type, so that `10` is greater than `9` in a numeric column. Cells are only parsed for the
+ * columns that are filtered or sorted on, and each such column is parsed once into an array of typed values that all
+ * the conditions on that column are evaluated against. Empty cells never match any condition, like `NULL` in SQL.
+ * <p>
+ * No state is shared between calls, so a single instance can be used by any number of threads concurrently.
+ */
 @Component
-@Slf4j
 public class FilterDataService {
 
-    private static FilterDataService instance = null;
-    private ObjectMapper objectMapper;
-    private Connection connection;
-
-    private static final String URL = "jdbc:h2:mem:filterDb";
-
-    private static final Map<DataType, String> SQL_DATATYPE_MAP = Map.of(
-            DataType.INTEGER, "INT",
-            DataType.LONG, "BIGINT",
-            DataType.FLOAT, "REAL",
-            DataType.DOUBLE, "DOUBLE",
-            DataType.BOOLEAN, "BOOLEAN",
-            DataType.STRING, "VARCHAR"
-    );
-
-    private static final Map<ConditionalOperator, String> SQL_OPERATOR_MAP = Map.of(
-            ConditionalOperator.LT, "<",
-            ConditionalOperator.LTE, "<=",
-            ConditionalOperator.EQ, "=",
-            ConditionalOperator.NOT_EQ, "<>",
-            ConditionalOperator.GT, ">",
-            ConditionalOperator.GTE, ">=",
-            ConditionalOperator.IN, "IN",
-            ConditionalOperator.NOT_IN, "NOT IN"
-    );
+    private static final FilterDataService instance = new FilterDataService();
 
-    private FilterDataService() {
+    private final ObjectMapper objectMapper;
 
+    private FilterDataService() {
         objectMapper = new ObjectMapper();
-
-        try {
-            connection = DriverManager.getConnection(URL);
-        } catch (SQLException e) {
-            log.error(e.getMessage());
-            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Failed to connect to the in memory database. Unable to perform filtering : " + e.getMessage());
-        }
     }
 
     public static FilterDataService getInstance() {
-
-        if (instance == null) {
-            instance = new FilterDataService();
-        }
-
         return instance;
     }
 
     public ArrayNode filterData(ArrayNode items, List<Condition> conditionList) {
+        return filterData(items, conditionList, null, null, null);
+    }
+
+    /**
+     * @param items          Rows to filter. The columns are taken from the first row.
+     * @param conditionList  Conditions that a row must satisfy all of, to be returned.
+     * @param sortConditions Columns to order the filtered rows by, in order of precedence. Rows that are equal on all
+     *                       of them keep the order they were given in.
+     * @param limit          Maximum number of rows to return, or null for no limit.
+     * @param offset         Number of filtered (and sorted) rows to skip, or null to skip none.
+     * @return The matching rows, with every cell converted to the data type of its column.
+     */
+    public ArrayNode filterData(ArrayNode items,
+                                List<Condition> conditionList,
+                                List<SortCondition> sortConditions,
+                                Integer limit,
+                                Integer offset) {
 
         if (items == null || items.size() == 0) {
             return items;
         }
 
+        if ((limit != null && limit < 0) || (offset != null && offset < 0)) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "Limit and offset for filtering can not be negative.");
+        }
+
+        final List<Condition> conditions = conditionList == null ? List.of() : conditionList;
+        final List<SortCondition> sorts = sortConditions == null ? List.of() : sortConditions;
+
         Map<String, DataType> schema = generateSchema(items);
 
-        if (!validConditionList(conditionList, schema)) {
+        if (!validConditionList(conditions, schema) || !validSortConditionList(sorts, schema)) {
             throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "Conditions for filtering were incomplete or incorrect.");
         }
 
-        List<Condition> conditions = addValueDataType(conditionList);
-
+        // Typed values of the columns that are filtered or sorted on, indexed by row
+        Map<String, Comparable<Object>[]> columns = new HashMap<>();
 
-        String tableName = generateTable(schema);
+        int[] selectedRows = new int[items.size()];
+        for (int i = 0; i < selectedRows.length; i++) {
+            selectedRows[i] = i;
+        }
+        int selectedCount = selectedRows.length;
 
-        // insert the data
-        insertAllData(tableName, items, schema);
+        for (Condition condition : conditions) {
+            final String path = condition.getPath();
+            final Comparable<Object>[] column = columns.computeIfAbsent(path, name -> readColumn(items, name, schema.get(name)));
+            final Predicate<Comparable<Object>> predicate = generatePredicate(condition, schema.get(path));
+
+            // Compact the rows that still match in place, keeping them in their original order
+            int matchedCount = 0;
+            for (int i = 0; i < selectedCount; i++) {
+                final Comparable<Object> value = column[selectedRows[i]];
+                if (value != null && predicate.test(value)) {
+                    selectedRows[matchedCount++] = selectedRows[i];
+                }
+            }
+            selectedCount = matchedCount;
+        }
 
-        // Filter the data
-        List<Map<String, Object>> finalResults = executeFilterQuery(tableName, conditions, schema);
+        final int from = offset == null ? 0 : Math.min(offset, selectedCount);
+        final int to = limit == null ? selectedCount : (int) Math.min((long) from + limit, selectedCount);
 
-        // Now that the data has been filtered. Clean Up. Drop the table
-        dropTable(tableName);
+        if (!sorts.isEmpty() && from < to) {
+            for (SortCondition sortCondition : sorts) {
+                columns.computeIfAbsent(sortCondition.getPath(), name -> readColumn(items, name, schema.get(name)));
+            }
+            sortRows(selectedRows, selectedCount, to, generateRowComparator(sorts, columns));
+        }
 
-        ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
+        ArrayNode finalResultsNode = objectMapper.createArrayNode();
+        for (int i = from; i < to; i++) {
+            finalResultsNode.add(generateRow(items.get(selectedRows[i]), selectedRows[i], schema, columns));
+        }
 
         return finalResultsNode;
     }
 
-    public List<Map<String, Object>> executeFilterQuery(String tableName, List<Condition> conditions, Map<String, DataType> schema) {
-        Connection conn = checkAndGetConnection();
-
-        StringBuilder sb = new StringBuilder("SELECT * FROM " + tableName);
+    /**
+     * Sorts the first `count` entries of the given rows, such that at least the first `needed` of them end up in their
+     * final position. When only a few rows are needed out of many, e.g. for a small limit, only those are fully sorted.
+     */
+    private void sortRows(int[] rows, int count, int needed, Comparator<Integer> rowComparator) {
 
-        LinkedHashMap<String, DataType> values = new LinkedHashMap<>();
+        // Ties are broken on the original position of the row, which keeps the sort stable
+        final Comparator<Integer> comparator = rowComparator.thenComparingInt(row -> row);
 
-        String whereClause = generateWhereClause(conditions, values, schema);
-
-        sb.append(whereClause);
-
-        sb.append(";");
-
-        List<Map<String, Object>> rowsList = new ArrayList<>(50);
-
-        String selectQuery = sb.toString();
-        log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), selectQuery);
-
-        try {
-            PreparedStatement preparedStatement = conn.prepareStatement(selectQuery);
-            Set<Map.Entry<String, DataType>> valueEntries = values.entrySet();
-            Iterator<Map.Entry<String, DataType>> iterator = valueEntries.iterator();
-            for (int i = 0; iterator.hasNext(); i++) {
-                Map.Entry<String, DataType> valueEntry = iterator.next();
-                String value = valueEntry.getKey();
-                DataType dataType = valueEntry.getValue();
-                setValueInStatement(preparedStatement, i + 1, value, dataType);
+        if (needed * 2 >= count) {
+            Integer[] boxedRows = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                boxedRows[i] = rows[i];
             }
-
-            ResultSet resultSet = preparedStatement.executeQuery();
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
-
-            while (resultSet.next()) {
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-                for (int i = 1; i <= colCount; i++) {
-                    Object resultValue = resultSet.getObject(i);
-
-                    // Set null values to empty strings
-                    if (null == resultValue) {
-                        resultValue = "";
-                    }
-
-                    row.put(metaData.getColumnName(i), resultValue);
-                }
-                rowsList.add(row);
+            Arrays.sort(boxedRows, comparator);
+            for (int i = 0; i < count; i++) {
+                rows[i] = boxedRows[i];
             }
-        } catch (SQLException e) {
-            // Getting a SQL Exception here means that our generated query is incorrect. Raise an alarm!
-            log.error(e.getMessage());
-            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Filtering failure seen : " + e.getMessage());
+            return;
         }
 
-        return rowsList;
+        // Keep the `needed` smallest rows seen so far, with the largest of them at the head of the queue
+        PriorityQueue<Integer> smallestRows = new PriorityQueue<>(needed, comparator.reversed());
+        for (int i = 0; i < count; i++) {
+            smallestRows.add(rows[i]);
+            if (smallestRows.size() > needed) {
+                smallestRows.poll();
+            }
+        }
+        for (int i = needed - 1; i >= 0; i--) {
+            rows[i] = smallestRows.poll();
+        }
     }
 
-    private String generateWhereClause(List<Condition> conditions, LinkedHashMap<String, DataType> values, Map<String, DataType> schema) {
-
-        StringBuilder sb = new StringBuilder();
+    private Comparator<Integer> generateRowComparator(List<SortCondition> sortConditions,
+                                                      Map<String, Comparable<Object>[]> columns) {
 
-        Boolean firstCondition = true;
-        for (Condition condition : conditions) {
+        Comparator<Integer> rowComparator = null;
+        for (SortCondition sortCondition : sortConditions) {
+            final Comparable<Object>[] column = columns.get(sortCondition.getPath());
 
-            if (firstCondition) {
-                // Append the WHERE keyword before adding the conditions
-                sb.append(" WHERE ");
-                firstCondition = false;
-            } else {
-                // This is not the first condition. Append an `AND` before adding the next condition
-                sb.append(" AND ");
+            // Empty values come first in ascending order, and last in descending order
+            Comparator<Comparable<Object>> valueComparator = Comparator.nullsFirst(Comparator.<Comparable<Object>>naturalOrder());
+            if (sortCondition.getDirection() == SortCondition.Direction.DESC) {
+                valueComparator = valueComparator.reversed();
             }
 
-            String path = condition.getPath();
-            ConditionalOperator operator = condition.getOperator();
-            String value = condition.getValue();
-
-            String sqlOp = SQL_OPERATOR_MAP.get(operator);
-            if (sqlOp == null) {
-                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                        operator.toString() + " is not supported currently for filtering.");
-            }
-
-            sb.append("\"" + path + "\"");
-            sb.append(" ");
-            sb.append(sqlOp);
-            sb.append(" ");
-
-            // These are array operations. Convert value into appropriate format and then append
-            if (operator == ConditionalOperator.IN || operator == ConditionalOperator.NOT_IN) {
+            final Comparator<Integer> columnComparator = Comparator.comparing(row -> column[row], valueComparator);
+            rowComparator = rowComparator == null ? columnComparator : rowComparator.thenComparing(columnComparator);
+        }
 
-                StringBuilder valueBuilder = new StringBuilder("(");
+        return rowComparator;
+    }
 
+    private Predicate<Comparable<Object>> generatePredicate(Condition condition, DataType dataType) {
+
+        final ConditionalOperator operator = condition.getOperator();
+        final String value = condition.getValue();
+
+        switch (operator) {
+            case LT:
+            case LTE:
+            case EQ:
+            case NOT_EQ:
+            case GT:
+            case GTE: {
+                final Comparable<Object> conditionValue = parseValue(value, dataType);
+                if (conditionValue == null) {
+                    return cellValue -> false;
+                }
+                return cellValue -> isMatch(operator, cellValue.compareTo(conditionValue));
+            }
+            case IN:
+            case NOT_IN: {
+                final Set<Comparable<Object>> conditionValues = new HashSet<>();
                 try {
                     List<Object> arrayValues = objectMapper.readValue(value, List.class);
-                    List<String> updatedStringValues = arrayValues
-                            .stream()
-                            .map(fieldValue -> {
-                                values.put(String.valueOf(fieldValue), schema.get(path));
-                                return "?";
-                            })
-                            .collect(Collectors.toList());
-                    String finalValues = String.join(",", updatedStringValues);
-                    valueBuilder.append(finalValues);
+                    for (Object arrayValue : arrayValues) {
+                        conditionValues.add(parseValue(String.valueOf(arrayValue), dataType));
+                    }
                 } catch (IOException e) {
                     throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                             value + " could not be parsed into an array");
                 }
 
-                valueBuilder.append(")");
-                value = valueBuilder.toString();
-                sb.append(value);
-
-            } else {
-                // Not an array. Simply add a placeholder
-                sb.append("?");
-                values.put(value, schema.get(path));
-            }
-        }
-        return sb.toString();
-    }
-
-    public void insertAllData(String tableName, ArrayNode items, Map<String, DataType> schema) {
-
-        List<String> columnNames = schema.keySet().stream().collect(Collectors.toList());
-
-        List<String> quotedColumnNames = columnNames.stream().map(name -> "\"" + name + "\"").collect(Collectors.toList());
-
-        StringBuilder insertQueryBuilder = new StringBuilder("INSERT INTO ");
-        insertQueryBuilder.append(tableName);
-
-        StringBuilder columnNamesBuilder = new StringBuilder("(");
-        columnNamesBuilder.append(String.join(", ", quotedColumnNames));
-        columnNamesBuilder.append(")");
-
-        // In order data types of all the columns
-        List<DataType> columnTypes = new ArrayList<>();
-        for (String columnName : columnNames) {
-            columnTypes.add(schema.get(columnName));
-        }
-
-        insertQueryBuilder.append(columnNamesBuilder);
-        insertQueryBuilder.append(" VALUES ");
-
-        StringBuilder valuesMasterBuilder = new StringBuilder();
-
-        int counter = 0;
-        List<String> inOrderValues = new ArrayList<>();
-
-        for (JsonNode item : items) {
-
-            // If the number of values inserted is greater than 1000, the insert would fail. Once we have reached 1000
-            // rows, execute the insert for rows so far and start afresh for the rest of the rows
-            if (counter == 1000) {
-
-                insertReadyData(insertQueryBuilder.toString(), valuesMasterBuilder, inOrderValues, columnTypes);
-                // Reset the values builder and counter for new insert queries.
-                valuesMasterBuilder = new StringBuilder();
-                counter = 0;
-                inOrderValues = new ArrayList<>();
-            }
-
-            StringBuilder valuesBuilder = new StringBuilder();
-
-            if (counter != 0) {
-                // If not the first row, add a separator between rows
-                valuesBuilder.append(",");
-            }
-
-            // Start the row
-            valuesBuilder.append("(");
-
-            Boolean firstEntry = true;
-            for (String columnName : columnNames) {
-
-                if (!firstEntry) {
-                    // Add a separator before adding a new entry
-                    valuesBuilder.append(",");
-                } else {
-                    // For future iterations, set flag to false
-                    firstEntry = false;
+                if (operator == ConditionalOperator.IN) {
+                    return conditionValues::contains;
                 }
-
-                JsonNode fieldNode = item.get(columnName);
-                if (fieldNode != null) {
-                    valuesBuilder.append("?");
-                    inOrderValues.add(fieldNode.asText());
+                // Like `NOT IN` in SQL, nothing matches if the list contains an empty value
+                if (conditionValues.contains(null)) {
+                    return cellValue -> false;
                 }
+                return cellValue -> !conditionValues.contains(cellValue);
             }
-
-            // End the row
-            valuesBuilder.append(")");
-
-            valuesMasterBuilder.append(valuesBuilder);
-            counter++;
-        }
-
-        if (valuesMasterBuilder.length() > 0) {
-            insertReadyData(insertQueryBuilder.toString(), valuesMasterBuilder, inOrderValues, columnTypes);
+            default:
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        operator.toString() + " is not supported currently for filtering.");
         }
     }
 
-    private void executeDbQuery(String query) {
-
-        Connection conn = checkAndGetConnection();
-        log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), query);
-
-        try {
-            conn.createStatement().execute(query);
-        } catch (SQLException e) {
-            log.error(e.getMessage());
-            // Getting a SQL Exception here means that our generated query is incorrect. Raise an alarm!
-            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, e.getMessage());
+    private static boolean isMatch(ConditionalOperator operator, int comparison) {
+        switch (operator) {
+            case LT:
+                return comparison < 0;
+            case LTE:
+                return comparison <= 0;
+            case EQ:
+                return comparison == 0;
+            case NOT_EQ:
+                return comparison != 0;
+            case GT:
+                return comparison > 0;
+            case GTE:
+                return comparison >= 0;
+            default:
+                return false;
         }
     }
 
-    private void insertReadyData(String partialInsertQuery, StringBuilder valuesBuilder, List<String> inOrderValues, List<DataType> columnTypes) {
-
-        Connection conn = checkAndGetConnection();
+    private Comparable<Object>[] readColumn(ArrayNode items, String columnName, DataType dataType) {
 
-        StringBuilder insertQueryBuilder = new StringBuilder(partialInsertQuery);
-        insertQueryBuilder.append(valuesBuilder);
-        insertQueryBuilder.append(";");
+        @SuppressWarnings("unchecked")
+        Comparable<Object>[] column = new Comparable[items.size()];
 
-        String finalInsertQuery = insertQueryBuilder.toString();
-
-        try {
-            PreparedStatement preparedStatement = conn.prepareStatement(finalInsertQuery);
-
-            int valueCounter = 0;
-            while (valueCounter < inOrderValues.size()) {
-
-                for (int columnTypeCounter = 0; columnTypeCounter < columnTypes.size(); columnTypeCounter++, valueCounter++) {
-                    setValueInStatement(preparedStatement, valueCounter + 1, inOrderValues.get(valueCounter), columnTypes.get(columnTypeCounter));
-                }
-            }
-
-            preparedStatement.executeUpdate();
-
-        } catch (SQLException e) {
-            e.printStackTrace();
-            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Error in ingesting the data : " + e.getMessage());
+        for (int i = 0; i < column.length; i++) {
+            column[i] = parseValue(getText(items.get(i), columnName), dataType);
         }
-    }
 
-    private Connection checkAndGetConnection() {
-        try {
-            if (connection == null || connection.isClosed() || !connection.isValid(5)) {
-                connection = DriverManager.getConnection(URL);
-            }
-        } catch (SQLException e) {
-            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Failed to connect to the filtering database");
-        }
-
-        return connection;
+        return column;
     }
 
-    public String generateTable(Map<String, DataType> schema) {
-
-        // Generate table name
-        String generateUniqueId = new ObjectId().toString().toUpperCase();
-
-        // Appending tbl_ before the generated unique id since using the string directly was throwing a SQL error
-        // which I couldnt solve. Just appending a string to it though works perfectly.
-        String tableName = new StringBuilder("tbl_").append(generateUniqueId).toString();
+    private ObjectNode generateRow(JsonNode item,
+                                   int rowIndex,
+                                   Map<String, DataType> schema,
+                                   Map<String, Comparable<Object>[]> columns) {
 
-        StringBuilder sb = new StringBuilder("CREATE TABLE ");
+        ObjectNode row = objectMapper.createObjectNode();
 
-        sb.append(tableName);
-
-        sb.append(" (");
-
-        Boolean columnsAdded = false;
         for (Map.Entry<String, DataType> entry : schema.entrySet()) {
-
-            if (columnsAdded) {
-                // If columns have been added before, add a separator
-                sb.append(",");
-            }
-
-            String fieldName = entry.getKey();
-            DataType dataType = entry.getValue();
-
-            String sqlDataType = SQL_DATATYPE_MAP.get(dataType);
-            if (sqlDataType == null) {
-                // the data type recognized does not have a native support in appsmith right now
-                // default to String
-                sqlDataType = SQL_DATATYPE_MAP.get(DataType.STRING);
+            final String columnName = entry.getKey();
+            final Comparable<Object>[] column = columns.get(columnName);
+            final Object value = column != null
+                    ? column[rowIndex]
+                    : parseValue(getText(item, columnName), entry.getValue());
+
+            // Set null values to empty strings
+            if (value == null) {
+                row.put(columnName, "");
+            } else if (value instanceof Long) {
+                row.put(columnName, (Long) value);
+            } else if (value instanceof Double) {
+                row.put(columnName, (Double) value);
+            } else if (value instanceof Boolean) {
+                row.put(columnName, (Boolean) value);
+            } else {
+                row.put(columnName, value.toString());
             }
-            columnsAdded = true;
-            sb.append("\"" + fieldName + "\"");
-            sb.append(" ");
-            sb.append(sqlDataType);
-
         }
 
-        sb.append(");");
-
-        String createTableQuery = sb.toString();
-
-        executeDbQuery(createTableQuery);
-
-        return tableName;
+        return row;
+    }
 
+    private static String getText(JsonNode item, String columnName) {
+        final JsonNode fieldNode = item.get(columnName);
+        return fieldNode == null || fieldNode.isNull() ? null : fieldNode.asText();
     }
 
-    public void dropTable(String tableName) {
+    /**
+     * Converts the value to the type that values of the given data type are compared as. Whole numbers are compared as
+     * longs and the rest of the numbers as doubles, so that columns with values of different sizes are compared
+     * correctly. Data types that aren't natively supported yet are compared as strings.
+     *
+     * @return The converted value, or null if the value is empty
+     */
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> parseValue(String value, DataType dataType) {
 
-        String dropTableQuery = "DROP TABLE " + tableName + ";";
+        if (StringUtils.isEmpty(value)) {
+            return null;
+        }
 
-        executeDbQuery(dropTableQuery);
+        try {
+            switch (dataType) {
+                case INTEGER:
+                case LONG:
+                    return (Comparable) Long.valueOf(value.trim());
+                case FLOAT:
+                case DOUBLE:
+                    return (Comparable) Double.valueOf(value.trim());
+                case BOOLEAN:
+                    return (Comparable) Boolean.valueOf(value.trim());
+                case STRING:
+                default:
+                    return (Comparable) value;
+            }
+        } catch (IllegalArgumentException e) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error while interacting with value " + value + " : " + e.getMessage());
+        }
     }
 
-
     private Map<String, DataType> generateSchema(ArrayNode items) {
 
         JsonNode item = items.get(0);
 
-        Iterator<String> fieldNamesIterator = item.fieldNames();
-
-        Set<String> missingColumnDataTypes = new HashSet<>();
         /*
          * For an object of the following type :
          * {
@@ -452,135 +353,78 @@ public class FilterDataService {
          *      field2 : DataType.BOOLEAN
          *      field3 : DataType.INTEGER
          * }
+         *
+         * The data type of a column is that of its first non empty value. If all the values of a column are empty, it
+         * defaults to String.
          */
-        Map<String, DataType> schema = Stream.generate(() -> null)
-                .takeWhile(x -> fieldNamesIterator.hasNext())
-                .map(n -> fieldNamesIterator.next())
-                .map(name -> {
-                    if (name.contains("\"") || name.contains("\'")) {
-                        throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                "\' or \" are unsupported symbols in column names for filtering. Caused by column name : " + name);
-                    }
-                    return name;
-                })
-                .collect(Collectors.toMap(
-                                Function.identity(),
-                                name -> {
-                                    String value = item.get(name).asText();
-                                    if (StringUtils.isEmpty(value)) {
-                                        missingColumnDataTypes.add(name);
-                                        // Default to string
-                                        return DataType.STRING;
-                                    } else {
-                                        return stringToKnownDataTypeConverter(value);
-                                    }
-                                },
-                                (u, v) -> {
-                                    // This is not possible.
-                                    throw new IllegalStateException(String.format("Duplicate key %s", u));
-                                },
-                                LinkedHashMap::new
-                        )
-                );
-
-
-        // Try to find the missing data type which has been initialized to String
-        Set<String> columns = new HashSet();
-        columns.addAll(missingColumnDataTypes);
-
-        for (String columnName : columns) {
+        Map<String, DataType> schema = new LinkedHashMap<>();
+        List<String> missingColumnDataTypes = new ArrayList<>();
+
+        Iterator<String> fieldNamesIterator = item.fieldNames();
+        while (fieldNamesIterator.hasNext()) {
+            String name = fieldNamesIterator.next();
+            String value = getText(item, name);
+            if (StringUtils.isEmpty(value)) {
+                missingColumnDataTypes.add(name);
+                // Default to string
+                schema.put(name, DataType.STRING);
+            } else {
+                schema.put(name, stringToKnownDataTypeConverter(value));
+            }
+        }
+
+        for (String columnName : missingColumnDataTypes) {
             for (JsonNode entry : items) {
-                String value = entry.get(columnName).asText();
+                String value = getText(entry, columnName);
                 if (!StringUtils.isEmpty(value)) {
-                    DataType dataType = stringToKnownDataTypeConverter(value);
-                    schema.put(columnName, dataType);
-                    missingColumnDataTypes.remove(columnName);
+                    schema.put(columnName, stringToKnownDataTypeConverter(value));
+                    break;
                 }
             }
         }
 
-        // We could not assert a data type for a column because no data exists in any of the rows
-        if (!missingColumnDataTypes.isEmpty()) {
-            // TODO : Decide on the interaction expected here. Currently we are defaulting to String and hence no
-            // error would be shown to the user and filtering on other columns should continue as is.
-        }
-
         return schema;
     }
 
-    private PreparedStatement setValueInStatement(PreparedStatement preparedStatement, int index, String value, DataType dataType) {
-
-        // Override datatype to null for empty values
-        if (StringUtils.isEmpty(value)) {
-            dataType = DataType.NULL;
-        }
+    public boolean validConditionList(List<Condition> conditionList, Map<String, DataType> schema) {
 
-        try {
-            switch (dataType) {
-                case NULL: {
-                    preparedStatement.setNull(index, Types.NULL);
-                    break;
-                }
-                case INTEGER: {
-                    preparedStatement.setInt(index, Integer.parseInt(value));
-                    break;
-                }
-                case LONG: {
-                    preparedStatement.setLong(index, Long.parseLong(value));
-                    break;
-                }
-                case FLOAT:
-                case DOUBLE: {
-                    preparedStatement.setBigDecimal(index, new BigDecimal(String.valueOf(value)));
-                    break;
-                }
-                case BOOLEAN: {
-                    preparedStatement.setBoolean(index, Boolean.parseBoolean(value));
-                    break;
-                }
-                case STRING: 
-                default:
-                    preparedStatement.setString(index, value);
-                    break;
+        for (Condition condition : conditionList) {
+            if (!Condition.isValid(condition)) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Condition \" " + condition.getPath() + " " + condition.getOperator() + " "
+                                + condition.getValue() + " \" is incorrect and could not be parsed.");
             }
 
-        } catch (SQLException | IllegalArgumentException e) {
-            // Alarm! This should never fail since appsmith is the creator of the query and supporter of it. Raise
-            // an alarm and fix quickly!
-                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                        "Error while interacting with value " + value + " : " + e.getMessage());
+            String path = condition.getPath();
+
+            if (!schema.containsKey(path)) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        path + " not found in the known column names :" + schema.keySet());
+            }
         }
 
-        return preparedStatement;
+        // All the conditions were iterated over and checked. In case an error was found, an exception has already been
+        // thrown. If reached here, everything is hunky-dory.
+        return true;
     }
 
+    private boolean validSortConditionList(List<SortCondition> sortConditions, Map<String, DataType> schema) {
 
-    public boolean validConditionList(List<Condition> conditionList, Map<String, DataType> schema) {
-
-        conditionList
-                .stream()
-                .map(condition -> {
-                    if (!Condition.isValid(condition)) {
-                        throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                "Condition \" " + condition.getPath() + " " + condition.getOperator().toString() + " "
-                                        + condition.getValue() + " \" is incorrect and could not be parsed.");
-                    }
-
-                    String path = condition.getPath();
+        for (SortCondition sortCondition : sortConditions) {
+            String path = sortCondition.getPath();
 
-                    if (!schema.containsKey(path)) {
-                        throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                path + " not found in the known column names :" + schema.keySet());
-                    }
+            if (StringUtils.isEmpty(path) || sortCondition.getDirection() == null) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Sort condition on \"" + path + "\" is incorrect and could not be parsed.");
+            }
 
-                    return condition;
-                })
-                .collect(Collectors.toList());
+            if (!schema.containsKey(path)) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        path + " not found in the known column names :" + schema.keySet());
+            }
+        }
 
-        // All the conditions were iterated over and checked. In case an error was found, an exception has already been
-        // thrown. If reached here, everything is hunky-dory.
         return true;
     }
 
 }
-
@@ -1,9 +1,21 @@
 package com.appsmith.external.helpers;
 
 import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.DisplayDataType;
+import com.appsmith.external.models.ParsedDataType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.appsmith.external.helpers.DataTypeStringUtils.getDisplayDataTypes;
+import static com.appsmith.external.helpers.DataTypeStringUtils.jsonSmartReplacementPlaceholdersWithValues;
 import static com.appsmith.external.helpers.DataTypeStringUtils.stringToKnownDataTypeConverter;
+import static com.appsmith.external.helpers.SmartSubstitutionHelper.APPSMITH_SUBSTITUTION_PLACEHOLDER;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class DataTypeStringUtilsTest {
@@ -152,4 +164,79 @@ public class DataTypeStringUtilsTest {
         assertThat(DataType.JSON_OBJECT).isEqualByComparingTo(stringToKnownDataTypeConverter("{\"a\": \"\"}"));
         assertThat(DataType.JSON_OBJECT).isEqualByComparingTo(stringToKnownDataTypeConverter("{\"a\": []}"));
     }
+
+    @Test
+    public void checkNumberDataTypes() {
+        assertThat(DataType.INTEGER).isEqualByComparingTo(stringToKnownDataTypeConverter("+5"));
+        assertThat(DataType.INTEGER).isEqualByComparingTo(stringToKnownDataTypeConverter("-2147483648"));
+        assertThat(DataType.LONG).isEqualByComparingTo(stringToKnownDataTypeConverter("2147483648"));
+        assertThat(DataType.FLOAT).isEqualByComparingTo(stringToKnownDataTypeConverter("9223372036854775808"));
+        assertThat(DataType.FLOAT).isEqualByComparingTo(stringToKnownDataTypeConverter("1e5"));
+        assertThat(DataType.FLOAT).isEqualByComparingTo(stringToKnownDataTypeConverter(".5f"));
+        assertThat(DataType.FLOAT).isEqualByComparingTo(stringToKnownDataTypeConverter("0x1p3"));
+        assertThat(DataType.FLOAT).isEqualByComparingTo(stringToKnownDataTypeConverter("-Infinity"));
+        assertThat(DataType.STRING).isEqualByComparingTo(stringToKnownDataTypeConverter("1e"));
+        assertThat(DataType.STRING).isEqualByComparingTo(stringToKnownDataTypeConverter("-"));
+        assertThat(DataType.STRING).isEqualByComparingTo(stringToKnownDataTypeConverter("12abc"));
+    }
+
+    @Test
+    public void testJsonSmartReplacementOfManyPlaceholders() {
+        StringBuilder input = new StringBuilder("{");
+        StringBuilder expected = new StringBuilder("{");
+        List<String> replacements = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            if (i > 0) {
+                input.append(", ");
+                expected.append(", ");
+            }
+            input.append("\"key").append(i).append("\": ").append(APPSMITH_SUBSTITUTION_PLACEHOLDER);
+            if (i % 2 == 0) {
+                replacements.add(String.valueOf(i));
+                expected.append("\"key").append(i).append("\": ").append(i);
+            } else {
+                replacements.add("value " + i);
+                expected.append("\"key").append(i).append("\": \"value ").append(i).append("\"");
+            }
+        }
+        input.append("}");
+        expected.append("}");
+
+        List<Map.Entry<String, String>> insertedParams = new ArrayList<>();
+        String output = jsonSmartReplacementPlaceholdersWithValues(input.toString(), replacements, insertedParams);
+
+        assertThat(output).isEqualTo(expected.toString());
+        assertThat(insertedParams).hasSize(500);
+        assertThat(insertedParams.get(0).getValue()).isEqualTo(DataType.INTEGER.toString());
+        assertThat(insertedParams.get(1).getValue()).isEqualTo(DataType.STRING.toString());
+    }
+
+    @Test
+    public void testJsonSmartReplacementDoesNotSubstituteInsideValues() {
+        String input = "{\"a\": " + APPSMITH_SUBSTITUTION_PLACEHOLDER + ", \"b\": " + APPSMITH_SUBSTITUTION_PLACEHOLDER + "}";
+        List<Map.Entry<String, String>> insertedParams = new ArrayList<>();
+
+        String output = jsonSmartReplacementPlaceholdersWithValues(input,
+                List.of(APPSMITH_SUBSTITUTION_PLACEHOLDER, "[\"$1\", \"\\\\\"]"),
+                insertedParams);
+
+        assertThat(output).isEqualTo("{\"a\": \"" + APPSMITH_SUBSTITUTION_PLACEHOLDER + "\", \"b\": [\"$1\",\"\\\\\"]}");
+    }
+
+    @Test
+    public void checkDisplayDataTypesOfArrayNode() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        ArrayNode table = (ArrayNode) objectMapper.readTree("[{\"id\": 1, \"name\": \"a\", \"deleted\": null}, {\"id\": 2, \"name\": \"b\", \"deleted\": true}]");
+        assertThat(getDisplayDataTypes(table).stream().map(ParsedDataType::getDataType).collect(Collectors.toList()))
+                .isEqualTo(List.of(DisplayDataType.TABLE, DisplayDataType.JSON, DisplayDataType.RAW));
+
+        ArrayNode nested = (ArrayNode) objectMapper.readTree("[{\"id\": 1, \"tags\": [\"a\", \"b\"]}]");
+        assertThat(getDisplayDataTypes(nested).stream().map(ParsedDataType::getDataType).collect(Collectors.toList()))
+                .isEqualTo(List.of(DisplayDataType.JSON, DisplayDataType.RAW));
+
+        ArrayNode values = (ArrayNode) objectMapper.readTree("[1, 2, 3]");
+        assertThat(getDisplayDataTypes(values).stream().map(ParsedDataType::getDataType).collect(Collectors.toList()))
+                .isEqualTo(List.of(DisplayDataType.JSON, DisplayDataType.RAW));
+    }
 }
@@ -628,4 +628,41 @@ public class MustacheHelperTest {
         assertThat(rendered).isEqualTo("leading value1 and then value2 tailing.");
     }
 
+    @Test
+    public void renderSameTemplateWithDifferentValues() {
+        final String template = "select * from users where id = {{ Input1.text }} limit {{ Table1.pageSize }}";
+
+        assertThat(render(template, Map.of("Input1.text", "1", "Table1.pageSize", "10")))
+                .isEqualTo("select * from users where id = 1 limit 10");
+        assertThat(render(template, Map.of("Input1.text", "2", "Table1.pageSize", "20")))
+                .isEqualTo("select * from users where id = 2 limit 20");
+    }
+
+    @Test
+    public void renderUnescapesHtmlEntitiesWithAndWithoutBindings() {
+        assertThat(render("a &amp; b", Map.of())).isEqualTo("a & b");
+        assertThat(render("{{key1}} &amp; b", Map.of("key1", "a"))).isEqualTo("a & b");
+        assertThat(render("", Map.of())).isEqualTo("");
+    }
+
+    @Test
+    public void renderFieldValuesKeepsListsWithoutBindings() {
+        ActionConfiguration configuration = new ActionConfiguration();
+        final List<Property> headers = List.of(new Property("header1", "value1"));
+        final List<Property> queryParameters = List.of(new Property("param1", "{{ queryParam1 }}"));
+        final List<String> formData = List.of("plain", "{{ formValue }}");
+        configuration.setHeaders(headers);
+        configuration.setQueryParameters(queryParameters);
+        configuration.setPluginSpecifiedTemplates(List.of(new Property("list", formData)));
+
+        renderFieldValues(configuration, Map.of("queryParam1", "rendered queryParam1", "formValue", "rendered formValue"));
+
+        assertThat(configuration.getHeaders()).isSameAs(headers);
+        // The properties in the list are rendered in place, so the list itself is kept as well
+        assertThat(configuration.getQueryParameters()).isSameAs(queryParameters);
+        assertThat(configuration.getQueryParameters()).containsExactly(new Property("param1", "rendered queryParam1"));
+        assertThat((List<String>) configuration.getPluginSpecifiedTemplates().get(0).getValue())
+                .containsExactly("plain", "rendered formValue");
+    }
+
 }
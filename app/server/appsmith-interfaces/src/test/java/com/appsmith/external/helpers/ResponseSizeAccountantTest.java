@@ -0,0 +1,53 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseSizeAccountantTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void estimateSize_matchesSerializedJsonLength() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 12345);
+        row.put("name", "Appsmith");
+        row.put("active", true);
+        row.put("deleted", false);
+        row.put("manager", null);
+        row.put("tags", List.of("a", "bc"));
+        row.put("scores", new int[]{1, 22, 333});
+
+        final int serializedLength = objectMapper.writeValueAsString(row).length();
+
+        // Separators are counted after every element, including the last one, so the estimate is slightly higher.
+        assertThat(ResponseSizeAccountant.estimateSize(row))
+                .isBetween((long) serializedLength, (long) serializedLength + 15);
+        assertThat(ResponseSizeAccountant.estimateSize(objectMapper.<JsonNode>valueToTree(row)))
+                .isBetween((long) serializedLength, (long) serializedLength + 15);
+    }
+
+    @Test
+    public void add_accumulatesRowsAndReportsLimit() {
+        ResponseSizeAccountant responseSizeAccountant = new ResponseSizeAccountant(1000);
+        ArrayNode rows = objectMapper.createArrayNode();
+
+        while (!responseSizeAccountant.isLimitExceeded()) {
+            JsonNode row = objectMapper.valueToTree(Map.of("id", rows.size(), "value", "some text in the row"));
+            rows.add(row);
+            responseSizeAccountant.add(row);
+        }
+
+        assertThat(responseSizeAccountant.getSize()).isGreaterThan(1000);
+        // The running estimate is the same as measuring all the rows at once, without the surrounding brackets.
+        assertThat(responseSizeAccountant.getSize()).isEqualTo(ResponseSizeAccountant.estimateSize(rows) - 2);
+    }
+}
@@ -1,7 +1,7 @@
 package com.appsmith.external.services;
 
-import com.appsmith.external.constants.DataType;
 import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.SortCondition;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.junit.Test;
@@ -10,7 +10,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -22,19 +21,6 @@ public class FilterDataServiceTest {
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final FilterDataService filterDataService = FilterDataService.getInstance();
 
-    @Test
-    public void testGenerateTable() {
-        Map<String, DataType> schema = Map.of(
-                "id", DataType.INTEGER,
-                "name", DataType.STRING,
-                "status", DataType.BOOLEAN
-        );
-
-        String table = filterDataService.generateTable(schema);
-
-        assertThat(table).isNotNull();
-    }
-
     @Test
     public void testFilterSingleCondition() {
         String data = "[\n" +
@@ -427,6 +413,97 @@ public class FilterDataServiceTest {
             assertEquals(filteredData.size(), 2);
 
 
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testFilterComparesNumericColumnsAsNumbers() {
+        String data = "[\n" +
+                "  {\n" +
+                "    \"id\": \"9\",\n" +
+                "    \"userName\": \"Michael Lawson\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": \"10\",\n" +
+                "    \"userName\": \"Lindsay Ferguson\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": \"\",\n" +
+                "    \"userName\": \"Tobias Funke\"\n" +
+                "  }\n" +
+                "]";
+
+        try {
+            ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+
+            List<Condition> conditionList = new ArrayList<>();
+
+            Condition condition = new Condition("id", "GT", "5");
+            conditionList.add(condition);
+
+            ArrayNode filteredData = filterDataService.filterData(items, conditionList);
+
+            // Rows without a value in the column never match
+            assertEquals(2, filteredData.size());
+            assertEquals(9, filteredData.get(0).get("id").asInt());
+            assertEquals(10, filteredData.get(1).get("id").asInt());
+
+
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    public void testSortWithLimitAndOffset() {
+        String data = "[\n" +
+                "  {\n" +
+                "    \"id\": 2381224,\n" +
+                "    \"orderAmount\": 4.99,\n" +
+                "    \"orderStatus\": \"READY\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": 2736212,\n" +
+                "    \"orderAmount\": 9.99,\n" +
+                "    \"orderStatus\": \"NOT READY\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": 6788734,\n" +
+                "    \"orderAmount\": 19.99,\n" +
+                "    \"orderStatus\": \"READY\"\n" +
+                "  },\n" +
+                "  {\n" +
+                "    \"id\": 7982736,\n" +
+                "    \"orderAmount\": 14.99,\n" +
+                "    \"orderStatus\": \"READY\"\n" +
+                "  }\n" +
+                "]";
+
+        try {
+            ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+
+            List<Condition> conditionList = List.of(new Condition("orderStatus", "EQ", "READY"));
+            List<SortCondition> sortConditions = List.of(new SortCondition("orderAmount", "DESC"));
+
+            ArrayNode sortedData = filterDataService.filterData(items, conditionList, sortConditions, null, null);
+
+            assertEquals(3, sortedData.size());
+            assertEquals(6788734, sortedData.get(0).get("id").asInt());
+            assertEquals(7982736, sortedData.get(1).get("id").asInt());
+            assertEquals(2381224, sortedData.get(2).get("id").asInt());
+
+            ArrayNode pageData = filterDataService.filterData(items, conditionList, sortConditions, 1, 1);
+
+            assertEquals(1, pageData.size());
+            assertEquals(7982736, pageData.get(0).get("id").asInt());
+
+            ArrayNode emptyPageData = filterDataService.filterData(items, conditionList, sortConditions, 2, 5);
+
+            assertEquals(0, emptyPageData.size());
+
+
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -104,9 +104,8 @@ public class GoogleSheetsPlugin extends BasePlugin {
                                 // Replace all the bindings with a placeholder
                                 String updatedValue = MustacheHelper.replaceMustacheWithPlaceholder(propertyValue, mustacheKeysInOrder);
 
-                                updatedValue = (String) smartSubstitutionOfBindings(updatedValue,
-                                        mustacheKeysInOrder,
-                                        executeActionDTO.getParams(),
+                                updatedValue = DataTypeStringUtils.jsonSmartReplacementPlaceholdersWithValues(updatedValue,
+                                        getBindingValuesInOrder(mustacheKeysInOrder, executeActionDTO.getParams()),
                                         parameters);
 
                                 property.setValue(updatedValue);
@@ -278,16 +277,5 @@ public class GoogleSheetsPlugin extends BasePlugin {
             actionConfiguration.setPluginSpecifiedTemplates(pluginSpecifiedTemplates);
             return executeCommon(null, datasourceConfiguration, actionConfiguration);
         }
-
-        @Override
-        public Object substituteValueInInput(int index,
-                                             String binding,
-                                             String value,
-                                             Object input,
-                                             List<Map.Entry<String, String>> insertedParams,
-                                             Object... args) {
-            String jsonBody = (String) input;
-            return DataTypeStringUtils.jsonSmartReplacementPlaceholderWithValue(jsonBody, value, insertedParams);
-        }
     }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mongodb.MongoCommandException;
@@ -36,6 +37,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -1052,6 +1054,128 @@ public class MongoPluginTest {
                 .verifyComplete();
     }
 
+    private static void insertDocuments(String databaseName, String collectionName, List<Document> documents) {
+        final MongoClient mongoClient = MongoClients.create("mongodb://" + address + ":" + port);
+        Mono.from(mongoClient.getDatabase(databaseName).getCollection(collectionName).insertMany(documents)).block();
+        mongoClient.close();
+    }
+
+    /**
+     * Datasource configuration on its own database, with the structure properties set where the datasource form puts
+     * them, i.e. after the connection string properties.
+     */
+    private DatasourceConfiguration createStructureDatasourceConfiguration(String databaseName,
+                                                                           String sampleSize,
+                                                                           String sampleConcurrency) {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        dsConfig.getConnection().setDefaultDatabaseName(databaseName);
+        dsConfig.setProperties(List.of(
+                new Property("Use Mongo Connection String URI", "No"),
+                new Property("Connection String URI", ""),
+                new Property("structureSampleSize", sampleSize),
+                new Property("structureSampleConcurrency", sampleConcurrency)
+        ));
+        return dsConfig;
+    }
+
+    private static Map<String, String> getColumnTypes(DatasourceStructure.Table table) {
+        Map<String, String> columnTypes = new HashMap<>();
+        table.getColumns().forEach(column -> columnTypes.put(column.getName(), column.getType()));
+        return columnTypes;
+    }
+
+    @Test
+    public void testStructureMergesFieldsOfSampledDocuments() {
+        insertDocuments("structureMerge", "people", List.of(
+                new Document("name", "Cierra Vega").append("age", null).append("city", "Lisbon"),
+                new Document("name", "Alden Cantrell").append("age", 30),
+                new Document("email", "kierra@example.com")
+        ));
+
+        DatasourceConfiguration dsConfig = createStructureDatasourceConfiguration("structureMerge", "", "");
+        Mono<DatasourceStructure> structureMono = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMap(connection -> pluginExecutor.getStructure(connection, dsConfig));
+
+        StepVerifier.create(structureMono)
+                .assertNext(structure -> {
+                    assertEquals(1, structure.getTables().size());
+                    // Fields missing in some documents are there, and a field which is null in the fullest document
+                    // gets its type from a document it's set in.
+                    assertEquals(
+                            Map.of(
+                                    "_id", "ObjectId",
+                                    "name", "String",
+                                    "age", "Integer",
+                                    "city", "String",
+                                    "email", "String"
+                            ),
+                            getColumnTypes(structure.getTables().get(0))
+                    );
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testStructureSamplesConfiguredNumberOfDocuments() {
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            documents.add(new Document("name", "Person " + i).append("field" + i, i));
+        }
+        insertDocuments("structureSampleSize", "people", documents);
+
+        // An invalid concurrency falls back to the default
+        DatasourceConfiguration dsConfig = createStructureDatasourceConfiguration("structureSampleSize", "2", "invalid");
+        Mono<DatasourceStructure> structureMono = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMap(connection -> pluginExecutor.getStructure(connection, dsConfig));
+
+        StepVerifier.create(structureMono)
+                .assertNext(structure -> {
+                    assertEquals(1, structure.getTables().size());
+                    // `_id` and `name` of every document, and the one field of its own of each of the 2 sampled ones
+                    Map<String, String> columnTypes = getColumnTypes(structure.getTables().get(0));
+                    assertEquals(4, columnTypes.size());
+                    assertTrue(columnTypes.containsKey("_id"));
+                    assertTrue(columnTypes.containsKey("name"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testStructureStopsSamplingCollectionsOverDocumentsBudget() {
+        for (String collectionName : List.of("first", "second", "third")) {
+            insertDocuments("structureBudget", collectionName, List.of(new Document("name", collectionName)));
+        }
+
+        // A budget of 5000 documents covers only 2 collections when 2500 documents are sampled from each
+        DatasourceConfiguration dsConfig = createStructureDatasourceConfiguration("structureBudget", "2500", "1");
+        Mono<DatasourceStructure> structureMono = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMap(connection -> pluginExecutor.getStructure(connection, dsConfig));
+
+        StepVerifier.create(structureMono)
+                .assertNext(structure -> {
+                    // All the collections are listed, but the one beyond the budget has no fields
+                    assertEquals(3, structure.getTables().size());
+                    assertEquals(2, structure.getTables().stream().filter(table -> !table.getColumns().isEmpty()).count());
+                    assertEquals(1, structure.getTables().stream().filter(table -> table.getColumns().isEmpty()).count());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testStructurePropertiesInDatasourceForm() throws IOException {
+        JsonNode form = new ObjectMapper().readTree(getClass().getClassLoader().getResourceAsStream("form.json"));
+
+        Map<String, String> fixedKeys = new HashMap<>();
+        form.get("form").forEach(section -> section.path("children").forEach(field -> {
+            if (field.has("fixedKey")) {
+                fixedKeys.put(field.get("configProperty").asText(), field.get("fixedKey").asText());
+            }
+        }));
+
+        assertEquals("structureSampleSize", fixedKeys.get("datasourceConfiguration.properties[2]"));
+        assertEquals("structureSampleConcurrency", fixedKeys.get("datasourceConfiguration.properties[3]"));
+    }
+
     @Test
     public void testGetStructureReadPermissionError() {
         MongoClient mockConnection = mock(MongoClient.class);
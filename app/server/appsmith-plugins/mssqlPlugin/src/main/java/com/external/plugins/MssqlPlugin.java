@@ -21,6 +21,10 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
@@ -37,7 +41,6 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.Date;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -63,6 +66,7 @@ import java.util.stream.IntStream;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
+import static com.appsmith.external.helpers.PluginUtils.getIntegerValueSafelyFromPropertyList;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.appsmith.external.models.Connection.Mode.READ_ONLY;
@@ -73,10 +77,18 @@ public class MssqlPlugin extends BasePlugin {
 
     private static final String JDBC_DRIVER = "com.microsoft.sqlserver.jdbc.SQLServerDriver";
 
-    private static final int VALIDITY_CHECK_TIMEOUT = 5;
-
     private static final String DATE_COLUMN_TYPE_NAME = "date";
 
+    private static final int MINIMUM_POOL_SIZE = 1;
+
+    private static final int MAXIMUM_POOL_SIZE = 5;
+
+    private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+
+    private static final String MINIMUM_POOL_SIZE_PROPERTY_KEY = "minimumPoolSize";
+
+    private static final String MAXIMUM_POOL_SIZE_PROPERTY_KEY = "maximumPoolSize";
+
     public MssqlPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -87,7 +99,7 @@ public class MssqlPlugin extends BasePlugin {
 
     @Slf4j
     @Extension
-    public static class MssqlPluginExecutor implements PluginExecutor<Connection>, SmartSubstitutionInterface {
+    public static class MssqlPluginExecutor implements PluginExecutor<HikariDataSource>, SmartSubstitutionInterface {
 
         private final Scheduler scheduler = Schedulers.elastic();
 
@@ -99,8 +111,8 @@ public class MssqlPlugin extends BasePlugin {
          * supported by PreparedStatement. In case of PreparedStatement turned off, the action and datasource configurations are
          * prepared (binding replacement) using PluginExecutor.variableSubstitution
          *
-         * @param connection              : This is the connection that is established to the data source. This connection is according
-         *                                to the parameters in Datasource Configuration
+         * @param connection              : This is the connection pool that is established to the data source. This pool is
+         *                                created according to the parameters in Datasource Configuration
          * @param executeActionDTO        : This is the data structure sent by the client during execute. This contains the params
          *                                which would be used for substitution
          * @param datasourceConfiguration : These are the configurations which have been used to create a Datasource from a Plugin
@@ -108,7 +120,7 @@ public class MssqlPlugin extends BasePlugin {
          * @return
          */
         @Override
-        public Mono<ActionExecutionResult> executeParameterized(Connection connection,
+        public Mono<ActionExecutionResult> executeParameterized(HikariDataSource connection,
                                                                 ExecuteActionDTO executeActionDTO,
                                                                 DatasourceConfiguration datasourceConfiguration,
                                                                 ActionConfiguration actionConfiguration) {
@@ -154,7 +166,7 @@ public class MssqlPlugin extends BasePlugin {
             return executeCommon(connection, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO);
         }
 
-        public Mono<ActionExecutionResult> executeCommon(Connection connection,
+        public Mono<ActionExecutionResult> executeCommon(HikariDataSource connection,
                                                          ActionConfiguration actionConfiguration,
                                                          Boolean preparedStatement,
                                                          List<String> mustacheValuesInOrder,
@@ -170,22 +182,25 @@ public class MssqlPlugin extends BasePlugin {
                     transformedQuery, null, null, psParams));
 
             return Mono.fromCallable(() -> {
-                try {
-                    if (connection == null || connection.isClosed() || !connection.isValid(VALIDITY_CHECK_TIMEOUT)) {
-                        log.info("Encountered stale connection in MsSQL plugin. Reporting back.");
-                        return Mono.error(new StaleConnectionException());
-                    }
-                } catch (SQLException error) {
-                    // This exception is thrown only when the timeout to `isValid` is negative. Since, that's not the case,
-                    // here, this should never happen.
-                    log.error("Error checking validity of MsSQL connection.", error);
-                }
 
+                // Check before borrowing a connection, this path doesn't return it to the pool.
                 if (query == null) {
                     return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "Missing required " +
                             "parameter: Query."));
                 }
 
+                Connection connectionFromPool;
+
+                try {
+                    connectionFromPool = getConnectionFromConnectionPool(connection);
+                } catch (SQLException | StaleConnectionException e) {
+                    // The function can throw either StaleConnectionException or SQLException. The underlying hikari
+                    // library throws SQLException in case the pool is closed or there is an issue initializing
+                    // the connection pool which can also be translated in our world to StaleConnectionException
+                    // and should then trigger the destruction and recreation of the pool.
+                    return Mono.error(e instanceof StaleConnectionException ? e : new StaleConnectionException());
+                }
+
                 List<Map<String, Object>> rowsList = new ArrayList<>(50);
                 final List<String> columnsList = new ArrayList<>();
 
@@ -194,13 +209,25 @@ public class MssqlPlugin extends BasePlugin {
                 ResultSet resultSet = null;
                 boolean isResultSet;
 
+                HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
+
+                int idleConnections = poolProxy.getIdleConnections();
+                int activeConnections = poolProxy.getActiveConnections();
+                int totalConnections = poolProxy.getTotalConnections();
+                int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
+                System.out.println(Thread.currentThread().getName() + ": Before executing MsSQL query [" +
+                        query +
+                        "] Hikari Pool stats : active - " + activeConnections +
+                        ", idle - " + idleConnections +
+                        ", awaiting - " + threadsAwaitingConnection +
+                        ", total - " + totalConnections);
                 try {
                     if (FALSE.equals(preparedStatement)) {
-                        statement = connection.createStatement();
+                        statement = connectionFromPool.createStatement();
                         isResultSet = statement.execute(query);
                         resultSet = statement.getResultSet();
                     } else {
-                        preparedQuery = connection.prepareStatement(query);
+                        preparedQuery = connectionFromPool.prepareStatement(query);
 
                         List<Map.Entry<String, String>> parameters = new ArrayList<>();
                         preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(preparedQuery,
@@ -305,6 +332,13 @@ public class MssqlPlugin extends BasePlugin {
                         }
                     }
 
+                    // Return the connection back to the pool
+                    try {
+                        connectionFromPool.close();
+                    } catch (SQLException e) {
+                        log.warn("Error returning MsSQL connection to pool", e);
+                    }
+
                 }
 
                 ActionExecutionResult result = new ActionExecutionResult();
@@ -354,90 +388,36 @@ public class MssqlPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
-
-            return (Mono<Connection>) Mono.fromCallable(() -> {
-                try {
-                    Class.forName(JDBC_DRIVER);
-                } catch (ClassNotFoundException e) {
-                    return Mono.error(new AppsmithPluginException(
-                            AppsmithPluginError.PLUGIN_ERROR,
-                            "Error loading MsSQL JDBC Driver class."
-                    ));
-                }
-
-                DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
-
-                com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
-
-                final boolean isSslEnabled = configurationConnection != null
-                        && configurationConnection.getSsl() != null
-                        && !SSLDetails.AuthType.NO_SSL.equals(configurationConnection.getSsl().getAuthType());
-
-                StringBuilder urlBuilder = new StringBuilder("jdbc:sqlserver://");
-                for (Endpoint endpoint : datasourceConfiguration.getEndpoints()) {
-                    urlBuilder
-                            .append(endpoint.getHost())
-                            .append(":")
-                            .append(ObjectUtils.defaultIfNull(endpoint.getPort(), 5432L))
-                            .append(";");
-                }
-
-                if (!StringUtils.isEmpty(authentication.getDatabaseName())) {
-                    urlBuilder
-                            .append("database=")
-                            .append(authentication.getDatabaseName())
-                            .append(";");
-                }
-
-                if (!StringUtils.isEmpty(authentication.getUsername())) {
-                    urlBuilder
-                            .append("user=")
-                            .append(authentication.getUsername())
-                            .append(";");
-                }
-
-                if (!StringUtils.isEmpty(authentication.getPassword())) {
-                    urlBuilder
-                            .append("password=")
-                            .append(authentication.getPassword())
-                            .append(";");
-                }
-
-                urlBuilder
-                        .append("encrypt=")
-                        .append(isSslEnabled)
-                        .append(";");
-
-                try {
-                    Connection connection = DriverManager.getConnection(urlBuilder.toString());
-                    connection.setReadOnly(
-                            configurationConnection != null && READ_ONLY.equals(configurationConnection.getMode()));
-                    System.out.println(Thread.currentThread().getName() + ": Connected to MS-SQL Database");
-                    return Mono.just(connection);
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            try {
+                Class.forName(JDBC_DRIVER);
+            } catch (ClassNotFoundException e) {
+                return Mono.error(new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_ERROR,
+                        "Error loading MsSQL JDBC Driver class."
+                ));
+            }
 
-                } catch (SQLException e) {
-                    return Mono.error(new AppsmithPluginException(
-                            AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
-                            "Error connecting to MsSQL: " + e.getMessage()
-                    ));
-                }
-            })
-                    .flatMap(obj -> obj)
+            return Mono
+                    .fromCallable(() -> {
+                        System.out.println(Thread.currentThread().getName() + ": Connecting to MS-SQL Database");
+                        return createConnectionPool(datasourceConfiguration);
+                    })
                     .subscribeOn(scheduler);
         }
 
         @Override
-        public void datasourceDestroy(Connection connection) {
-            try {
-                if (connection != null) {
-                    connection.close();
-                }
-            } catch (SQLException e) {
-                log.error("Error closing MsSQL Connection.", e);
+        public void datasourceDestroy(HikariDataSource connection) {
+            if (connection != null) {
+                connection.close();
             }
         }
 
+        @Override
+        public int getConnectionCount(HikariDataSource connection) {
+            return connection.getMaximumPoolSize();
+        }
+
         @Override
         public Set<String> validateDatasource(@NonNull DatasourceConfiguration datasourceConfiguration) {
             Set<String> invalids = new HashSet<>();
@@ -473,12 +453,8 @@ public class MssqlPlugin extends BasePlugin {
         public Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration) {
             return datasourceCreate(datasourceConfiguration)
                     .map(connection -> {
-                        try {
-                            if (connection != null) {
-                                connection.close();
-                            }
-                        } catch (SQLException e) {
-                            log.warn("Error closing MsSQL connection that was made for testing.", e);
+                        if (connection != null) {
+                            connection.close();
                         }
 
                         return new DatasourceTestResult();
@@ -487,7 +463,7 @@ public class MssqlPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<ActionExecutionResult> execute(Connection connection,
+        public Mono<ActionExecutionResult> execute(HikariDataSource connection,
                                                    DatasourceConfiguration datasourceConfiguration,
                                                    ActionConfiguration actionConfiguration) {
             // Unused function
@@ -573,4 +549,99 @@ public class MssqlPlugin extends BasePlugin {
 
     }
 
+    /**
+     * This function is blocking in nature which connects to the database and creates a connection pool
+     *
+     * @param datasourceConfiguration
+     * @return connection pool
+     */
+    private static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration) throws AppsmithPluginException {
+        HikariConfig config = new HikariConfig();
+
+        config.setDriverClassName(JDBC_DRIVER);
+
+        final int maximumPoolSize = Math.max(1, getIntegerValueSafelyFromPropertyList(
+                datasourceConfiguration.getProperties(), MAXIMUM_POOL_SIZE_PROPERTY_KEY, MAXIMUM_POOL_SIZE));
+        final int minimumPoolSize = Math.min(maximumPoolSize, Math.max(0, getIntegerValueSafelyFromPropertyList(
+                datasourceConfiguration.getProperties(), MINIMUM_POOL_SIZE_PROPERTY_KEY, MINIMUM_POOL_SIZE)));
+        config.setMinimumIdle(minimumPoolSize);
+        config.setMaximumPoolSize(maximumPoolSize);
+
+        DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
+
+        com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
+
+        final boolean isSslEnabled = configurationConnection != null
+                && configurationConnection.getSsl() != null
+                && !SSLDetails.AuthType.NO_SSL.equals(configurationConnection.getSsl().getAuthType());
+
+        StringBuilder urlBuilder = new StringBuilder("jdbc:sqlserver://");
+        for (Endpoint endpoint : datasourceConfiguration.getEndpoints()) {
+            urlBuilder
+                    .append(endpoint.getHost())
+                    .append(":")
+                    .append(ObjectUtils.defaultIfNull(endpoint.getPort(), 5432L))
+                    .append(";");
+        }
+
+        if (!StringUtils.isEmpty(authentication.getDatabaseName())) {
+            urlBuilder
+                    .append("database=")
+                    .append(authentication.getDatabaseName())
+                    .append(";");
+        }
+
+        if (!StringUtils.isEmpty(authentication.getUsername())) {
+            config.setUsername(authentication.getUsername());
+        }
+
+        if (!StringUtils.isEmpty(authentication.getPassword())) {
+            config.setPassword(authentication.getPassword());
+        }
+
+        urlBuilder
+                .append("encrypt=")
+                .append(isSslEnabled)
+                .append(";");
+
+        config.setJdbcUrl(urlBuilder.toString());
+
+        config.setReadOnly(configurationConnection != null && READ_ONLY.equals(configurationConnection.getMode()));
+
+        // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
+        // should get tracked (may be falsely for long running queries) as leaked connection
+        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+
+        // Now create the connection pool from the configuration
+        HikariDataSource datasource;
+        try {
+            datasource = new HikariDataSource(config);
+        } catch (PoolInitializationException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                    "Error connecting to MsSQL: " + e.getMessage()
+            );
+        }
+
+        return datasource;
+    }
+
+    /**
+     * First checks if the connection pool is still valid. If yes, we fetch a connection from the pool and return
+     * In case a connection is not available in the pool, SQL Exception is thrown
+     *
+     * @param connectionPool
+     * @return SQL Connection
+     */
+    private static Connection getConnectionFromConnectionPool(HikariDataSource connectionPool) throws SQLException {
+
+        if (connectionPool == null || connectionPool.isClosed() || !connectionPool.isRunning()) {
+            System.out.println(Thread.currentThread().getName() +
+                    ": Encountered stale connection pool in MsSQL plugin. Reporting back.");
+            throw new StaleConnectionException();
+        }
+
+        return connectionPool.getConnection();
+    }
+
 }
@@ -15,6 +15,7 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.junit.Assert;
@@ -44,6 +45,7 @@ import java.util.stream.Stream;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -153,17 +155,56 @@ public class MssqlPluginTest {
 
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
 
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         StepVerifier.create(dsConnectionMono)
                 .assertNext(Assert::assertNotNull)
                 .verifyComplete();
     }
 
+    @Test
+    public void testConnectionPoolSizeFromDatasourceProperties() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        dsConfig.setProperties(List.of(
+                new Property("minimumPoolSize", "2"),
+                new Property("maximumPoolSize", "7")
+        ));
+
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        StepVerifier.create(dsConnectionMono)
+                .assertNext(pool -> {
+                    assertEquals(2, pool.getMinimumIdle());
+                    assertEquals(7, pool.getMaximumPoolSize());
+                    pluginExecutor.datasourceDestroy(pool);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteWithoutQueryDoesNotBorrowConnection() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource pool = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Mono<ActionExecutionResult> executeMono = pluginExecutor.executeCommon(pool, actionConfiguration, false, null, null);
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals("Missing required parameter: Query.", result.getBody());
+                })
+                .verifyComplete();
+
+        assertEquals(0, pool.getHikariPoolMXBean().getActiveConnections());
+        pluginExecutor.datasourceDestroy(pool);
+    }
+
     @Test
     public void testAliasColumnNames() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("SELECT id as user_id FROM users WHERE id = 1");
@@ -190,7 +231,7 @@ public class MssqlPluginTest {
     @Test
     public void testExecute() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("SELECT * FROM users WHERE id = 1");
@@ -247,7 +288,7 @@ public class MssqlPluginTest {
         auth.setUsername(new ObjectId().toString());
         auth.setPassword(new ObjectId().toString());
 
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         StepVerifier.create(dsConnectionMono)
                 .expectErrorMatches(throwable -> throwable instanceof AppsmithPluginException)
@@ -274,7 +315,7 @@ public class MssqlPluginTest {
         params.add(param);
         executeActionDTO.setParams(params);
 
-        Mono<Connection> connectionCreateMono = pluginExecutor.datasourceCreate(dsConfig).cache();
+        Mono<HikariDataSource> connectionCreateMono = pluginExecutor.datasourceCreate(dsConfig).cache();
 
         Mono<ActionExecutionResult> resultMono = connectionCreateMono
                 .flatMap(pool -> pluginExecutor.executeParameterized(pool, executeActionDTO, dsConfig, actionConfiguration));
@@ -338,7 +379,7 @@ public class MssqlPluginTest {
         params.add(param);
         executeActionDTO.setParams(params);
 
-        Mono<Connection> connectionCreateMono = pluginExecutor.datasourceCreate(dsConfig).cache();
+        Mono<HikariDataSource> connectionCreateMono = pluginExecutor.datasourceCreate(dsConfig).cache();
 
         Mono<ActionExecutionResult> resultMono = connectionCreateMono
                 .flatMap(pool -> pluginExecutor.executeParameterized(pool, executeActionDTO, dsConfig, actionConfiguration));
@@ -412,7 +453,7 @@ public class MssqlPluginTest {
         params.add(param);
         executeActionDTO.setParams(params);
 
-        Mono<Connection> connectionCreateMono = pluginExecutor.datasourceCreate(dsConfig).cache();
+        Mono<HikariDataSource> connectionCreateMono = pluginExecutor.datasourceCreate(dsConfig).cache();
 
         Mono<ActionExecutionResult> resultMono = connectionCreateMono
                 .flatMap(pool -> pluginExecutor.executeParameterized(pool, executeActionDTO, dsConfig, actionConfiguration));
@@ -473,7 +514,7 @@ public class MssqlPluginTest {
         params.add(param);
         executeActionDTO.setParams(params);
 
-        Mono<Connection> connectionCreateMono = pluginExecutor.datasourceCreate(dsConfig).cache();
+        Mono<HikariDataSource> connectionCreateMono = pluginExecutor.datasourceCreate(dsConfig).cache();
 
         Mono<ActionExecutionResult> resultMono = connectionCreateMono
                 .flatMap(pool -> pluginExecutor.executeParameterized(pool, executeActionDTO, dsConfig, actionConfiguration));
@@ -524,7 +565,7 @@ public class MssqlPluginTest {
         params.add(param);
         executeActionDTO.setParams(params);
 
-        Mono<Connection> connectionCreateMono = pluginExecutor.datasourceCreate(dsConfig).cache();
+        Mono<HikariDataSource> connectionCreateMono = pluginExecutor.datasourceCreate(dsConfig).cache();
 
         Mono<ActionExecutionResult> resultMono = connectionCreateMono
                 .flatMap(pool -> pluginExecutor.executeParameterized(pool, executeActionDTO, dsConfig, actionConfiguration));
@@ -555,7 +596,7 @@ public class MssqlPluginTest {
     @Test
     public void testDuplicateColumnNames() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("SELECT id, username as id, password, email as password FROM users WHERE id = 1");
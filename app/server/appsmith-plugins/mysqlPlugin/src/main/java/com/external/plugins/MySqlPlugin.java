@@ -22,12 +22,19 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.external.utils.QueryUtils;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
 import io.r2dbc.spi.ColumnMetadata;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.ConnectionFactoryOptions;
 import io.r2dbc.spi.Option;
+import io.r2dbc.spi.R2dbcTimeoutException;
 import io.r2dbc.spi.Result;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
@@ -59,6 +66,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
@@ -68,7 +76,9 @@ import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATI
 import static com.appsmith.external.helpers.PluginUtils.MATCH_QUOTED_WORDS_REGEX;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
+import static com.appsmith.external.helpers.PluginUtils.getIntegerValueSafelyFromPropertyList;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
+import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromPropertyList;
 import static io.r2dbc.spi.ConnectionFactoryOptions.SSL;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -81,6 +91,21 @@ public class MySqlPlugin extends BasePlugin {
     private static final int VALIDATION_CHECK_TIMEOUT = 4; // seconds
     private static final String IS_KEY = "is";
 
+    /*
+     * - Defaults for the connection pool created per datasource. Each of these can be overridden from the datasource
+     * configuration form via the properties with the corresponding keys below.
+     */
+    private static final int MINIMUM_POOL_SIZE = 1;
+    private static final int MAXIMUM_POOL_SIZE = 5;
+    private static final int ACQUIRE_TIMEOUT_SECONDS = 10;
+    private static final int MAX_IDLE_TIME_SECONDS = 10 * 60;
+    private static final String SERVER_TIMEZONE_PROPERTY_KEY = "serverTimezone";
+    private static final String MINIMUM_POOL_SIZE_PROPERTY_KEY = "minimumPoolSize";
+    private static final String MAXIMUM_POOL_SIZE_PROPERTY_KEY = "maximumPoolSize";
+    private static final String ACQUIRE_TIMEOUT_PROPERTY_KEY = "acquireTimeoutSeconds";
+    private static final String MAX_IDLE_TIME_PROPERTY_KEY = "maxIdleTimeSeconds";
+    private static final String CONNECTION_POOL_STATS_KEY = "connectionPoolStats";
+
     /**
      * Example output for COLUMNS_QUERY:
      * +------------+-----------+-------------+-------------+-------------+------------+----------------+
@@ -139,7 +164,7 @@ public class MySqlPlugin extends BasePlugin {
 
     @Slf4j
     @Extension
-    public static class MySqlPluginExecutor implements PluginExecutor<Connection>, SmartSubstitutionInterface {
+    public static class MySqlPluginExecutor implements PluginExecutor<ConnectionPool>, SmartSubstitutionInterface {
 
         private final Scheduler scheduler = Schedulers.elastic();
 
@@ -151,8 +176,8 @@ public class MySqlPlugin extends BasePlugin {
          * supported by PreparedStatement. In case of PreparedStatement turned off, the action and datasource configurations are
          * prepared (binding replacement) using PluginExecutor.variableSubstitution
          *
-         * @param connection              : This is the connection that is established to the data source. This connection is according
-         *                                to the parameters in Datasource Configuration
+         * @param connectionPool          : This is the connection pool that is established to the data source. This pool is
+         *                                created according to the parameters in Datasource Configuration
          * @param executeActionDTO        : This is the data structure sent by the client during execute. This contains the params
          *                                which would be used for substitution
          * @param datasourceConfiguration : These are the configurations which have been used to create a Datasource from a Plugin
@@ -160,7 +185,7 @@ public class MySqlPlugin extends BasePlugin {
          * @return
          */
         @Override
-        public Mono<ActionExecutionResult> executeParameterized(Connection connection,
+        public Mono<ActionExecutionResult> executeParameterized(ConnectionPool connectionPool,
                                                                 ExecuteActionDTO executeActionDTO,
                                                                 DatasourceConfiguration datasourceConfiguration,
                                                                 ActionConfiguration actionConfiguration) {
@@ -208,7 +233,7 @@ public class MySqlPlugin extends BasePlugin {
             // In case of non prepared statement, simply do binding replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
                 prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
-                return executeCommon(connection, actionConfiguration, FALSE, null, null, requestData);
+                return executeCommon(connectionPool, actionConfiguration, FALSE, null, null, requestData);
             }
 
             //This has to be executed as Prepared Statement
@@ -218,10 +243,10 @@ public class MySqlPlugin extends BasePlugin {
             String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
             // Set the query with bindings extracted and replaced with '?' back in config
             actionConfiguration.setBody(updatedQuery);
-            return executeCommon(connection, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO, requestData);
+            return executeCommon(connectionPool, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO, requestData);
         }
 
-        public Mono<ActionExecutionResult> executeCommon(Connection connection,
+        public Mono<ActionExecutionResult> executeCommon(ConnectionPool connectionPool,
                                                          ActionConfiguration actionConfiguration,
                                                          Boolean preparedStatement,
                                                          List<String> mustacheValuesInOrder,
@@ -251,68 +276,80 @@ public class MySqlPlugin extends BasePlugin {
 
             boolean isSelectOrShowQuery = getIsSelectOrShowQuery(finalQuery);
 
-            final List<Map<String, Object>> rowsList = new ArrayList<>(50);
+            // Each row is converted to a JSON node as soon as it is read, so that the result is never held in memory
+            // both as a list of maps and as a JSON tree.
+            final ArrayNode rowsArray = objectMapper.createArrayNode();
             final List<String> columnsList = new ArrayList<>();
             Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
             String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(finalQuery) : finalQuery;
             List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY,
                     transformedQuery, null, null, psParams));
 
-            // TODO: need to write a JUnit TC for VALIDATION_CHECK_TIMEOUT
-            Flux<Result> resultFlux = Mono.from(connection.validate(ValidationDepth.REMOTE))
-                    .timeout(Duration.ofSeconds(VALIDATION_CHECK_TIMEOUT))
-                    .onErrorMap(TimeoutException.class, error -> new StaleConnectionException())
-                    .flatMapMany(isValid -> {
-                        if (isValid) {
-                            return createAndExecuteQueryFromConnection(finalQuery,
-                                    connection,
-                                    preparedStatement,
-                                    mustacheValuesInOrder,
-                                    executeActionDTO,
-                                    requestData,
-                                    psParams);
+            /*
+             * - A connection is borrowed from the pool for the lifetime of this query only and is handed back to the
+             * pool once all the rows have been read (or the query fails), so that concurrent executions against the
+             * same datasource run on separate connections.
+             */
+            Mono<ArrayNode> resultMono = Mono.usingWhen(
+                    getConnectionFromConnectionPool(connectionPool),
+                    connection -> {
+                        // TODO: need to write a JUnit TC for VALIDATION_CHECK_TIMEOUT
+                        Flux<Result> resultFlux = Mono.from(connection.validate(ValidationDepth.REMOTE))
+                                .timeout(Duration.ofSeconds(VALIDATION_CHECK_TIMEOUT))
+                                .onErrorMap(TimeoutException.class, error -> new StaleConnectionException())
+                                .flatMapMany(isValid -> {
+                                    if (isValid) {
+                                        return createAndExecuteQueryFromConnection(finalQuery,
+                                                connection,
+                                                preparedStatement,
+                                                mustacheValuesInOrder,
+                                                executeActionDTO,
+                                                requestData,
+                                                psParams);
+                                    }
+                                    return Flux.error(new StaleConnectionException());
+                                });
+
+                        if (isSelectOrShowQuery) {
+                            return resultFlux
+                                    .flatMap(result ->
+                                            result.map((row, meta) -> {
+                                                        rowsArray.add(objectMapper.<JsonNode>valueToTree(getRow(row, meta)));
+
+                                                        if (columnsList.isEmpty()) {
+                                                            columnsList.addAll(meta.getColumnNames());
+                                                        }
+
+                                                        return result;
+                                                    }
+                                            )
+                                    )
+                                    .then(Mono.just(rowsArray));
                         }
-                        return Flux.error(new StaleConnectionException());
-                    });
-
-            Mono<List<Map<String, Object>>> resultMono;
 
-            if (isSelectOrShowQuery) {
-                resultMono = resultFlux
-                        .flatMap(result ->
-                                result.map((row, meta) -> {
-                                            rowsList.add(getRow(row, meta));
-
-                                            if (columnsList.isEmpty()) {
-                                                columnsList.addAll(meta.getColumnNames());
-                                            }
-
-                                            return result;
-                                        }
-                                )
-                        )
-                        .collectList()
-                        .thenReturn(rowsList);
-            } else {
-                resultMono = resultFlux
-                        .flatMap(Result::getRowsUpdated)
-                        .collectList()
-                        .flatMap(list -> Mono.just(list.get(list.size() - 1)))
-                        .map(rowsUpdated -> {
-                            rowsList.add(
-                                    Map.of(
-                                            "affectedRows",
-                                            ObjectUtils.defaultIfNull(rowsUpdated, 0)
-                                    )
-                            );
-                            return rowsList;
-                        });
-            }
+                        return resultFlux
+                                .flatMap(Result::getRowsUpdated)
+                                .collectList()
+                                .flatMap(list -> Mono.just(list.get(list.size() - 1)))
+                                .map(rowsUpdated -> {
+                                    rowsArray.add(
+                                            objectMapper.<JsonNode>valueToTree(
+                                                    Map.of(
+                                                            "affectedRows",
+                                                            ObjectUtils.defaultIfNull(rowsUpdated, 0)
+                                                    )
+                                            )
+                                    );
+                                    return rowsArray;
+                                });
+                    },
+                    Connection::close
+            );
 
             return resultMono
                     .map(res -> {
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rowsArray);
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         System.out.println(Thread.currentThread().getName() + " In the MySqlPlugin, got action " +
@@ -330,6 +367,9 @@ public class MySqlPlugin extends BasePlugin {
                     })
                     // Now set the request in the result to be returned back to the server
                     .map(actionExecutionResult -> {
+                        getConnectionPoolStats(connectionPool)
+                                .ifPresent(poolStats -> requestData.put(CONNECTION_POOL_STATS_KEY, poolStats));
+
                         ActionExecutionRequest request = new ActionExecutionRequest();
                         request.setQuery(finalQuery);
                         request.setProperties(requestData);
@@ -342,6 +382,50 @@ public class MySqlPlugin extends BasePlugin {
 
         }
 
+        /**
+         * First checks if the connection pool is still usable. If yes, a connection is acquired from the pool.
+         * In case the pool has already been disposed of, a StaleConnectionException is reported back so that the
+         * server destroys the pool and creates a new one. If no connection frees up within the configured acquire
+         * timeout, a plugin error is returned instead, since the pool itself is still healthy.
+         *
+         * @param connectionPool
+         * @return r2dbc Connection
+         */
+        private Mono<Connection> getConnectionFromConnectionPool(ConnectionPool connectionPool) {
+            if (connectionPool == null || connectionPool.isDisposed()) {
+                System.out.println(Thread.currentThread().getName() +
+                        ": Encountered stale connection pool in MySQL plugin. Reporting back.");
+                return Mono.error(new StaleConnectionException());
+            }
+
+            return connectionPool.create()
+                    .onErrorMap(
+                            error -> error instanceof TimeoutException || error instanceof R2dbcTimeoutException,
+                            error -> new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_DATASOURCE_TIMEOUT_ERROR,
+                            "Timed out while waiting for a free connection to the MySQL database. Please try again " +
+                                    "later or increase the maximum pool size of the datasource."
+                    ))
+                    .onErrorMap(IllegalStateException.class, error -> new StaleConnectionException());
+        }
+
+        /**
+         * Returns the current counters of the connection pool, e.g. {acquired: 2, idle: 1, pending: 0, ...}. These are
+         * returned back as part of the action execution request, so that pool saturation is visible to the user.
+         */
+        private Optional<Map<String, Object>> getConnectionPoolStats(ConnectionPool connectionPool) {
+            return connectionPool.getMetrics()
+                    .map(metrics -> {
+                        Map<String, Object> poolStats = new LinkedHashMap<>();
+                        poolStats.put("acquired", metrics.acquiredSize());
+                        poolStats.put("allocated", metrics.allocatedSize());
+                        poolStats.put("idle", metrics.idleSize());
+                        poolStats.put("pending", metrics.pendingAcquireSize());
+                        poolStats.put("maxAllocated", metrics.getMaxAllocatedSize());
+                        return poolStats;
+                    });
+        }
+
         private boolean isIsOperatorUsed(String query) {
             String queryKeyWordsOnly = query.replaceAll(MATCH_QUOTED_WORDS_REGEX, "");
             return Arrays.stream(queryKeyWordsOnly.split("\\s"))
@@ -498,7 +582,30 @@ public class MySqlPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<ConnectionPool> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            return getConnectionFactory(datasourceConfiguration)
+                    .flatMap(connectionFactory -> {
+                        ConnectionPool connectionPool = createConnectionPool(connectionFactory, datasourceConfiguration);
+
+                        /*
+                         * - Open the initial connections right away, so that any issue with the datasource
+                         * configuration is reported at the time of creating the datasource and not on the first
+                         * query.
+                         */
+                        return connectionPool.warmup()
+                                .thenReturn(connectionPool)
+                                .onErrorResume(exception -> {
+                                    connectionPool.dispose();
+                                    return Mono.error(new AppsmithPluginException(
+                                            AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                                            exception
+                                    ));
+                                });
+                    })
+                    .subscribeOn(scheduler);
+        }
+
+        private Mono<ConnectionFactory> getConnectionFactory(DatasourceConfiguration datasourceConfiguration) {
             DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
 
             StringBuilder urlBuilder = new StringBuilder();
@@ -521,15 +628,10 @@ public class MySqlPlugin extends BasePlugin {
             }
 
             urlBuilder.append("?zeroDateTimeBehavior=convertToNull");
-            final List<Property> dsProperties = datasourceConfiguration.getProperties();
-
-            if (dsProperties != null) {
-                for (Property property : dsProperties) {
-                    if ("serverTimezone".equals(property.getKey()) && !StringUtils.isEmpty(property.getValue())) {
-                        urlBuilder.append("&serverTimezone=").append(property.getValue());
-                        break;
-                    }
-                }
+            final Object serverTimezone = getValueSafelyFromPropertyList(datasourceConfiguration.getProperties(),
+                    SERVER_TIMEZONE_PROPERTY_KEY);
+            if (!StringUtils.isEmpty(serverTimezone)) {
+                urlBuilder.append("&serverTimezone=").append(serverTimezone);
             }
 
 
@@ -583,19 +685,41 @@ public class MySqlPlugin extends BasePlugin {
                     );
             }
 
-            return (Mono<Connection>) Mono.from(ConnectionFactories.get(ob.build()).create())
-                    .onErrorResume(exception -> Mono.error(new AppsmithPluginException(
-                            AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
-                            exception
-                    )))
-                    .subscribeOn(scheduler);
+            return Mono.just(ConnectionFactories.get(ob.build()));
+        }
+
+        /**
+         * Wraps the connection factory in a pool. The pool size, the time to wait for a free connection and the time
+         * after which idle connections are evicted default to the constants defined on top of the page, but may be
+         * overridden per datasource via the datasource configuration properties.
+         */
+        private ConnectionPool createConnectionPool(ConnectionFactory connectionFactory,
+                                                    DatasourceConfiguration datasourceConfiguration) {
+            final List<Property> dsProperties = datasourceConfiguration.getProperties();
+            final int maximumPoolSize = Math.max(1, getIntegerValueSafelyFromPropertyList(dsProperties,
+                    MAXIMUM_POOL_SIZE_PROPERTY_KEY, MAXIMUM_POOL_SIZE));
+            final int minimumPoolSize = Math.min(maximumPoolSize, Math.max(0, getIntegerValueSafelyFromPropertyList(
+                    dsProperties, MINIMUM_POOL_SIZE_PROPERTY_KEY, MINIMUM_POOL_SIZE)));
+            final long acquireTimeoutSeconds = getIntegerValueSafelyFromPropertyList(dsProperties,
+                    ACQUIRE_TIMEOUT_PROPERTY_KEY, ACQUIRE_TIMEOUT_SECONDS);
+            final long maxIdleTimeSeconds = getIntegerValueSafelyFromPropertyList(dsProperties,
+                    MAX_IDLE_TIME_PROPERTY_KEY, MAX_IDLE_TIME_SECONDS);
+
+            ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder(connectionFactory)
+                    .initialSize(minimumPoolSize)
+                    .maxSize(maximumPoolSize)
+                    .maxAcquireTime(Duration.ofSeconds(acquireTimeoutSeconds))
+                    .maxIdleTime(Duration.ofSeconds(maxIdleTimeSeconds))
+                    .build();
+
+            return new ConnectionPool(poolConfiguration);
         }
 
         @Override
-        public void datasourceDestroy(Connection connection) {
+        public void datasourceDestroy(ConnectionPool connectionPool) {
 
-            if (connection != null) {
-                Mono.from(connection.close())
+            if (connectionPool != null) {
+                connectionPool.disposeLater()
                         .onErrorResume(exception -> {
                             log.debug("In datasourceDestroy function error mode.", exception);
                             return Mono.empty();
@@ -605,6 +729,13 @@ public class MySqlPlugin extends BasePlugin {
             }
         }
 
+        @Override
+        public int getConnectionCount(ConnectionPool connectionPool) {
+            return connectionPool.getMetrics()
+                    .map(PoolMetrics::getMaxAllocatedSize)
+                    .orElse(MAXIMUM_POOL_SIZE);
+        }
+
         @Override
         public Set<String> validateDatasource(DatasourceConfiguration datasourceConfiguration) {
 
@@ -660,7 +791,9 @@ public class MySqlPlugin extends BasePlugin {
 
         @Override
         public Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration) {
-            return datasourceCreate(datasourceConfiguration)
+            // A single connection is sufficient to test the datasource, there is no need to spin up a whole pool.
+            return getConnectionFactory(datasourceConfiguration)
+                    .flatMap(connectionFactory -> Mono.from(connectionFactory.create()))
                     .flatMap(connection -> Mono.from(connection.close()))
                     .then(Mono.just(new DatasourceTestResult()))
                     .onErrorResume(error -> {
@@ -821,7 +954,17 @@ public class MySqlPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+        public Mono<DatasourceStructure> getStructure(ConnectionPool connectionPool,
+                                                      DatasourceConfiguration datasourceConfiguration) {
+            return Mono.usingWhen(
+                    getConnectionFromConnectionPool(connectionPool),
+                    this::getStructureFromConnection,
+                    Connection::close
+            )
+                    .subscribeOn(scheduler);
+        }
+
+        private Mono<DatasourceStructure> getStructureFromConnection(Connection connection) {
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
@@ -872,8 +1015,7 @@ public class MySqlPlugin extends BasePlugin {
                         }
 
                         return e;
-                    })
-                    .subscribeOn(scheduler);
+                    });
         }
     }
 }
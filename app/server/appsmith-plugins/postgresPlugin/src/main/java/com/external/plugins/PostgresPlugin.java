@@ -7,6 +7,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResponseSizeAccountant;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -23,6 +24,8 @@ import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.appsmith.external.services.SharedConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
@@ -73,7 +76,6 @@ import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATI
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
@@ -113,8 +115,6 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
-
     private static int MAX_SIZE_SUPPORTED;
 
     public PostgresPlugin(PluginWrapper wrapper) {
@@ -272,7 +272,9 @@ public class PostgresPlugin extends BasePlugin {
                     return Mono.error(e instanceof StaleConnectionException ? e : new StaleConnectionException());
                 }
 
-                List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                // Each row is converted to a JSON node as soon as it is read, so that the result is never held in
+                // memory both as a list of maps and as a JSON tree.
+                final ArrayNode rowsArray = objectMapper.createArrayNode();
                 final List<String> columnsList = new ArrayList<>();
 
                 Statement statement = null;
@@ -325,7 +327,7 @@ public class PostgresPlugin extends BasePlugin {
                                 ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0) :
                                 ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-                        rowsList.add(Map.of("affectedRows", updateCount));
+                        rowsArray.add(objectMapper.<JsonNode>valueToTree(Map.of("affectedRows", updateCount)));
 
                     } else {
 
@@ -333,21 +335,10 @@ public class PostgresPlugin extends BasePlugin {
                         int colCount = metaData.getColumnCount();
                         columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
-                        int iterator = 0;
+                        // Each row is measured once as it is read, so the size check stays cheap for large results.
+                        final ResponseSizeAccountant responseSizeAccountant = new ResponseSizeAccountant(MAX_SIZE_SUPPORTED);
                         while (resultSet.next()) {
 
-                            // Only check the data size at low frequency to ensure the performance is not impacted heavily
-                            if (iterator% HEAVY_OP_FREQUENCY == 0) {
-                                int objectSize = sizeof(rowsList);
-
-                                if (objectSize > MAX_SIZE_SUPPORTED) {
-                                    System.out.println(Thread.currentThread().getName() +
-                                            "[PostgresPlugin] Result size greater than maximum supported size of "
-                                            + MAX_SIZE_SUPPORTED + "bytes. Current size : " + objectSize);
-                                    return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED, (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                }
-                            }
-
                             // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
                             Map<String, Object> row = new LinkedHashMap<>(colCount);
 
@@ -405,9 +396,16 @@ public class PostgresPlugin extends BasePlugin {
                                 row.put(metaData.getColumnName(i), value);
                             }
 
-                            rowsList.add(row);
+                            final JsonNode rowNode = objectMapper.valueToTree(row);
+                            rowsArray.add(rowNode);
 
-                            iterator++;
+                            responseSizeAccountant.add(rowNode);
+                            if (responseSizeAccountant.isLimitExceeded()) {
+                                System.out.println(Thread.currentThread().getName() +
+                                        "[PostgresPlugin] Result size greater than maximum supported size of "
+                                        + MAX_SIZE_SUPPORTED + "bytes. Current size : " + responseSizeAccountant.getSize());
+                                return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_MAX_RESULT_SIZE_EXCEEDED, (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
+                            }
                         }
                     }
 
@@ -468,7 +466,7 @@ public class PostgresPlugin extends BasePlugin {
                 }
 
                 ActionExecutionResult result = new ActionExecutionResult();
-                result.setBody(objectMapper.valueToTree(rowsList));
+                result.setBody(rowsArray);
                 result.setMessages(populateHintMessages(columnsList));
                 result.setIsExecutionSuccess(true);
                 System.out.println(Thread.currentThread().getName() + ": In the PostgresPlugin, got action execution result");
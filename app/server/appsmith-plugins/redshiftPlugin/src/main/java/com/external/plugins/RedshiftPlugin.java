@@ -15,6 +15,10 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
@@ -27,7 +31,6 @@ import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -42,24 +45,26 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
+import static com.appsmith.external.helpers.PluginUtils.getIntegerValueSafelyFromPropertyList;
 import static com.appsmith.external.models.Connection.Mode.READ_ONLY;
 
 
 public class RedshiftPlugin extends BasePlugin {
     static final String JDBC_DRIVER = "com.amazon.redshift.jdbc.Driver";
     private static final String JDBC_PROTOCOL = "jdbc:redshift://";
-    private static final String USER = "user";
-    private static final String PASSWORD = "password";
     private static final String SSL = "ssl";
-    private static final int VALIDITY_CHECK_TIMEOUT = 5; /* must be positive, otherwise may receive exception */
     private static final String DATE_COLUMN_TYPE_NAME = "date";
+    private static final int MINIMUM_POOL_SIZE = 1;
+    private static final int MAXIMUM_POOL_SIZE = 5;
+    private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+    private static final String MINIMUM_POOL_SIZE_PROPERTY_KEY = "minimumPoolSize";
+    private static final String MAXIMUM_POOL_SIZE_PROPERTY_KEY = "maximumPoolSize";
 
     public RedshiftPlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -67,7 +72,7 @@ public class RedshiftPlugin extends BasePlugin {
 
     @Slf4j
     @Extension
-    public static class RedshiftPluginExecutor implements PluginExecutor<Connection> {
+    public static class RedshiftPluginExecutor implements PluginExecutor<HikariDataSource> {
 
         private final Scheduler scheduler = Schedulers.elastic();
 
@@ -205,18 +210,34 @@ public class RedshiftPlugin extends BasePlugin {
         }
 
         /*
-         * 1. This method can throw SQLException via connection.isClosed() or connection.isValid(...)
+         * 1. This method can throw SQLException via connectionPool.getConnection()
          * 2. StaleConnectionException thrown by this method needs to be propagated to upper layers so that a retry
          *    can be triggered.
          */
-        private void checkConnectionValidity(Connection connection) throws SQLException {
-            if (connection == null || connection.isClosed()) {
+        private Connection getConnectionFromConnectionPool(HikariDataSource connectionPool) throws SQLException {
+            if (connectionPool == null || connectionPool.isClosed() || !connectionPool.isRunning()) {
+                System.out.println(Thread.currentThread().getName() +
+                        ": Encountered stale connection pool in Redshift plugin. Reporting back.");
                 throw new StaleConnectionException();
             }
+
+            return connectionPool.getConnection();
+        }
+
+        private void printConnectionPoolStatus(HikariDataSource connectionPool, boolean isFetchingStructure) {
+            HikariPoolMXBean poolProxy = connectionPool.getHikariPoolMXBean();
+            int idleConnections = poolProxy.getIdleConnections();
+            int activeConnections = poolProxy.getActiveConnections();
+            int totalConnections = poolProxy.getTotalConnections();
+            int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
+            System.out.println(Thread.currentThread().getName() + (isFetchingStructure ? ": Before fetching Redshift " +
+                    "db structure." : ": Before executing Redshift query.") + " Hikari Pool stats : active - "
+                    + activeConnections + ", idle - " + idleConnections + ", awaiting - " + threadsAwaitingConnection
+                    + ", total - " + totalConnections);
         }
 
         @Override
-        public Mono<ActionExecutionResult> execute(Connection connection,
+        public Mono<ActionExecutionResult> execute(HikariDataSource connectionPool,
                                                    DatasourceConfiguration datasourceConfiguration,
                                                    ActionConfiguration actionConfiguration) {
 
@@ -235,14 +256,17 @@ public class RedshiftPlugin extends BasePlugin {
 
             return Mono.fromCallable(() -> {
                 /*
-                 * 1. If there is any issue with checking connection validity then assume that the connection is stale.
+                 * 1. If there is any issue with getting a connection from the pool then assume that the pool is stale.
                  */
+                Connection connection;
                 try {
-                    checkConnectionValidity(connection);
-                } catch (SQLException e) {
-                    return Mono.error(new StaleConnectionException());
+                    connection = getConnectionFromConnectionPool(connectionPool);
+                } catch (SQLException | StaleConnectionException e) {
+                    return Mono.error(e instanceof StaleConnectionException ? e : new StaleConnectionException());
                 }
 
+                printConnectionPoolStatus(connectionPool, false);
+
                 List<Map<String, Object>> rowsList = new ArrayList<>(50);
                 final List<String> columnsList = new ArrayList<>();
                 Statement statement = null;
@@ -288,10 +312,11 @@ public class RedshiftPlugin extends BasePlugin {
                         }
                     }
 
+                    // Return the connection back to the pool
                     try {
                         connection.close();
                     } catch (SQLException e) {
-                        log.warn("Error closing Redshift Connection", e);
+                        log.warn("Error returning Redshift connection to pool", e);
                     }
 
                 }
@@ -352,13 +377,40 @@ public class RedshiftPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             try {
                 Class.forName(JDBC_DRIVER);
             } catch (ClassNotFoundException e) {
                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Error loading Redshift JDBC Driver class."));
             }
 
+            return Mono
+                    .fromCallable(() -> {
+                        System.out.println(Thread.currentThread().getName() + ": Connecting to Redshift db");
+                        return createConnectionPool(datasourceConfiguration);
+                    })
+                    .subscribeOn(scheduler);
+        }
+
+        /**
+         * This function is blocking in nature which connects to the database and creates a connection pool
+         *
+         * @param datasourceConfiguration
+         * @return connection pool
+         */
+        private HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration)
+                throws AppsmithPluginException {
+            HikariConfig config = new HikariConfig();
+
+            config.setDriverClassName(JDBC_DRIVER);
+
+            final int maximumPoolSize = Math.max(1, getIntegerValueSafelyFromPropertyList(
+                    datasourceConfiguration.getProperties(), MAXIMUM_POOL_SIZE_PROPERTY_KEY, MAXIMUM_POOL_SIZE));
+            final int minimumPoolSize = Math.min(maximumPoolSize, Math.max(0, getIntegerValueSafelyFromPropertyList(
+                    datasourceConfiguration.getProperties(), MINIMUM_POOL_SIZE_PROPERTY_KEY, MINIMUM_POOL_SIZE)));
+            config.setMinimumIdle(minimumPoolSize);
+            config.setMaximumPoolSize(maximumPoolSize);
+
             String url;
             DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
 
@@ -368,13 +420,12 @@ public class RedshiftPlugin extends BasePlugin {
                     && configurationConnection.getSsl() != null
                     && !SSLDetails.AuthType.NO_SSL.equals(configurationConnection.getSsl().getAuthType());
 
-            Properties properties = new Properties();
-            properties.put(SSL, isSslEnabled);
+            config.addDataSourceProperty(SSL, isSslEnabled);
             if (authentication.getUsername() != null) {
-                properties.put(USER, authentication.getUsername());
+                config.setUsername(authentication.getUsername());
             }
             if (authentication.getPassword() != null) {
-                properties.put(PASSWORD, authentication.getPassword());
+                config.setPassword(authentication.getPassword());
             }
 
             if (CollectionUtils.isEmpty(datasourceConfiguration.getEndpoints())) {
@@ -396,40 +447,42 @@ public class RedshiftPlugin extends BasePlugin {
                 url = urlBuilder.toString();
             }
 
-            return Mono.fromCallable(() -> {
-                try {
-                    System.out.println(Thread.currentThread().getName() + ": Connecting to Redshift db");
-                    Connection connection = DriverManager.getConnection(url, properties);
-                    connection.setReadOnly(
-                            configurationConnection != null && READ_ONLY.equals(configurationConnection.getMode()));
-                    return Mono.just(connection);
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                    return Mono.error(
-                            new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
-                                    e.getMessage()
-                            )
-                    );
-                }
-            })
-                    .flatMap(obj -> obj)
-                    .map(conn -> (Connection) conn)
-                    .subscribeOn(scheduler);
+            config.setJdbcUrl(url);
+
+            config.setReadOnly(configurationConnection != null && READ_ONLY.equals(configurationConnection.getMode()));
+
+            // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60
+            // seconds should get tracked (may be falsely for long running queries) as leaked connection
+            config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+
+            // Now create the connection pool from the configuration
+            HikariDataSource datasource;
+            try {
+                datasource = new HikariDataSource(config);
+            } catch (PoolInitializationException e) {
+                e.printStackTrace();
+                // Report the driver's reason for the failure rather than Hikari's wrapper message.
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                        e.getCause() != null ? e.getCause().getMessage() : e.getMessage()
+                );
+            }
+
+            return datasource;
         }
 
         @Override
-        public void datasourceDestroy(Connection connection) {
-            try {
-                if (connection != null) {
-                    connection.close();
-                }
-            } catch (SQLException e) {
-                System.out.println(Thread.currentThread().getName() + ": Error closing Redshift Connection. " + e);
-                log.error("Error closing Redshift Connection.", e);
+        public void datasourceDestroy(HikariDataSource connectionPool) {
+            if (connectionPool != null) {
+                connectionPool.close();
             }
         }
 
+        @Override
+        public int getConnectionCount(HikariDataSource connectionPool) {
+            return connectionPool.getMaximumPoolSize();
+        }
+
         @Override
         public Set<String> validateDatasource(@NonNull DatasourceConfiguration datasourceConfiguration) {
             Set<String> invalids = new HashSet<>();
@@ -475,13 +528,9 @@ public class RedshiftPlugin extends BasePlugin {
         @Override
         public Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration) {
             return datasourceCreate(datasourceConfiguration)
-                    .map(connection -> {
-                        try {
-                            if (connection != null) {
-                                connection.close();
-                            }
-                        } catch (SQLException e) {
-                            log.warn("Error closing Redshift connection that was made for testing.", e);
+                    .map(connectionPool -> {
+                        if (connectionPool != null) {
+                            connectionPool.close();
                         }
 
                         return new DatasourceTestResult();
@@ -630,21 +679,25 @@ public class RedshiftPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
-            /*
-             * 1. If there is any issue with checking connection validity then assume that the connection is stale.
-             */
-            try {
-                checkConnectionValidity(connection);
-            } catch (SQLException e) {
-                return Mono.error(new StaleConnectionException());
-            }
-
+        public Mono<DatasourceStructure> getStructure(HikariDataSource connectionPool,
+                                                      DatasourceConfiguration datasourceConfiguration) {
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
 
             return Mono.fromSupplier(() -> {
+                /*
+                 * 1. If there is any issue with getting a connection from the pool then assume that the pool is stale.
+                 */
+                Connection connection;
+                try {
+                    connection = getConnectionFromConnectionPool(connectionPool);
+                } catch (SQLException | StaleConnectionException e) {
+                    return Mono.error(e instanceof StaleConnectionException ? e : new StaleConnectionException());
+                }
+
+                printConnectionPoolStatus(connectionPool, true);
+
                 // Ref: <https://docs.oracle.com/en/java/javase/11/docs/api/java.sql/java/sql/DatabaseMetaData.html>.
                 System.out.println(Thread.currentThread().getName() + ": Getting Redshift Db structure");
                 try (Statement statement = connection.createStatement()) {
@@ -676,10 +729,11 @@ public class RedshiftPlugin extends BasePlugin {
                     return Mono.error(e);
 
                 } finally {
+                    // Return the connection back to the pool
                     try {
                         connection.close();
                     } catch (SQLException e) {
-                        log.warn("Error closing Redshift Connection", e);
+                        log.warn("Error returning Redshift connection to pool", e);
                     }
 
                 }
@@ -690,11 +744,12 @@ public class RedshiftPlugin extends BasePlugin {
                     table.getKeys().sort(Comparator.naturalOrder());
                 }
 
-                return structure;
+                return Mono.just(structure);
             })
+                    .flatMap(obj -> obj)
                     .map(resultStructure -> (DatasourceStructure) resultStructure)
                     .onErrorMap(e -> {
-                        if (!(e instanceof AppsmithPluginException)) {
+                        if (!(e instanceof AppsmithPluginException) && !(e instanceof StaleConnectionException)) {
                             return new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage());
                         }
 
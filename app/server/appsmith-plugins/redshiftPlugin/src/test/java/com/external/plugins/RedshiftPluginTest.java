@@ -14,6 +14,8 @@ import com.appsmith.external.plugins.PluginExecutor;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -88,10 +90,24 @@ public class RedshiftPluginTest {
         return dsConfig;
     }
 
+    /* Mock com.zaxxer.hikari.HikariDataSource:
+     *      a. isClosed() / isRunning()
+     *      b. getConnection(): return the given mock connection
+     *      c. getHikariPoolMXBean()
+     */
+    private HikariDataSource mockConnectionPool(Connection mockConnection) throws SQLException {
+        HikariDataSource mockConnectionPool = mock(HikariDataSource.class);
+        when(mockConnectionPool.isClosed()).thenReturn(false);
+        when(mockConnectionPool.isRunning()).thenReturn(true);
+        when(mockConnectionPool.getConnection()).thenReturn(mockConnection);
+        when(mockConnectionPool.getHikariPoolMXBean()).thenReturn(mock(HikariPoolMXBean.class));
+        return mockConnectionPool;
+    }
+
     @Test
     public void testDatasourceCreateConnectionFailure() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         StepVerifier.create(dsConnectionMono)
                 .expectErrorMatches(throwable ->
@@ -113,15 +129,13 @@ public class RedshiftPluginTest {
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("show databases");
 
-        /* Mock java.sql.Connection:
+        /* Mock com.zaxxer.hikari.HikariDataSource:
          *      a. isClosed(): return true
-         *      b. isValid() : return false
          */
-        Connection mockConnection = mock(Connection.class);
-        when(mockConnection.isClosed()).thenReturn(true);
-        when(mockConnection.isValid(Mockito.anyInt())).thenReturn(false);
+        HikariDataSource mockConnectionPool = mock(HikariDataSource.class);
+        when(mockConnectionPool.isClosed()).thenReturn(true);
 
-        Mono<ActionExecutionResult> resultMono = pluginExecutor.execute(mockConnection, dsConfig, actionConfiguration);
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.execute(mockConnectionPool, dsConfig, actionConfiguration);
 
         StepVerifier.create(resultMono)
                 .expectErrorMatches(throwable -> throwable instanceof StaleConnectionException)
@@ -238,7 +252,7 @@ public class RedshiftPluginTest {
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("SELECT * FROM users WHERE id = 1");
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = Mono.just(mockConnection);
+        Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool(mockConnection));
 
         Mono<ActionExecutionResult> executeMono = dsConnectionMono
                 .flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
@@ -368,7 +382,7 @@ public class RedshiftPluginTest {
         doNothing().when(mockResultSet).close();
 
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = Mono.just(mockConnection);
+        Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool(mockConnection));
         Mono<DatasourceStructure> structureMono = dsConnectionMono
                 .flatMap(connection -> pluginExecutor.getStructure(connection, dsConfig));
 
@@ -512,7 +526,7 @@ public class RedshiftPluginTest {
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("SELECT id, id, username, username FROM users WHERE id = 1");
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = Mono.just(mockConnection);
+        Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool(mockConnection));
 
         Mono<ActionExecutionResult> executeMono = dsConnectionMono
                 .flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
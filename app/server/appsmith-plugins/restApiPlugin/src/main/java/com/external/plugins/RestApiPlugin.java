@@ -160,9 +160,8 @@ public class RestApiPlugin extends BasePlugin {
                     String updatedBody = MustacheHelper.replaceMustacheWithPlaceholder(actionConfiguration.getBody(), mustacheKeysInOrder);
 
                     try {
-                        updatedBody = (String) smartSubstitutionOfBindings(updatedBody,
-                                mustacheKeysInOrder,
-                                executeActionDTO.getParams(),
+                        updatedBody = DataTypeStringUtils.jsonSmartReplacementPlaceholdersWithValues(updatedBody,
+                                getBindingValuesInOrder(mustacheKeysInOrder, executeActionDTO.getParams()),
                                 parameters);
                     } catch (AppsmithPluginException e) {
                         ActionExecutionResult errorResult = new ActionExecutionResult();
@@ -663,16 +662,6 @@ public class RestApiPlugin extends BasePlugin {
             return datasourceConfiguration;
         }
 
-        @Override
-        public Object substituteValueInInput(int index,
-                                             String binding,
-                                             String value,
-                                             Object input,
-                                             List<Map.Entry<String, String>> insertedParams,
-                                             Object... args) {
-            String jsonBody = (String) input;
-            return DataTypeStringUtils.jsonSmartReplacementPlaceholderWithValue(jsonBody, value, insertedParams);
-        }
 
         @Override
         public Mono<ActionExecutionResult> execute(APIConnection apiConnection,
@@ -13,8 +13,10 @@ import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.external.utils.SqlUtils;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 import lombok.extern.slf4j.Slf4j;
-import net.snowflake.client.jdbc.SnowflakeReauthenticationRequest;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.StringUtils;
@@ -23,9 +25,7 @@ import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
@@ -35,26 +35,38 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
 
+import static com.appsmith.external.helpers.PluginUtils.getIntegerValueSafelyFromPropertyList;
 import static com.external.utils.ExecutionUtils.getRowsFromQueryResult;
 import static com.external.utils.ValidationUtils.validateWarehouseDatabaseSchema;
 
 public class SnowflakePlugin extends BasePlugin {
 
+    private static final String JDBC_DRIVER = "net.snowflake.client.jdbc.SnowflakeDriver";
+
+    private static final int MINIMUM_POOL_SIZE = 1;
+
+    private static final int MAXIMUM_POOL_SIZE = 5;
+
+    private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+
+    private static final String MINIMUM_POOL_SIZE_PROPERTY_KEY = "minimumPoolSize";
+
+    private static final String MAXIMUM_POOL_SIZE_PROPERTY_KEY = "maximumPoolSize";
+
     public SnowflakePlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
 
     @Slf4j
     @Extension
-    public static class SnowflakePluginExecutor implements PluginExecutor<Connection> {
+    public static class SnowflakePluginExecutor implements PluginExecutor<HikariDataSource> {
 
         private final Scheduler scheduler = Schedulers.elastic();
 
         @Override
-        public Mono<ActionExecutionResult> execute(Connection connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
+        public Mono<ActionExecutionResult> execute(HikariDataSource connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
 
             String query = actionConfiguration.getBody();
 
@@ -66,11 +78,15 @@ public class SnowflakePlugin extends BasePlugin {
 
             return Mono
                     .fromCallable(() -> {
+                        Connection connectionFromPool = getConnectionFromConnectionPool(connection);
                         try {
                             // Connection staleness is checked as part of this method call.
-                            return getRowsFromQueryResult(connection, query);
+                            return getRowsFromQueryResult(connectionFromPool, query);
                         } catch (AppsmithPluginException | StaleConnectionException e) {
                             throw e;
+                        } finally {
+                            // Return the connection back to the pool
+                            closeConnection(connectionFromPool);
                         }
                     })
                     .map(rowsList -> {
@@ -86,50 +102,113 @@ public class SnowflakePlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             try {
-                Class.forName("net.snowflake.client.jdbc.SnowflakeDriver");
+                Class.forName(JDBC_DRIVER);
             } catch (ClassNotFoundException ex) {
                 System.err.println("Driver not found");
                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, ex.getMessage()));
             }
-            DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
-            Properties properties = new Properties();
-            properties.setProperty("user", authentication.getUsername());
-            properties.setProperty("password", authentication.getPassword());
-            properties.setProperty("warehouse", String.valueOf(datasourceConfiguration.getProperties().get(0).getValue()));
-            properties.setProperty("db", String.valueOf(datasourceConfiguration.getProperties().get(1).getValue()));
-            properties.setProperty("schema", String.valueOf(datasourceConfiguration.getProperties().get(2).getValue()));
-            properties.setProperty("role", String.valueOf(datasourceConfiguration.getProperties().get(3).getValue()));
 
             return Mono
                     .fromCallable(() -> {
-                        Connection conn;
-                        try {
-                            conn = DriverManager.getConnection("jdbc:snowflake://" + datasourceConfiguration.getUrl() + ".snowflakecomputing.com", properties);
-                        } catch (SQLException e) {
-                            e.printStackTrace();
-                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR, e.getMessage());
-                        }
-                        if (conn == null) {
-                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Unable to create connection to Snowflake URL");
-                        }
-                        return conn;
+                        System.out.println(Thread.currentThread().getName() + ": Connecting to Snowflake");
+                        return createConnectionPool(datasourceConfiguration);
                     })
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * This function is blocking in nature which connects to Snowflake and creates a connection pool
+         *
+         * @param datasourceConfiguration
+         * @return connection pool
+         */
+        private HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration)
+                throws AppsmithPluginException {
+            HikariConfig config = new HikariConfig();
+
+            config.setDriverClassName(JDBC_DRIVER);
+
+            final int maximumPoolSize = Math.max(1, getIntegerValueSafelyFromPropertyList(
+                    datasourceConfiguration.getProperties(), MAXIMUM_POOL_SIZE_PROPERTY_KEY, MAXIMUM_POOL_SIZE));
+            final int minimumPoolSize = Math.min(maximumPoolSize, Math.max(0, getIntegerValueSafelyFromPropertyList(
+                    datasourceConfiguration.getProperties(), MINIMUM_POOL_SIZE_PROPERTY_KEY, MINIMUM_POOL_SIZE)));
+            config.setMinimumIdle(minimumPoolSize);
+            config.setMaximumPoolSize(maximumPoolSize);
+
+            DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
+            config.setUsername(authentication.getUsername());
+            config.setPassword(authentication.getPassword());
+            config.addDataSourceProperty("warehouse", String.valueOf(datasourceConfiguration.getProperties().get(0).getValue()));
+            config.addDataSourceProperty("db", String.valueOf(datasourceConfiguration.getProperties().get(1).getValue()));
+            config.addDataSourceProperty("schema", String.valueOf(datasourceConfiguration.getProperties().get(2).getValue()));
+            config.addDataSourceProperty("role", String.valueOf(datasourceConfiguration.getProperties().get(3).getValue()));
+
+            config.setJdbcUrl("jdbc:snowflake://" + datasourceConfiguration.getUrl() + ".snowflakecomputing.com");
+
+            // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60
+            // seconds should get tracked (may be falsely for long running queries) as leaked connection
+            config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+
+            // Now create the connection pool from the configuration
+            HikariDataSource datasource;
+            try {
+                datasource = new HikariDataSource(config);
+            } catch (PoolInitializationException e) {
+                e.printStackTrace();
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                        e.getCause() != null ? e.getCause().getMessage() : e.getMessage()
+                );
+            }
+
+            return datasource;
+        }
+
+        /**
+         * First checks if the connection pool is still valid. If yes, we fetch a connection from the pool and return.
+         * The underlying hikari library throws SQLException in case the pool is closed or there is an issue
+         * initializing the connection pool, which is translated to StaleConnectionException here so that the pool
+         * gets destroyed and recreated.
+         *
+         * @param connectionPool
+         * @return SQL Connection
+         */
+        private Connection getConnectionFromConnectionPool(HikariDataSource connectionPool) {
+            if (connectionPool == null || connectionPool.isClosed() || !connectionPool.isRunning()) {
+                System.out.println(Thread.currentThread().getName() +
+                        ": Encountered stale connection pool in Snowflake plugin. Reporting back.");
+                throw new StaleConnectionException();
+            }
+
+            try {
+                return connectionPool.getConnection();
+            } catch (SQLException e) {
+                throw new StaleConnectionException();
+            }
+        }
+
+        private void closeConnection(Connection connection) {
+            try {
+                connection.close();
+            } catch (SQLException throwable) {
+                throwable.printStackTrace();
+            }
+        }
+
         @Override
-        public void datasourceDestroy(Connection connection) {
+        public void datasourceDestroy(HikariDataSource connection) {
             if (connection != null) {
-                try {
-                    connection.close();
-                } catch (SQLException throwable) {
-                    throwable.printStackTrace();
-                }
+                connection.close();
             }
         }
 
+        @Override
+        public int getConnectionCount(HikariDataSource connection) {
+            return connection.getMaximumPoolSize();
+        }
+
         @Override
         public Set<String> validateDatasource(DatasourceConfiguration datasourceConfiguration) {
             Set<String> invalids = new HashSet<>();
@@ -181,9 +260,9 @@ public class SnowflakePlugin extends BasePlugin {
         @Override
         public Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration) {
             return datasourceCreate(datasourceConfiguration)
-                    .flatMap(connection -> {
-                        if (connection != null) {
-                            try {
+                    .flatMap(connectionPool -> {
+                        if (connectionPool != null) {
+                            try (Connection connection = connectionPool.getConnection()) {
                                 Set<String> invalids = validateWarehouseDatabaseSchema(connection);
                                 if (!invalids.isEmpty()) {
                                     return Mono.error(
@@ -193,10 +272,11 @@ public class SnowflakePlugin extends BasePlugin {
                                             )
                                     );
                                 }
-                                connection.close();
                             } catch (SQLException throwable) {
                                 throwable.printStackTrace();
                                 return Mono.error(throwable);
+                            } finally {
+                                connectionPool.close();
                             }
                         }
 
@@ -206,13 +286,14 @@ public class SnowflakePlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+        public Mono<DatasourceStructure> getStructure(HikariDataSource connectionPool, DatasourceConfiguration datasourceConfiguration) {
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
 
             return Mono
                     .fromSupplier(() -> {
+                        Connection connection = getConnectionFromConnectionPool(connectionPool);
                         try {
                             // Connection staleness is checked as part of this method call.
                             Set<String> invalids = validateWarehouseDatabaseSchema(connection);
@@ -250,6 +331,9 @@ public class SnowflakePlugin extends BasePlugin {
                         } catch (SQLException throwable) {
                             throwable.printStackTrace();
                             throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, throwable.getMessage());
+                        } finally {
+                            // Return the connection back to the pool
+                            closeConnection(connection);
                         }
                         return structure;
                     })
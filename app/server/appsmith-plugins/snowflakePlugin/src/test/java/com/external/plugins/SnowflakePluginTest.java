@@ -10,6 +10,7 @@ import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Property;
 import com.external.utils.ExecutionUtils;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.log4j.Log4j;
 import net.snowflake.client.jdbc.SnowflakeReauthenticationRequest;
 import org.junit.Test;
@@ -50,6 +51,14 @@ public class SnowflakePluginTest {
 
     SnowflakePlugin.SnowflakePluginExecutor pluginExecutor = new SnowflakePlugin.SnowflakePluginExecutor();
 
+    private HikariDataSource mockConnectionPool(Connection mockConnection) throws SQLException {
+        HikariDataSource mockConnectionPool = mock(HikariDataSource.class);
+        when(mockConnectionPool.isClosed()).thenReturn(false);
+        when(mockConnectionPool.isRunning()).thenReturn(true);
+        when(mockConnectionPool.getConnection()).thenReturn(mockConnection);
+        return mockConnectionPool;
+    }
+
     @Test
     public void testValidateDatasource_withInvalidCredentials_returnsInvalids() {
         DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
@@ -85,7 +94,7 @@ public class SnowflakePluginTest {
         final ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody(testQuery);
         final Mono<ActionExecutionResult> actionExecutionResultMono =
-                pluginExecutor.execute(connection, new DatasourceConfiguration(), actionConfiguration);
+                pluginExecutor.execute(mockConnectionPool(connection), new DatasourceConfiguration(), actionConfiguration);
 
         StepVerifier.create(actionExecutionResultMono)
                 .expectErrorMatches(e -> e instanceof StaleConnectionException)
@@ -98,13 +107,13 @@ public class SnowflakePluginTest {
      * coverage.
      */
     @Test
-    public void test_testDatasource_withBadDatabaseName() {
+    public void test_testDatasource_withBadDatabaseName() throws SQLException {
         // Create spyPluginExecutor to mock internal methods.
         SnowflakePlugin.SnowflakePluginExecutor spyPluginExecutor = spy(SnowflakePlugin.SnowflakePluginExecutor.class);
 
-        // Mock datasourceCreate method to return mockConnection.
+        // Mock datasourceCreate method to return a pool handing out mockConnection.
         Connection mockConnection = mock(Connection.class);
-        doReturn(Mono.just(mockConnection)).when(spyPluginExecutor).datasourceCreate(any());
+        doReturn(Mono.just(mockConnectionPool(mockConnection))).when(spyPluginExecutor).datasourceCreate(any());
 
         // Mock getRowsFromQueryResult method to return row list.
         List<Map<String, Object>> rowList = new ArrayList<>();
@@ -153,7 +162,8 @@ public class SnowflakePluginTest {
         mockStatic(ExecutionUtils.class);
         when(ExecutionUtils.getRowsFromQueryResult(any(), anyString())).thenAnswer((Answer<List>) invocation -> rowList);
 
-        Mono<DatasourceStructure> structure = spyPluginExecutor.getStructure(mockConnection, new DatasourceConfiguration());
+        Mono<DatasourceStructure> structure = spyPluginExecutor.getStructure(mockConnectionPool(mockConnection),
+                new DatasourceConfiguration());
         StepVerifier.create(structure)
                 .expectErrorSatisfies(error -> {
                     assertTrue(error instanceof AppsmithPluginException);
@@ -0,0 +1,33 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class AnalyticsQueueConfig {
+
+    public enum OverflowPolicy {
+        // Drop the event being sent, keeping the ones already queued.
+        DROP_NEWEST,
+        // Drop the oldest queued event to make room for the one being sent.
+        DROP_OLDEST,
+    }
+
+    // Maximum number of analytics events waiting to be handed over to Segment. Events beyond this are dropped, as per
+    // the overflow policy, instead of holding up the requests that raise them.
+    @Value("${appsmith.analytics.queue.capacity:10000}")
+    private int capacity;
+
+    // Maximum number of events handed over to Segment in one go.
+    @Value("${appsmith.analytics.queue.batch-size:250}")
+    private int batchSize;
+
+    // Time the drainer waits for a batch to fill up before handing over whatever has been queued.
+    @Value("${appsmith.analytics.queue.flush-interval-ms:1000}")
+    private long flushIntervalMillis;
+
+    @Value("${appsmith.analytics.queue.overflow-policy:DROP_NEWEST}")
+    private OverflowPolicy overflowPolicy;
+}
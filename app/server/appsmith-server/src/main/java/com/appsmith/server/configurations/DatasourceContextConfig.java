@@ -0,0 +1,20 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class DatasourceContextConfig {
+
+    // Maximum number of connections held by the datasource contexts cached on this node. A context counts for as many
+    // connections as its plugin says its connection object may hold, i.e. the size of the pool for pooled plugins. The
+    // least recently used contexts are evicted and destroyed when this budget is exceeded.
+    @Value("${appsmith.datasource.context.max-connections:1000}")
+    private long maxConnections;
+
+    // Contexts that haven't been used for this long are evicted and destroyed.
+    @Value("${appsmith.datasource.context.idle-timeout-minutes:30}")
+    private long idleTimeoutMinutes;
+}
@@ -0,0 +1,18 @@
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+public class DatasourceStructureConfig {
+
+    // A cached structure older than this is still returned, but is refreshed in the background.
+    @Value("${appsmith.datasource.structure.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    // Maximum number of datasources whose structures are refreshed in the background at the same time on this node.
+    @Value("${appsmith.datasource.structure.refresh-concurrency:4}")
+    private int refreshConcurrency;
+}
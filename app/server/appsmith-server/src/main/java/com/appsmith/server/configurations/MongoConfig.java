@@ -4,6 +4,7 @@ import com.appsmith.external.annotations.documenttype.DocumentTypeMapper;
 import com.appsmith.external.annotations.encryption.EncryptionMongoEventListener;
 import com.appsmith.external.models.AuthenticationDTO;
 import com.appsmith.external.services.EncryptionService;
+import com.appsmith.server.configurations.mongo.PermissionKeysMongoEventListener;
 import com.appsmith.server.configurations.mongo.SoftDeleteMongoRepositoryFactoryBean;
 import com.appsmith.server.converters.StringToInstantConverter;
 import com.appsmith.server.repositories.BaseRepositoryImpl;
@@ -98,4 +99,9 @@ public class MongoConfig {
         return new EncryptionMongoEventListener(encryptionService);
     }
 
+    @Bean
+    public PermissionKeysMongoEventListener permissionKeysMongoEventListener() {
+        return new PermissionKeysMongoEventListener();
+    }
+
 }
@@ -1,6 +1,9 @@
 package com.appsmith.server.configurations;
 
+import com.appsmith.server.dtos.ExecutionMetadataEvictionRedisDTO;
 import com.appsmith.server.dtos.InstallPluginRedisDTO;
+import com.appsmith.server.services.ExecutionMetadataCacheService;
+import com.appsmith.server.services.ExecutionMetadataCacheServiceImpl;
 import com.appsmith.server.services.PluginService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -21,17 +24,23 @@ public class RedisListenerConfig {
     private final ObjectMapper objectMapper;
     private final PluginService pluginService;
     private final ChannelTopic topic;
+    private final ExecutionMetadataCacheService executionMetadataCacheService;
 
     @Autowired
-    public RedisListenerConfig(ObjectMapper objectMapper, PluginService pluginService, ChannelTopic topic) {
+    public RedisListenerConfig(ObjectMapper objectMapper,
+                               PluginService pluginService,
+                               ChannelTopic topic,
+                               ExecutionMetadataCacheService executionMetadataCacheService) {
         this.objectMapper = objectMapper;
         this.pluginService = pluginService;
         this.topic = topic;
+        this.executionMetadataCacheService = executionMetadataCacheService;
     }
 
     /**
      * This is the listener that will receive all the messages from the Redis channel topic configured in topic().
-     * Currently the only topic we are listening to is for install plugin requests.
+     * Currently the topics we are listening to are for install plugin requests and for evictions from the execution
+     * metadata cache.
      *
      * @param factory
      * @return
@@ -68,6 +77,26 @@ public class RedisListenerConfig {
                 })
                 // Required to subscribe else this chain is never invoked
                 .subscribe();
+
+        container
+                .receive(ExecutionMetadataCacheServiceImpl.EVICTION_TOPIC)
+                .map(p -> p.getMessage())
+                .doOnNext(msg -> {
+                    try {
+                        ExecutionMetadataEvictionRedisDTO evictionRedisDTO = objectMapper.readValue(msg, ExecutionMetadataEvictionRedisDTO.class);
+                        executionMetadataCacheService.evictLocally(evictionRedisDTO.getIds());
+                    } catch (Exception e) {
+                        // A malformed message must not terminate the subscription, so the error is only logged.
+                        log.error("Unable to process execution metadata eviction message: {}", msg, e);
+                    }
+                })
+                .doOnError(throwable -> {
+                    if (!(throwable instanceof CancellationException)) {
+                        log.error("Error occurred in RedisListenerConfig: ", throwable);
+                    }
+                })
+                .subscribe();
+
         return container;
     }
 
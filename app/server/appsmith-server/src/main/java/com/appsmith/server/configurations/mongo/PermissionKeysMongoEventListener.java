@@ -0,0 +1,24 @@
+package com.appsmith.server.configurations.mongo;
+
+import com.appsmith.external.models.BaseDomain;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+
+import static com.appsmith.server.helpers.PermissionKeyUtils.generatePermissionKeys;
+
+/**
+ * Keeps the permission keys of a document in sync with its policies whenever the whole document is saved. Updates which
+ * modify the policies in place have to update the permission keys themselves.
+ */
+public class PermissionKeysMongoEventListener extends AbstractMongoEventListener<BaseDomain> {
+
+    // This lifecycle event is before we save a document into the DB,
+    // and even before the mapper has converted the object into a document type
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<BaseDomain> event) {
+        BaseDomain source = event.getSource();
+
+        source.setPermissionKeys(generatePermissionKeys(source.getPolicies()));
+    }
+
+}
@@ -2,22 +2,25 @@ package com.appsmith.server.controllers;
 
 import com.appsmith.server.constants.Url;
 import com.appsmith.server.domains.Application;
-import com.appsmith.server.domains.ApplicationJson;
 import com.appsmith.server.domains.GitAuth;
 import com.appsmith.server.dtos.ApplicationAccessDTO;
 import com.appsmith.server.dtos.ApplicationPagesDTO;
+import com.appsmith.server.dtos.ApplicationViewBundleDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.dtos.UserHomepageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ApplicationService;
+import com.appsmith.server.services.ApplicationViewBundleService;
 import com.appsmith.server.services.GitService;
 import com.appsmith.server.solutions.ApplicationFetcher;
 import com.appsmith.server.solutions.ApplicationForkingService;
 import com.appsmith.server.solutions.ImportExportApplicationService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -36,6 +39,7 @@ import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
@@ -51,6 +55,7 @@ public class ApplicationController extends BaseController<ApplicationService, Ap
     private final ApplicationForkingService applicationForkingService;
     private final ImportExportApplicationService importExportApplicationService;
     private final GitService gitService;
+    private final ApplicationViewBundleService applicationViewBundleService;
 
     @Autowired
     public ApplicationController(
@@ -59,13 +64,15 @@ public class ApplicationController extends BaseController<ApplicationService, Ap
             ApplicationFetcher applicationFetcher,
             ApplicationForkingService applicationForkingService,
             ImportExportApplicationService importExportApplicationService,
-            GitService gitService) {
+            GitService gitService,
+            ApplicationViewBundleService applicationViewBundleService) {
         super(service);
         this.applicationPageService = applicationPageService;
         this.applicationFetcher = applicationFetcher;
         this.applicationForkingService = applicationForkingService;
         this.importExportApplicationService = importExportApplicationService;
         this.gitService = gitService;
+        this.applicationViewBundleService = applicationViewBundleService;
     }
 
     @PostMapping
@@ -142,6 +149,26 @@ public class ApplicationController extends BaseController<ApplicationService, Ap
                 .map(application -> new ResponseDTO<>(HttpStatus.OK.value(), application, null));
     }
 
+    /**
+     * Everything the viewer of the published application loads, in a single response. The bundle only changes when the
+     * application is published, so its ETag lets clients revalidate their copy without downloading it again.
+     */
+    @GetMapping("/view/{applicationId}/bundle")
+    public Mono<ResponseEntity<ResponseDTO<ApplicationViewBundleDTO>>> getApplicationViewBundle(@PathVariable String applicationId,
+                                                                                             ServerWebExchange exchange) {
+        return applicationViewBundleService.getViewBundle(applicationId)
+                .map(viewBundle -> {
+                    if (exchange.checkNotModified(viewBundle.getEtag())) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(viewBundle.getEtag())
+                                .<ResponseDTO<ApplicationViewBundleDTO>>build();
+                    }
+                    return ResponseEntity.ok()
+                            .eTag(viewBundle.getEtag())
+                            .body(new ResponseDTO<>(HttpStatus.OK.value(), viewBundle, null));
+                });
+    }
+
     @PostMapping("/{applicationId}/fork/{organizationId}")
     public Mono<ResponseDTO<Application>> forkApplication(
             @PathVariable String applicationId,
@@ -152,7 +179,7 @@ public class ApplicationController extends BaseController<ApplicationService, Ap
     }
 
     @GetMapping("/export/{id}")
-    public Mono<ResponseEntity<ApplicationJson>> getApplicationFile(@PathVariable String id) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getApplicationFile(@PathVariable String id) {
         log.debug("Going to export application with id: {}", id);
 
         return importExportApplicationService.exportApplicationById(id)
@@ -166,7 +193,9 @@ public class ApplicationController extends BaseController<ApplicationService, Ap
                     responseHeaders.setContentDisposition(contentDisposition);
                     responseHeaders.setContentType(MediaType.APPLICATION_JSON);
 
-                    return new ResponseEntity(fetchedResource, responseHeaders, HttpStatus.OK);
+                    Flux<DataBuffer> applicationFile = importExportApplicationService
+                            .streamApplicationJson(fetchedResource, new DefaultDataBufferFactory());
+                    return new ResponseEntity<>(applicationFile, responseHeaders, HttpStatus.OK);
                 });
     }
 
@@ -51,7 +51,7 @@ public class LayoutController {
     @PutMapping("/{layoutId}/pages/{pageId}")
     public Mono<ResponseDTO<LayoutDTO>> updateLayout(@PathVariable String pageId, @PathVariable String layoutId, @RequestBody Layout layout) {
         log.debug("update layout received for page {}", pageId);
-        return layoutActionService.updateLayout(pageId, layoutId, layout)
+        return layoutActionService.updateLayoutFromEditor(pageId, layoutId, layout)
                 .map(created -> new ResponseDTO<>(HttpStatus.OK.value(), created, null));
     }
 
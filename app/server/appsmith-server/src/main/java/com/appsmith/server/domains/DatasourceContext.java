@@ -1,5 +1,6 @@
 package com.appsmith.server.domains;
 
+import com.appsmith.external.plugins.PluginExecutor;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -14,6 +15,10 @@ public class DatasourceContext {
 
     Instant creationTime;
 
+    // The plugin executor that created the connection. Used to destroy the connection when the context is evicted.
+    @ToString.Exclude
+    PluginExecutor<Object> pluginExecutor;
+
     public DatasourceContext() {
         creationTime = Instant.now();
     }
@@ -60,6 +60,11 @@ public class Layout extends BaseDomain {
     @JsonIgnore
     Boolean validOnPageLoadActions = TRUE;
 
+    // Hash of the widget names and the dynamic bindings in the DSL the on page load actions were last computed for. The
+    // computation only depends on these, so it can be skipped as long as a new DSL hashes to the same value.
+    @JsonIgnore
+    String dslBindingsHash;
+
     /**
      * If view mode, the dsl returned should be the publishedDSL, else if the edit mode is on (view mode = false)
      * the dsl returned should be JSONObject dsl
@@ -0,0 +1,29 @@
+package com.appsmith.server.dtos;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Everything a viewer of a published application loads: the pages, the published version of every page with its
+ * layouts and on page load actions, and the actions which can be run. Built once when the application is published.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ApplicationViewBundleDTO {
+    String applicationId;
+
+    ApplicationPagesDTO applicationPages;
+
+    List<PageDTO> pages;
+
+    List<ActionViewDTO> actions;
+
+    // Hash of the content of the bundle, sent as its ETag
+    @JsonIgnore
+    String etag;
+}
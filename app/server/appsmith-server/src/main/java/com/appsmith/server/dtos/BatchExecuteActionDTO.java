@@ -0,0 +1,20 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+@Setter
+public class BatchExecuteActionDTO {
+
+    // The actions to be executed, usually all the actions in one layer of the page load actions of a page. Bounded, so
+    // that a single request can't hold an unbounded number of executions in flight.
+    @NotEmpty
+    @Size(max = 50)
+    List<ExecuteActionDTO> actions;
+}
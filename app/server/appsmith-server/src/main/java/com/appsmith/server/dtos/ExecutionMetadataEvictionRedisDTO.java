@@ -0,0 +1,17 @@
+package com.appsmith.server.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutionMetadataEvictionRedisDTO {
+    // Ids of the actions, datasources or plugins that have changed
+    Set<String> ids;
+}
@@ -0,0 +1,213 @@
+package com.appsmith.server.helpers;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Replaces any number of entity names (widgets, actions, collections) with their new names in a single pass over a
+ * string, using an Aho-Corasick automaton built over all the old names. A name is only replaced where it occurs as a
+ * whole word, i.e. with the same semantics as the regex `\b(oldName)\b`. Where several old names match at the same
+ * position, the longest one is replaced, e.g. `Collection1.run` over `Collection1`.
+ * <p>
+ * An instance is immutable once built, and can be shared across threads.
+ */
+public class NameReplacer {
+
+    private static class Node {
+        final Map<Character, Node> children = new HashMap<>();
+
+        Node failure;
+
+        // Length of the longest old name ending at this node, including those reachable through failure links
+        int matchLength = 0;
+    }
+
+    private final Node root = new Node();
+
+    private final Map<String, String> newNamesByOldName;
+
+    public NameReplacer(Map<String, String> newNamesByOldName) {
+        this.newNamesByOldName = Map.copyOf(newNamesByOldName);
+
+        for (String oldName : this.newNamesByOldName.keySet()) {
+            if (oldName.isEmpty()) {
+                throw new IllegalArgumentException("Names to be replaced can not be empty");
+            }
+            Node node = root;
+            for (int i = 0; i < oldName.length(); i++) {
+                node = node.children.computeIfAbsent(oldName.charAt(i), c -> new Node());
+            }
+            node.matchLength = oldName.length();
+        }
+
+        // Set up the failure links in breadth first order, so that a node's failure link is always set before its
+        // children's.
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.remove();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                Node child = entry.getValue();
+                Node failure = node.failure;
+                while (failure != root && !failure.children.containsKey(entry.getKey())) {
+                    failure = failure.failure;
+                }
+                child.failure = failure.children.getOrDefault(entry.getKey(), root);
+                child.matchLength = Math.max(child.matchLength, child.failure.matchLength);
+                queue.add(child);
+            }
+        }
+    }
+
+    public static NameReplacer of(String oldName, String newName) {
+        return new NameReplacer(Map.of(oldName, newName));
+    }
+
+    /**
+     * @return True if any of the old names occurs as a whole word in the given string.
+     */
+    public boolean isPresentIn(String value) {
+        return value != null && findMatchLengths(value) != null;
+    }
+
+    /**
+     * @return The given string with all old names replaced with their new names. The same instance is returned if none
+     * of the old names occur in it.
+     */
+    public String replace(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        final int[] matchLengths = findMatchLengths(value);
+        if (matchLengths == null) {
+            return value;
+        }
+
+        StringBuilder result = new StringBuilder(value.length());
+        int i = 0;
+        while (i < value.length()) {
+            if (matchLengths[i] > 0) {
+                result.append(newNamesByOldName.get(value.substring(i, i + matchLengths[i])));
+                i += matchLengths[i];
+            } else {
+                result.append(value.charAt(i));
+                i++;
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Replaces the old names in all the string values in a tree of maps and lists, such as a DSL, in place. Keys are
+     * left as they are.
+     *
+     * @return True if any value was changed.
+     */
+    public boolean replaceInTree(Object tree) {
+        boolean isReplaced = false;
+
+        if (tree instanceof Map) {
+            for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) tree).entrySet()) {
+                final Object value = entry.getValue();
+                if (value instanceof String) {
+                    final String replacedValue = replace((String) value);
+                    if (replacedValue != value) {
+                        entry.setValue(replacedValue);
+                        isReplaced = true;
+                    }
+                } else {
+                    isReplaced |= replaceInTree(value);
+                }
+            }
+        } else if (tree instanceof List) {
+            final ListIterator<Object> iterator = ((List<Object>) tree).listIterator();
+            while (iterator.hasNext()) {
+                final Object value = iterator.next();
+                if (value instanceof String) {
+                    final String replacedValue = replace((String) value);
+                    if (replacedValue != value) {
+                        iterator.set(replacedValue);
+                        isReplaced = true;
+                    }
+                } else {
+                    isReplaced |= replaceInTree(value);
+                }
+            }
+        }
+
+        return isReplaced;
+    }
+
+    /**
+     * Runs the automaton over the string and records, for every position, the length of the longest old name which
+     * starts there as a whole word, skipping over matches which overlap an earlier one.
+     *
+     * @return The match lengths by start position, or null if there are no matches at all.
+     */
+    private int[] findMatchLengths(String value) {
+        int[] matchLengths = null;
+
+        Node node = root;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.failure;
+            }
+            node = node.children.getOrDefault(c, root);
+
+            // Walk the matches ending here, from the longest to the shortest, for the first one which is a whole word
+            for (Node match = node; match != root && match.matchLength > 0; match = match.failure) {
+                final int start = i + 1 - match.matchLength;
+                if (isWordBoundary(value, start) && isWordBoundary(value, i + 1)) {
+                    if (matchLengths == null) {
+                        matchLengths = new int[value.length()];
+                    }
+                    matchLengths[start] = Math.max(matchLengths[start], match.matchLength);
+                    break;
+                }
+                // Skip to the next shorter name ending at this position
+                while (match != root && match.failure.matchLength == match.matchLength) {
+                    match = match.failure;
+                }
+            }
+        }
+
+        if (matchLengths == null) {
+            return null;
+        }
+
+        // Drop the matches which start inside an earlier match, like the scan of a regex would
+        for (int i = 0; i < matchLengths.length; i++) {
+            if (matchLengths[i] > 0) {
+                final int end = i + matchLengths[i];
+                for (int j = i + 1; j < end; j++) {
+                    matchLengths[j] = 0;
+                }
+                i = end - 1;
+            }
+        }
+
+        return matchLengths;
+    }
+
+    /**
+     * Same as `\b` in a Java regex: the characters on either side of the position differ in being word characters.
+     */
+    private static boolean isWordBoundary(String value, int position) {
+        final boolean isWordBefore = position > 0 && isWordCharacter(value.charAt(position - 1));
+        final boolean isWordAfter = position < value.length() && isWordCharacter(value.charAt(position));
+        return isWordBefore != isWordAfter;
+    }
+
+    private static boolean isWordCharacter(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
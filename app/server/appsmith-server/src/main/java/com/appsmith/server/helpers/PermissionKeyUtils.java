@@ -0,0 +1,89 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.User;
+import org.springframework.util.CollectionUtils;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Generates the entries of {@link com.appsmith.external.models.BaseDomain#getPermissionKeys()}. There is one entry for
+ * every user and every group in a policy, which combines the user or group with the permission of the policy.
+ */
+public class PermissionKeyUtils {
+
+    private static final String USER_PREFIX = "user:";
+    private static final String GROUP_PREFIX = "group:";
+
+    public static String userPermissionKey(String username, String permission) {
+        return USER_PREFIX + username + ":" + permission;
+    }
+
+    public static String groupPermissionKey(String groupId, String permission) {
+        return GROUP_PREFIX + groupId + ":" + permission;
+    }
+
+    public static Set<String> generatePermissionKeys(Policy policy) {
+        Set<String> permissionKeys = new HashSet<>();
+
+        if (policy.getUsers() != null) {
+            for (String username : policy.getUsers()) {
+                permissionKeys.add(userPermissionKey(username, policy.getPermission()));
+            }
+        }
+
+        if (policy.getGroups() != null) {
+            for (String groupId : policy.getGroups()) {
+                permissionKeys.add(groupPermissionKey(groupId, policy.getPermission()));
+            }
+        }
+
+        return permissionKeys;
+    }
+
+    /**
+     * @return The permission keys for all the given policies, or null if the policies are null. The latter makes sure
+     * that partial updates, which leave out the policies, leave out the permission keys as well.
+     */
+    public static Set<String> generatePermissionKeys(Collection<Policy> policies) {
+        if (policies == null) {
+            return null;
+        }
+
+        Set<String> permissionKeys = new HashSet<>();
+        for (Policy policy : policies) {
+            permissionKeys.addAll(generatePermissionKeys(policy));
+        }
+
+        return permissionKeys;
+    }
+
+    /**
+     * Checks in memory whether the user has the permission on a document with the given permission keys. This matches
+     * exactly the documents {@link com.appsmith.server.repositories.BaseAppsmithRepositoryImpl#userAcl} matches.
+     */
+    public static boolean hasPermission(Collection<String> permissionKeys, User user, String permission) {
+        if (CollectionUtils.isEmpty(permissionKeys)) {
+            return false;
+        }
+
+        if (permissionKeys.contains(userPermissionKey(user.getUsername(), permission))
+                || permissionKeys.contains(userPermissionKey(FieldName.ANONYMOUS_USER, permission))) {
+            return true;
+        }
+
+        if (CollectionUtils.isEmpty(user.getGroupIds())) {
+            return false;
+        }
+
+        for (String groupId : user.getGroupIds()) {
+            if (!permissionKeys.contains(groupPermissionKey(groupId, permission))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
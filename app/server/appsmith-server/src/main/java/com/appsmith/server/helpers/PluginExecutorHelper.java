@@ -4,30 +4,52 @@ import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import lombok.extern.slf4j.Slf4j;
 import org.pf4j.PluginManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
+@Slf4j
 public class PluginExecutorHelper {
 
     private final PluginManager pluginManager;
 
+    // Plugin package name mapped to its executor. Looking up extensions in PF4J walks through the plugin classloaders,
+    // which is too expensive to do on every action execution.
+    private final Map<String, PluginExecutor> pluginExecutorMap = new ConcurrentHashMap<>();
+
     @Autowired
     public PluginExecutorHelper(PluginManager pluginManager) {
         this.pluginManager = pluginManager;
+        // Any plugin being loaded, started, stopped or unloaded may change the extensions available, so start afresh.
+        this.pluginManager.addPluginStateListener(event -> {
+            log.debug("Plugin {} changed state to {}. Clearing cached plugin executors.",
+                    event.getPlugin().getPluginId(), event.getPluginState());
+            pluginExecutorMap.clear();
+        });
     }
 
     public Mono<PluginExecutor> getPluginExecutor(Mono<Plugin> pluginMono) {
         return pluginMono.flatMap(plugin -> {
-                    List<PluginExecutor> executorList = pluginManager.getExtensions(PluginExecutor.class, plugin.getPackageName());
-                    if (executorList.isEmpty()) {
-                        return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, "plugin", plugin.getPackageName()));
+                    final String packageName = plugin.getPackageName();
+                    PluginExecutor pluginExecutor = packageName == null ? null : pluginExecutorMap.get(packageName);
+                    if (pluginExecutor == null) {
+                        List<PluginExecutor> executorList = pluginManager.getExtensions(PluginExecutor.class, packageName);
+                        if (executorList.isEmpty()) {
+                            return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, "plugin", packageName));
+                        }
+                        pluginExecutor = executorList.get(0);
+                        if (packageName != null) {
+                            pluginExecutorMap.put(packageName, pluginExecutor);
+                        }
                     }
-                    return Mono.just(executorList.get(0));
+                    return Mono.just(pluginExecutor);
                 }
         );
     }
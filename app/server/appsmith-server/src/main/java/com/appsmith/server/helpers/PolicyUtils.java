@@ -1,27 +1,36 @@
 package com.appsmith.server.helpers;
 
 import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.Policy;
+import com.appsmith.external.models.QDatasource;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.CommentThread;
-import com.appsmith.external.models.Datasource;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.QActionCollection;
+import com.appsmith.server.domains.QApplication;
+import com.appsmith.server.domains.QCommentThread;
+import com.appsmith.server.domains.QNewAction;
+import com.appsmith.server.domains.QNewPage;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.repositories.ActionCollectionRepository;
 import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.AppsmithRepository;
 import com.appsmith.server.repositories.CommentThreadRepository;
 import com.appsmith.server.repositories.DatasourceRepository;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.services.ExecutionMetadataCacheService;
 import lombok.AllArgsConstructor;
 import org.apache.commons.collections.CollectionUtils;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -35,6 +44,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.appsmith.server.acl.AclPermission.MANAGE_DATASOURCES;
+import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Component
 @AllArgsConstructor
@@ -47,6 +58,7 @@ public class PolicyUtils {
     private final NewActionRepository newActionRepository;
     private final CommentThreadRepository commentThreadRepository;
     private final ActionCollectionRepository actionCollectionRepository;
+    private final ExecutionMetadataCacheService executionMetadataCacheService;
 
     public <T extends BaseDomain> T addPoliciesToExistingObject(Map<String, Policy> policyMap, T obj) {
         // Making a deep copy here so we don't modify the `policyMap` object.
@@ -154,104 +166,73 @@ public class PolicyUtils {
 
     public Flux<Datasource> updateWithNewPoliciesToDatasourcesByOrgId(String orgId, Map<String, Policy> newPoliciesMap, boolean addPolicyToObject) {
 
+        Criteria orgIdCriteria = where(fieldName(QDatasource.datasource.organizationId)).is(orgId);
+
         return datasourceRepository
                 // fetch datasources with execute permissions so that app viewers can invite other app viewers
-                .findAllByOrganizationId(orgId, AclPermission.EXECUTE_DATASOURCES)
-                // In case we have come across a datasource for this organization that the current user is not allowed to manage, move on.
-                .switchIfEmpty(Mono.empty())
-                .map(datasource -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newPoliciesMap, datasource);
-                    } else {
-                        return removePoliciesFromExistingObject(newPoliciesMap, datasource);
-                    }
-                })
+                .queryAll(List.of(orgIdCriteria), List.of(FieldName.ID), AclPermission.EXECUTE_DATASOURCES, null)
                 .collectList()
-                .flatMapMany(updatedDatasources -> datasourceRepository.saveAll(updatedDatasources));
+                .flatMapMany(datasources -> updatePolicies(datasourceRepository, datasources, newPoliciesMap, addPolicyToObject));
     }
 
     public Flux<Datasource> updateWithNewPoliciesToDatasourcesByDatasourceIds(Set<String> ids, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject) {
 
+        Criteria idCriteria = where(fieldName(QDatasource.datasource.id)).in(ids);
+
         return datasourceRepository
-                .findAllByIds(ids, MANAGE_DATASOURCES)
                 // In case we have come across a datasource the current user is not allowed to manage, move on.
-                .switchIfEmpty(Mono.empty())
-                .flatMap(datasource -> {
-                    Datasource updatedDatasource;
-                    if (addPolicyToObject) {
-                        updatedDatasource = addPoliciesToExistingObject(datasourcePolicyMap, datasource);
-                    } else {
-                        updatedDatasource = removePoliciesFromExistingObject(datasourcePolicyMap, datasource);
-                    }
-
-                    return Mono.just(updatedDatasource);
-                })
+                .queryAll(List.of(idCriteria), List.of(FieldName.ID), MANAGE_DATASOURCES, null)
                 .collectList()
-                .flatMapMany(datasources -> datasourceRepository.saveAll(datasources));
+                .flatMapMany(datasources -> updatePolicies(datasourceRepository, datasources, datasourcePolicyMap, addPolicyToObject));
     }
 
     public Flux<Application> updateWithNewPoliciesToApplicationsByOrgId(String orgId, Map<String, Policy> newAppPoliciesMap, boolean addPolicyToObject) {
 
+        Criteria orgIdCriteria = where(fieldName(QApplication.application.organizationId)).is(orgId);
+
         return applicationRepository
                 // fetch applications with read permissions so that app viewers can invite other app viewers
-                .findByOrganizationId(orgId, AclPermission.READ_APPLICATIONS)
-                // In case we have come across an application for this organization that the current user is not allowed to manage, move on.
-                .switchIfEmpty(Mono.empty())
-                .map(application -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newAppPoliciesMap, application);
-                    } else {
-                        return removePoliciesFromExistingObject(newAppPoliciesMap, application);
-                    }
-                })
+                .queryAll(List.of(orgIdCriteria), List.of(FieldName.ID), AclPermission.READ_APPLICATIONS, null)
                 .collectList()
-                .flatMapMany(updatedApplications -> applicationRepository.saveAll(updatedApplications));
+                .flatMapMany(applications -> updatePolicies(applicationRepository, applications, newAppPoliciesMap, addPolicyToObject));
     }
 
     public Flux<NewPage> updateWithApplicationPermissionsToAllItsPages(String applicationId, Map<String, Policy> newPagePoliciesMap, boolean addPolicyToObject) {
 
+        Criteria applicationIdCriteria = where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
+
         // Instead of fetching pages from the application object, we fetch pages from the page repository. This ensures that all the published
         // AND the unpublished pages are updated with the new policy change [This covers the edge cases where a page may exist
         // in published app but has been deleted in the edit mode]. This means that we don't have to do any special treatment
         // during deployment of the application to handle edge cases.
         return newPageRepository
                 // fetch pages with read permissions so that app viewers can invite other app viewers
-                .findByApplicationId(applicationId, AclPermission.READ_PAGES)
-                .switchIfEmpty(Mono.empty())
-                .map(page -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newPagePoliciesMap, page);
-                    } else {
-                        return removePoliciesFromExistingObject(newPagePoliciesMap, page);
-                    }
-                })
+                .queryAll(List.of(applicationIdCriteria), List.of(FieldName.ID), AclPermission.READ_PAGES, null)
                 .collectList()
-                .flatMapMany(updatedPages -> newPageRepository
-                        .saveAll(updatedPages));
+                .flatMapMany(pages -> updatePolicies(newPageRepository, pages, newPagePoliciesMap, addPolicyToObject));
     }
 
     public Flux<CommentThread> updateCommentThreadPermissions(
             String applicationId, Map<String, Policy> commentThreadPolicyMap, String username, boolean addPolicyToObject) {
 
+        // Private threads are only ever visible to their author, so their policies are left as they are.
+        List<Criteria> criteria = List.of(
+                where(fieldName(QCommentThread.commentThread.applicationId)).is(applicationId),
+                where(fieldName(QCommentThread.commentThread.isPrivate)).ne(Boolean.TRUE)
+        );
+
         return
                 // fetch comment threads with read permissions
-                commentThreadRepository.findByApplicationId(applicationId, AclPermission.READ_THREAD)
-                .switchIfEmpty(Mono.empty())
-                .map(thread -> {
-                    if(!Boolean.TRUE.equals(thread.getIsPrivate())) {
-                        if (addPolicyToObject) {
-                            return addPoliciesToExistingObject(commentThreadPolicyMap, thread);
-                        } else {
-                            if(CollectionUtils.isNotEmpty(thread.getSubscribers())) {
-                                thread.getSubscribers().remove(username);
-                            }
-                            return removePoliciesFromExistingObject(commentThreadPolicyMap, thread);
-                        }
-                    }
-                    return thread;
-                })
+                commentThreadRepository.queryAll(criteria, List.of(FieldName.ID), AclPermission.READ_THREAD, null)
                 .collectList()
-                .flatMapMany(commentThreadRepository::saveAll);
+                .flatMapMany(threads -> {
+                    if (addPolicyToObject || threads.isEmpty()) {
+                        return updatePolicies(commentThreadRepository, threads, commentThreadPolicyMap, addPolicyToObject);
+                    }
+                    Set<String> threadIds = threads.stream().map(CommentThread::getId).collect(Collectors.toSet());
+                    return commentThreadRepository.removeSubscriber(threadIds, username)
+                            .thenMany(updatePolicies(commentThreadRepository, threads, commentThreadPolicyMap, false));
+                });
     }
 
     /**
@@ -261,6 +242,8 @@ public class PolicyUtils {
      * 2. If the action is associated with different pages (in published/unpublished page due to movement of action), fetching
      * actions by applicationId ensures that we update ALL the actions and don't have to do special handling for the same.
      *
+     * The actions returned only have their id and the datasources of their published and unpublished versions set.
+     *
      * @param applicationId
      * @param newActionPoliciesMap
      * @param addPolicyToObject
@@ -268,34 +251,43 @@ public class PolicyUtils {
      */
     public Flux<NewAction> updateWithPagePermissionsToAllItsActions(String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
 
+        Criteria applicationIdCriteria = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+        List<String> includeFields = List.of(
+                FieldName.ID,
+                fieldName(QNewAction.newAction.unpublishedAction) + "." + fieldName(QNewAction.newAction.unpublishedAction.datasource),
+                fieldName(QNewAction.newAction.publishedAction) + "." + fieldName(QNewAction.newAction.publishedAction.datasource)
+        );
+
         return newActionRepository
-                .findByApplicationId(applicationId)
-                .switchIfEmpty(Mono.empty())
-                .map(action -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newActionPoliciesMap, action);
-                    } else {
-                        return removePoliciesFromExistingObject(newActionPoliciesMap, action);
-                    }
-                })
+                .queryAll(List.of(applicationIdCriteria), includeFields, null, null)
                 .collectList()
-                .flatMapMany(newActionRepository::saveAll);
+                .flatMapMany(actions -> updatePolicies(newActionRepository, actions, newActionPoliciesMap, addPolicyToObject));
     }
 
     public Flux<ActionCollection> updateWithPagePermissionsToAllItsActionCollections(String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
 
+        Criteria applicationIdCriteria = where(fieldName(QActionCollection.actionCollection.applicationId)).is(applicationId);
+
         return actionCollectionRepository
-                .findByApplicationId(applicationId)
-                .switchIfEmpty(Mono.empty())
-                .map(action -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newActionPoliciesMap, action);
-                    } else {
-                        return removePoliciesFromExistingObject(newActionPoliciesMap, action);
-                    }
-                })
+                .queryAll(List.of(applicationIdCriteria), List.of(FieldName.ID), null, null)
                 .collectList()
-                .flatMapMany(actionCollectionRepository::saveAll);
+                .flatMapMany(actionCollections -> updatePolicies(actionCollectionRepository, actionCollections, newActionPoliciesMap, addPolicyToObject));
+    }
+
+    /**
+     * Updates the policies of the given documents in the DB, without reading or writing anything but their policies.
+     * The documents are only used for their ids and are returned as they are, i.e. without the updated policies. The
+     * documents are evicted from the execution metadata cache, whose permission checks would otherwise use the old
+     * policies until the entries expire.
+     */
+    private <T extends BaseDomain> Flux<T> updatePolicies(AppsmithRepository<T> repository,
+                                                          List<T> documents,
+                                                          Map<String, Policy> policyMap,
+                                                          boolean addPolicyToObject) {
+        Set<String> ids = documents.stream().map(BaseDomain::getId).collect(Collectors.toSet());
+        return repository.updatePolicies(ids, policyMap, addPolicyToObject)
+                .then(executionMetadataCacheService.evict(ids))
+                .thenMany(Flux.fromIterable(documents));
     }
 
     public Map<String, Policy> generateInheritedPoliciesFromSourcePolicies(Map<String, Policy> sourcePolicyMap,
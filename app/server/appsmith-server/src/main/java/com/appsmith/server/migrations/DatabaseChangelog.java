@@ -2,6 +2,7 @@ package com.appsmith.server.migrations;
 
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ApiTemplate;
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Connection;
 import com.appsmith.external.models.DBAuth;
@@ -9,6 +10,8 @@ import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Policy;
 import com.appsmith.external.models.Property;
+import com.appsmith.external.models.Provider;
+import com.appsmith.external.models.QBaseDomain;
 import com.appsmith.external.models.QDatasource;
 import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.services.EncryptionService;
@@ -17,14 +20,18 @@ import com.appsmith.server.acl.AppsmithRole;
 import com.appsmith.server.constants.Appsmith;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Action;
+import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.Collection;
+import com.appsmith.server.domains.Comment;
+import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Config;
 import com.appsmith.server.domains.Group;
 import com.appsmith.server.domains.InviteUser;
 import com.appsmith.server.domains.Layout;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.Notification;
 import com.appsmith.server.domains.Organization;
 import com.appsmith.server.domains.OrganizationPlugin;
 import com.appsmith.server.domains.Page;
@@ -46,6 +53,7 @@ import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.DslActionDTO;
 import com.appsmith.server.dtos.OrganizationPluginStatus;
 import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.helpers.PermissionKeyUtils;
 import com.appsmith.server.services.OrganizationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.cloudyrock.mongock.ChangeLog;
@@ -70,6 +78,7 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.CollectionCallback;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -79,6 +88,7 @@ import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StreamUtils;
 
@@ -3580,4 +3590,114 @@ public class DatabaseChangelog {
         // Now that the actions have completed the migrations, update the plugin to use the new UI form.
         mongockTemplate.save(s3Plugin);
     }
+
+    /**
+     * Backfills {@link BaseDomain#getPermissionKeys()} from the policies of every document, and indexes it. The ACL
+     * queries look up permissions by these keys instead of an `$elemMatch` over the policies, which can't use an index.
+     */
+    @ChangeSet(order = "094", id = "add-permission-keys", author = "")
+    public void addPermissionKeys(MongockTemplate mongockTemplate) {
+        MongoTemplate mongoTemplate = mongockTemplate.getImpl();
+        final String policiesField = fieldName(QBaseDomain.baseDomain.policies);
+        final String permissionKeysField = fieldName(QBaseDomain.baseDomain.permissionKeys);
+        final int batchSize = 1000;
+
+        final List<Class<? extends BaseDomain>> domainClasses = List.of(
+                Action.class,
+                ActionCollection.class,
+                ApiTemplate.class,
+                Application.class,
+                Collection.class,
+                Comment.class,
+                CommentThread.class,
+                Config.class,
+                Datasource.class,
+                Group.class,
+                NewAction.class,
+                NewPage.class,
+                Notification.class,
+                Organization.class,
+                Page.class,
+                Permission.class,
+                Plugin.class,
+                Provider.class,
+                User.class,
+                UserData.class
+        );
+
+        for (Class<? extends BaseDomain> domainClass : domainClasses) {
+            final String collectionName = mongoTemplate.getCollectionName(domainClass);
+            final Query query = new Query();
+            query.fields().include(policiesField);
+
+            BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collectionName);
+            int pendingUpdates = 0;
+
+            try (CloseableIterator<Document> documents = mongoTemplate.stream(query, Document.class, collectionName)) {
+                while (documents.hasNext()) {
+                    final Document document = documents.next();
+                    final Object policies = document.get(policiesField);
+                    if (!(policies instanceof List)) {
+                        continue;
+                    }
+
+                    Set<String> permissionKeys = new HashSet<>();
+                    for (Object policyObject : (List<?>) policies) {
+                        if (!(policyObject instanceof Document)) {
+                            continue;
+                        }
+                        final Document policyDocument = (Document) policyObject;
+                        final Policy policy = Policy.builder()
+                                .permission(policyDocument.getString("permission"))
+                                .users(toStringSet(policyDocument.get("users")))
+                                .groups(toStringSet(policyDocument.get("groups")))
+                                .build();
+                        permissionKeys.addAll(PermissionKeyUtils.generatePermissionKeys(policy));
+                    }
+
+                    bulkOperations.updateOne(
+                            query(where("_id").is(document.get("_id"))),
+                            update(permissionKeysField, permissionKeys)
+                    );
+                    pendingUpdates++;
+
+                    if (pendingUpdates == batchSize) {
+                        bulkOperations.execute();
+                        bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collectionName);
+                        pendingUpdates = 0;
+                    }
+                }
+            }
+
+            if (pendingUpdates > 0) {
+                bulkOperations.execute();
+            }
+
+            ensureIndexes(mongoTemplate, domainClass, makeIndex(permissionKeysField));
+        }
+
+        // Pages and actions are almost always fetched for an application, so the ACL check can be answered from the
+        // same index as the application filter.
+        ensureIndexes(mongoTemplate, NewPage.class,
+                makeIndex("applicationId", permissionKeysField)
+                        .named("applicationId_permissionKeys_compound_index")
+        );
+
+        ensureIndexes(mongoTemplate, NewAction.class,
+                makeIndex("applicationId", permissionKeysField)
+                        .named("applicationId_permissionKeys_compound_index")
+        );
+    }
+
+    private static Set<String> toStringSet(Object values) {
+        Set<String> stringSet = new HashSet<>();
+        if (values instanceof java.util.Collection) {
+            for (Object value : (java.util.Collection<?>) values) {
+                if (value != null) {
+                    stringSet.add(value.toString());
+                }
+            }
+        }
+        return stringSet;
+    }
 }
@@ -1,5 +1,6 @@
 package com.appsmith.server.repositories;
 
+import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.User;
 import org.springframework.data.domain.Sort;
@@ -7,7 +8,9 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface AppsmithRepository<T> {
 
@@ -19,5 +22,9 @@ public interface AppsmithRepository<T> {
 
     Flux<T> queryAll(List<Criteria> criterias, AclPermission permission, Sort sort);
 
+    Flux<T> queryAll(List<Criteria> criterias, List<String> includeFields, AclPermission permission, Sort sort);
+
+    Mono<Void> updatePolicies(Collection<String> ids, Map<String, Policy> policyMap, boolean addPolicies);
+
     T setUserPermissionsInObject(T obj, User user);
 }
@@ -14,24 +14,32 @@ import com.mongodb.client.result.UpdateResult;
 import com.querydsl.core.types.Path;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.bson.Document;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static com.appsmith.server.helpers.PermissionKeyUtils.generatePermissionKeys;
+import static com.appsmith.server.helpers.PermissionKeyUtils.groupPermissionKey;
+import static com.appsmith.server.helpers.PermissionKeyUtils.userPermissionKey;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Slf4j
@@ -43,12 +51,28 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
 
     protected final MongoConverter mongoConverter;
 
+    private final QueryMapper queryMapper;
+
+    // Whether the DB server supports update pipelines, which needs MongoDB 4.2 or later. Looked up once, when needed.
+    private final Mono<Boolean> isPipelineUpdateSupportedMono;
+
     @Autowired
     public BaseAppsmithRepositoryImpl(ReactiveMongoOperations mongoOperations,
                                       MongoConverter mongoConverter) {
         this.mongoOperations = mongoOperations;
         this.mongoConverter = mongoConverter;
+        this.queryMapper = new QueryMapper(mongoConverter);
         this.genericDomain = (Class<T>) GenericTypeResolver.resolveTypeArgument(getClass(), BaseAppsmithRepositoryImpl.class);
+        this.isPipelineUpdateSupportedMono = Mono.defer(() -> mongoOperations.executeCommand("{ buildInfo: 1 }"))
+                .map(buildInfo -> {
+                    List<Integer> version = (List<Integer>) buildInfo.get("versionArray");
+                    return version.get(0) > 4 || (version.get(0) == 4 && version.get(1) >= 2);
+                })
+                .onErrorResume(error -> {
+                    log.warn("Unable to get the MongoDB version, assuming update pipelines aren't supported", error);
+                    return Mono.just(false);
+                })
+                .cache();
     }
 
     public static final String fieldName(Path path) {
@@ -62,23 +86,33 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
         );
     }
 
+    /**
+     * Matches the documents on which the user, the anonymous user or all the groups of the user have the given
+     * permission. This is checked against the permission keys of the documents rather than their policies, so that the
+     * check can be served by the index on the permission keys.
+     */
     public static final Criteria userAcl(User user, AclPermission permission) {
 
-        Criteria userCriteria = Criteria.where(fieldName(QBaseDomain.baseDomain.policies))
-                .elemMatch(Criteria.where("users").all(user.getUsername())
-                        .and("permission").is(permission.getValue())
-                );
+        final String permissionKeysField = fieldName(QBaseDomain.baseDomain.permissionKeys);
 
-        Criteria anonymousUserCriteria = Criteria.where(fieldName(QBaseDomain.baseDomain.policies))
-                .elemMatch(Criteria.where("users").all(FieldName.ANONYMOUS_USER)
-                        .and("permission").is(permission.getValue())
-                );
+        Criteria userCriteria = Criteria.where(permissionKeysField).in(
+                userPermissionKey(user.getUsername(), permission.getValue()),
+                userPermissionKey(FieldName.ANONYMOUS_USER, permission.getValue())
+        );
+
+        // Matching on groups requires all the groups of the user to have the permission. Like `$all` with an empty list,
+        // this never matches for users without any groups.
+        if (CollectionUtils.isEmpty(user.getGroupIds())) {
+            return userCriteria;
+        }
 
-        Criteria groupCriteria = Criteria.where(fieldName(QBaseDomain.baseDomain.policies))
-                .elemMatch(Criteria.where("groups").all(user.getGroupIds())
-                        .and("permission").is(permission.getValue()));
+        List<String> groupPermissionKeys = new ArrayList<>();
+        for (String groupId : user.getGroupIds()) {
+            groupPermissionKeys.add(groupPermissionKey(groupId, permission.getValue()));
+        }
+        Criteria groupCriteria = Criteria.where(permissionKeysField).all(groupPermissionKeys);
 
-        return new Criteria().orOperator(userCriteria, groupCriteria, anonymousUserCriteria);
+        return new Criteria().orOperator(userCriteria, groupCriteria);
     }
 
     protected Criteria getIdCriteria(Object id) {
@@ -124,6 +158,7 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
 
                     // Set policies to null in the update object
                     resource.setPolicies(null);
+                    resource.setPermissionKeys(null);
                     resource.setUpdatedAt(Instant.now());
                     resource.setModifiedBy(user.getUsername());
 
@@ -197,6 +232,26 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
     }
 
     public Flux<T> queryAll(List<Criteria> criterias, AclPermission aclPermission, Sort sort) {
+        return queryAll(criterias, null, aclPermission, sort);
+    }
+
+    public Flux<T> queryAll(List<Criteria> criterias, List<String> includeFields, AclPermission aclPermission, Sort sort) {
+        return queryAll(criterias, includeFields, null, aclPermission, sort);
+    }
+
+    /**
+     * Like {@link #queryAll(List, List, AclPermission, Sort)}, but leaves out the given fields of the documents instead
+     * of reading only the given ones. The documents returned are partial, so they must never be saved back.
+     */
+    protected Flux<T> queryAllExcludingFields(List<Criteria> criterias, List<String> excludeFields, AclPermission aclPermission, Sort sort) {
+        return queryAll(criterias, null, excludeFields, aclPermission, sort);
+    }
+
+    private Flux<T> queryAll(List<Criteria> criterias,
+                             List<String> includeFields,
+                             List<String> excludeFields,
+                             AclPermission aclPermission,
+                             Sort sort) {
         final ArrayList<Criteria> criteriaList = new ArrayList<>(criterias);
         return ReactiveSecurityContextHolder.getContext()
                 .map(ctx -> ctx.getAuthentication())
@@ -216,6 +271,12 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
                     if (sort != null) {
                         query.with(sort);
                     }
+                    if (!CollectionUtils.isEmpty(includeFields)) {
+                        includeFields.forEach(field -> query.fields().include(field));
+                    }
+                    if (!CollectionUtils.isEmpty(excludeFields)) {
+                        excludeFields.forEach(field -> query.fields().exclude(field));
+                    }
 
                     return mongoOperations.query(this.genericDomain)
                             .matching(query)
@@ -224,6 +285,175 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
                 });
     }
 
+    /**
+     * Adds the users and groups in the given policies to, or removes them from, the policies of the documents with the
+     * given ids. Only the policies of the documents are modified, the rest of the documents is neither read nor
+     * rewritten.
+     *
+     * @param ids         Ids of the documents to update
+     * @param policyMap   Policies to add or remove, keyed by permission
+     * @param addPolicies True to add the users and groups to the policies, false to remove them
+     * @return Empty Mono which completes once all the documents have been updated
+     */
+    public Mono<Void> updatePolicies(Collection<String> ids, Map<String, Policy> policyMap, boolean addPolicies) {
+        if (CollectionUtils.isEmpty(ids) || CollectionUtils.isEmpty(policyMap)) {
+            return Mono.empty();
+        }
+
+        final String policiesField = fieldName(QBaseDomain.baseDomain.policies);
+        final String permissionField = policiesField + ".permission";
+        final String permissionKeysField = fieldName(QBaseDomain.baseDomain.permissionKeys);
+
+        // Update the existing policy for each permission in place, identifying it with an array filter.
+        Update update = new Update();
+        Set<String> permissionKeys = new HashSet<>();
+        int policyIndex = 0;
+        for (Policy policy : policyMap.values()) {
+            final String identifier = "policy" + policyIndex++;
+            final String policyPath = policiesField + ".$[" + identifier + "]";
+            boolean isPolicyUpdated = false;
+
+            if (!CollectionUtils.isEmpty(policy.getUsers())) {
+                isPolicyUpdated = true;
+                if (addPolicies) {
+                    update.addToSet(policyPath + ".users").each(policy.getUsers().toArray());
+                } else {
+                    update.pullAll(policyPath + ".users", policy.getUsers().toArray());
+                }
+            }
+
+            if (!CollectionUtils.isEmpty(policy.getGroups())) {
+                isPolicyUpdated = true;
+                if (addPolicies) {
+                    update.addToSet(policyPath + ".groups").each(policy.getGroups().toArray());
+                } else {
+                    update.pullAll(policyPath + ".groups", policy.getGroups().toArray());
+                }
+            }
+
+            // Every array filter has to be used in the update, so only add the ones for policies that have a change.
+            if (isPolicyUpdated) {
+                update.filterArray(where(identifier + ".permission").is(policy.getPermission()));
+                permissionKeys.addAll(generatePermissionKeys(policy));
+            }
+        }
+
+        // Since there is at most one policy per permission, a user or group loses a permission key exactly when they
+        // are removed from the policy for that permission.
+        if (!permissionKeys.isEmpty()) {
+            if (addPolicies) {
+                update.addToSet(permissionKeysField).each(permissionKeys.toArray());
+            } else {
+                update.pullAll(permissionKeysField, permissionKeys.toArray());
+            }
+        }
+
+        Mono<Void> updateExistingPoliciesMono = update.getUpdateObject().isEmpty()
+                ? Mono.empty()
+                : mongoOperations.updateMulti(
+                        new Query(where(FieldName.ID).in(ids).and(permissionField).in(policyMap.keySet())),
+                        update,
+                        this.genericDomain
+                ).then();
+
+        if (!addPolicies) {
+            return updateExistingPoliciesMono;
+        }
+
+        // Documents which don't have a policy for a permission yet get the policy as it is.
+        return updateExistingPoliciesMono
+                .thenMany(Flux.fromIterable(policyMap.values()))
+                .concatMap(policy -> mongoOperations.updateMulti(
+                        new Query(where(FieldName.ID).in(ids).and(permissionField).ne(policy.getPermission())),
+                        new Update()
+                                .push(policiesField, policy)
+                                .addToSet(permissionKeysField).each(generatePermissionKeys(policy).toArray()),
+                        this.genericDomain
+                ))
+                .then();
+    }
+
+    /**
+     * Copies the value of a field into another field, and bumps the update time, of all the documents matching the
+     * criteria and the ACL. On MongoDB 4.2 and later, the value is copied on the DB server with an update pipeline, so
+     * the documents are neither read nor rewritten. Older versions don't support update pipelines, so there the
+     * documents are read, with only the copied field, and updated one by one.
+     *
+     * @param criterias   Criteria of the documents to update
+     * @param sourceField Field to copy the value of
+     * @param targetField Field to copy the value into
+     * @param permission  Permission the current user needs on the documents
+     * @return Number of documents matched
+     */
+    protected Mono<Long> copyFieldValue(List<Criteria> criterias, String sourceField, String targetField, AclPermission permission) {
+        return copyFieldValue(criterias, sourceField, targetField, null, null, permission);
+    }
+
+    /**
+     * Same as {@link #copyFieldValue(List, String, String, AclPermission)}, and also sets the git sync id of the
+     * documents which don't have one yet, to the id of their application and the current time, the way the services do
+     * when saving a document.
+     *
+     * @param gitSyncIdField     Field holding the git sync id of the documents
+     * @param applicationIdField Field holding the id of the application of the documents
+     */
+    protected Mono<Long> copyFieldValue(List<Criteria> criterias,
+                                        String sourceField,
+                                        String targetField,
+                                        String gitSyncIdField,
+                                        String applicationIdField,
+                                        AclPermission permission) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .zipWith(isPipelineUpdateSupportedMono)
+                .flatMap(tuple -> {
+                    User user = (User) tuple.getT1().getPrincipal();
+                    Document filter = queryMapper.getMappedObject(
+                            createQueryWithPermission(criterias, user, permission).getQueryObject(),
+                            mongoConverter.getMappingContext().getPersistentEntity(this.genericDomain)
+                    );
+                    Date updatedAt = new Date();
+                    String updatedAtField = fieldName(QBaseDomain.baseDomain.updatedAt);
+                    String gitSyncIdSuffix = "_" + Instant.now().toString();
+
+                    if (Boolean.TRUE.equals(tuple.getT2())) {
+                        Document set = new Document(targetField, "$" + sourceField).append(updatedAtField, updatedAt);
+                        if (gitSyncIdField != null) {
+                            set.append(gitSyncIdField, new Document("$ifNull", List.of(
+                                    "$" + gitSyncIdField,
+                                    new Document("$concat", List.of("$" + applicationIdField, gitSyncIdSuffix))
+                            )));
+                        }
+                        List<Document> pipeline = List.of(new Document("$set", set));
+                        return mongoOperations
+                                .execute(this.genericDomain, collection -> collection.updateMany(filter, pipeline))
+                                .single()
+                                .map(UpdateResult::getMatchedCount);
+                    }
+
+                    Document projection = new Document(sourceField, 1);
+                    if (gitSyncIdField != null) {
+                        projection.append(gitSyncIdField, 1).append(applicationIdField, 1);
+                    }
+                    return mongoOperations
+                            .execute(this.genericDomain, collection -> Flux
+                                    .from(collection.find(filter).projection(projection))
+                                    .flatMap(document -> {
+                                        Document set = new Document(targetField, document.get(sourceField))
+                                                .append(updatedAtField, updatedAt);
+                                        if (gitSyncIdField != null && document.get(gitSyncIdField) == null) {
+                                            set.append(gitSyncIdField, document.get(applicationIdField) + gitSyncIdSuffix);
+                                        }
+                                        return collection.updateOne(
+                                                new Document(FieldName.MONGO_UNESCAPED_ID, document.get(FieldName.MONGO_UNESCAPED_ID)),
+                                                new Document("$set", set)
+                                        );
+                                    })
+                            )
+                            .count();
+                });
+    }
+
     public T setUserPermissionsInObject(T obj, User user) {
 
         Set<String> permissions = new HashSet<>();
@@ -4,6 +4,7 @@ import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.ActionCollection;
 import org.springframework.data.domain.Sort;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -18,4 +19,8 @@ public interface CustomActionCollectionRepository extends AppsmithRepository<Act
     Flux<ActionCollection> findByPageId(String pageId, AclPermission permission);
 
     Flux<ActionCollection> findByPageId(String pageId);
+
+    Flux<ActionCollection> findIdsAndDeletedAtByApplicationId(String applicationId, AclPermission aclPermission);
+
+    Mono<Long> publishByApplicationId(String applicationId, AclPermission aclPermission);
 }
@@ -11,6 +11,7 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -127,4 +128,42 @@ public class CustomActionCollectionRepositoryImpl extends BaseAppsmithRepository
     public Flux<ActionCollection> findByPageId(String pageId) {
         return this.findByPageId(pageId, null);
     }
+
+    /**
+     * Fetches only the ids of the action collections of the application, and the time they were deleted in edit mode
+     * at, if they were. The rest of the action collections is left out.
+     */
+    @Override
+    public Flux<ActionCollection> findIdsAndDeletedAtByApplicationId(String applicationId, AclPermission aclPermission) {
+        Criteria applicationCriteria = where(fieldName(QActionCollection.actionCollection.applicationId)).is(applicationId);
+        String deletedAtKey = fieldName(QActionCollection.actionCollection.unpublishedCollection) + "."
+                + fieldName(QActionCollection.actionCollection.unpublishedCollection.deletedAt);
+
+        return queryAll(
+                List.of(applicationCriteria),
+                List.of(fieldName(QActionCollection.actionCollection.id), deletedAtKey),
+                aclPermission,
+                null
+        );
+    }
+
+    /**
+     * Publishes all the action collections of the application which haven't been deleted in edit mode, by copying
+     * their unpublished collection into their published collection on the DB server.
+     *
+     * @return Number of action collections published
+     */
+    @Override
+    public Mono<Long> publishByApplicationId(String applicationId, AclPermission aclPermission) {
+        Criteria applicationCriteria = where(fieldName(QActionCollection.actionCollection.applicationId)).is(applicationId);
+        Criteria notDeletedInEditModeCriteria = where(fieldName(QActionCollection.actionCollection.unpublishedCollection) + "."
+                + fieldName(QActionCollection.actionCollection.unpublishedCollection.deletedAt)).is(null);
+
+        return copyFieldValue(
+                List.of(applicationCriteria, notDeletedInEditModeCriteria),
+                fieldName(QActionCollection.actionCollection.unpublishedCollection),
+                fieldName(QActionCollection.actionCollection.publishedCollection),
+                aclPermission
+        );
+    }
 }
@@ -7,6 +7,7 @@ import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.Set;
 
 public interface CustomCommentThreadRepository extends AppsmithRepository<CommentThread> {
@@ -14,6 +15,7 @@ public interface CustomCommentThreadRepository extends AppsmithRepository<Commen
     Flux<CommentThread> find(CommentThreadFilterDTO commentThreadFilterDTO, AclPermission permission);
     Mono<UpdateResult> addToSubscribers(String threadId, Set<String> usernames);
     Mono<UpdateResult> removeSubscriber(String threadId, String username);
+    Mono<UpdateResult> removeSubscriber(Collection<String> threadIds, String username);
     Mono<CommentThread> findPrivateThread(String applicationId);
     Mono<Long> countUnreadThreads(String applicationId, String userEmail);
 }
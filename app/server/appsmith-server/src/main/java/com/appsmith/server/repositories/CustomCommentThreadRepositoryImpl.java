@@ -3,6 +3,7 @@ package com.appsmith.server.repositories;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.QCommentThread;
+import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.CommentThreadFilterDTO;
 import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
@@ -11,11 +12,13 @@ import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -65,6 +68,23 @@ public class CustomCommentThreadRepositoryImpl extends BaseAppsmithRepositoryImp
         return this.updateById(threadId, update, AclPermission.READ_THREAD);
     }
 
+    @Override
+    public Mono<UpdateResult> removeSubscriber(Collection<String> threadIds, String username) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .map(auth -> auth.getPrincipal())
+                .flatMap(principal -> {
+                    User user = (User) principal;
+                    Query query = Query.query(where(fieldName(QCommentThread.commentThread.id)).in(threadIds));
+                    query.addCriteria(new Criteria().andOperator(notDeleted(), userAcl(user, AclPermission.READ_THREAD)));
+                    return mongoOperations.updateMulti(
+                            query,
+                            new Update().pull(fieldName(QCommentThread.commentThread.subscribers), username),
+                            CommentThread.class
+                    );
+                });
+    }
+
     @Override
     public Mono<Long> countUnreadThreads(String applicationId, String userEmail) {
         String resolvedActiveFieldKey = String.format("%s.%s",
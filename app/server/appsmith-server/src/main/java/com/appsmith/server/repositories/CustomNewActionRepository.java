@@ -39,4 +39,8 @@ public interface CustomNewActionRepository extends AppsmithRepository<NewAction>
     Flux<NewAction> findByApplicationIdAndViewMode(String applicationId, Boolean viewMode, AclPermission aclPermission);
 
     Mono<Long> countByDatasourceId(String datasourceId);
+
+    Flux<NewAction> findIdsAndDeletedAtByApplicationId(String applicationId, AclPermission aclPermission);
+
+    Mono<Long> publishByApplicationId(String applicationId, AclPermission aclPermission);
 }
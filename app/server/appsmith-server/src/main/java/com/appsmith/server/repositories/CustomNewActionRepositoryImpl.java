@@ -295,4 +295,39 @@ public class CustomNewActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Ne
 
         return mongoOperations.count(query, NewAction.class);
     }
+
+    /**
+     * Fetches only the ids of the actions of the application, and the time they were deleted in edit mode at, if they
+     * were. The rest of the actions is left out.
+     */
+    @Override
+    public Flux<NewAction> findIdsAndDeletedAtByApplicationId(String applicationId, AclPermission aclPermission) {
+        Criteria applicationIdCriteria = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+        String deletedAtKey = fieldName(QNewAction.newAction.unpublishedAction) + "."
+                + fieldName(QNewAction.newAction.unpublishedAction.deletedAt);
+
+        return queryAll(List.of(applicationIdCriteria), List.of(fieldName(QNewAction.newAction.id), deletedAtKey), aclPermission, null);
+    }
+
+    /**
+     * Publishes all the actions of the application which haven't been deleted in edit mode, by copying their
+     * unpublished action into their published action on the DB server. Actions without a git sync id get one.
+     *
+     * @return Number of actions published
+     */
+    @Override
+    public Mono<Long> publishByApplicationId(String applicationId, AclPermission aclPermission) {
+        Criteria applicationIdCriteria = where(fieldName(QNewAction.newAction.applicationId)).is(applicationId);
+        Criteria notDeletedInEditModeCriteria = where(fieldName(QNewAction.newAction.unpublishedAction) + "."
+                + fieldName(QNewAction.newAction.unpublishedAction.deletedAt)).is(null);
+
+        return copyFieldValue(
+                List.of(applicationIdCriteria, notDeletedInEditModeCriteria),
+                fieldName(QNewAction.newAction.unpublishedAction),
+                fieldName(QNewAction.newAction.publishedAction),
+                fieldName(QNewAction.newAction.gitSyncId),
+                fieldName(QNewAction.newAction.applicationId),
+                aclPermission
+        );
+    }
 }
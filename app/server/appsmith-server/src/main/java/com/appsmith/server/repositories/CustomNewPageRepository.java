@@ -2,14 +2,18 @@ package com.appsmith.server.repositories;
 
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.NewPage;
+import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CustomNewPageRepository extends AppsmithRepository<NewPage> {
     Flux<NewPage> findByApplicationId(String applicationId, AclPermission aclPermission);
 
+    Flux<NewPage> findByApplicationIdWithoutLayouts(String applicationId, AclPermission aclPermission);
+
     Mono<NewPage> findByIdAndLayoutsIdAndViewMode(String id, String layoutId, AclPermission aclPermission, Boolean viewMode);
 
     Mono<NewPage> findByNameAndViewMode(String name, AclPermission aclPermission, Boolean viewMode);
@@ -18,5 +22,11 @@ public interface CustomNewPageRepository extends AppsmithRepository<NewPage> {
 
     Flux<NewPage> findAllByIds(List<String> ids, AclPermission aclPermission);
 
+    Flux<NewPage> findAllByIdsWithoutLayouts(List<String> ids, AclPermission aclPermission);
+
     Mono<String> getNameByPageId(String pageId, boolean isPublishedName);
+
+    Mono<UpdateResult> clearDslBindingsHash(String pageId);
+
+    Mono<Long> publishPages(Collection<String> pageIds, AclPermission aclPermission);
 }
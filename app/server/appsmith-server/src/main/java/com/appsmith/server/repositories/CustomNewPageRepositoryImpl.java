@@ -5,16 +5,19 @@ import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.QLayout;
 import com.appsmith.server.domains.QNewPage;
 import com.appsmith.server.dtos.PageDTO;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
@@ -24,6 +27,12 @@ import static org.springframework.data.mongodb.core.query.Criteria.where;
 public class CustomNewPageRepositoryImpl extends BaseAppsmithRepositoryImpl<NewPage>
         implements CustomNewPageRepository {
 
+    // The layouts hold the DSLs of a page, which make up most of its document. Pages are listed without them.
+    private static final List<String> LAYOUT_FIELDS = List.of(
+            fieldName(QNewPage.newPage.unpublishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.layouts),
+            fieldName(QNewPage.newPage.publishedPage) + "." + fieldName(QNewPage.newPage.publishedPage.layouts)
+    );
+
     public CustomNewPageRepositoryImpl(ReactiveMongoOperations mongoOperations, MongoConverter mongoConverter) {
         super(mongoOperations, mongoConverter);
     }
@@ -34,6 +43,15 @@ public class CustomNewPageRepositoryImpl extends BaseAppsmithRepositoryImpl<NewP
         return queryAll(List.of(applicationIdCriteria), aclPermission);
     }
 
+    /**
+     * Finds the pages of the application without their layouts, for listing them. The pages returned must not be saved.
+     */
+    @Override
+    public Flux<NewPage> findByApplicationIdWithoutLayouts(String applicationId, AclPermission aclPermission) {
+        Criteria applicationIdCriteria = where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
+        return queryAllExcludingFields(List.of(applicationIdCriteria), LAYOUT_FIELDS, aclPermission, null);
+    }
+
     @Override
     public Mono<NewPage> findByIdAndLayoutsIdAndViewMode(String id, String layoutId, AclPermission aclPermission, Boolean viewMode) {
         String layoutsIdKey;
@@ -105,6 +123,17 @@ public class CustomNewPageRepositoryImpl extends BaseAppsmithRepositoryImpl<NewP
         return queryAll(List.of(idsCriterion), aclPermission);
     }
 
+    /**
+     * Finds the pages with the given ids without their layouts, for listing them. The pages returned must not be saved.
+     */
+    @Override
+    public Flux<NewPage> findAllByIdsWithoutLayouts(List<String> ids, AclPermission aclPermission) {
+        Criteria idsCriterion = where("id")
+                .in(ids);
+
+        return queryAllExcludingFields(List.of(idsCriterion), LAYOUT_FIELDS, aclPermission, null);
+    }
+
     private Criteria getNameCriterion(String name, Boolean viewMode) {
         String nameKey;
 
@@ -118,9 +147,14 @@ public class CustomNewPageRepositoryImpl extends BaseAppsmithRepositoryImpl<NewP
 
     @Override
     public Mono<String> getNameByPageId(String pageId, boolean isPublishedName) {
+        Query query = Query.query(Criteria.where(fieldName(QNewPage.newPage.id)).is(pageId));
+        query.fields()
+                .include(fieldName(QNewPage.newPage.unpublishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.name))
+                .include(fieldName(QNewPage.newPage.publishedPage) + "." + fieldName(QNewPage.newPage.publishedPage.name));
+
         return mongoOperations
                 .query(NewPage.class)
-                .matching(Query.query(Criteria.where(fieldName(QNewPage.newPage.id)).is(pageId)))
+                .matching(query)
                 .one()
                 .map(p -> {
                     PageDTO page = (isPublishedName ? p.getPublishedPage() : p.getUnpublishedPage());
@@ -131,4 +165,41 @@ public class CustomNewPageRepositoryImpl extends BaseAppsmithRepositoryImpl<NewP
                     return p.getUnpublishedPage().getName();
                 });
     }
+
+    /**
+     * Clears the DSL bindings hash of all the unpublished layouts of the page, so that the on page load actions are
+     * recomputed on the next update of each layout.
+     */
+    @Override
+    public Mono<UpdateResult> clearDslBindingsHash(String pageId) {
+        String dslBindingsHashKey = fieldName(QNewPage.newPage.unpublishedPage) + "."
+                + fieldName(QNewPage.newPage.unpublishedPage.layouts) + ".$[]."
+                + fieldName(QLayout.layout.dslBindingsHash);
+
+        return mongoOperations.updateFirst(
+                Query.query(where(fieldName(QNewPage.newPage.id)).is(pageId)),
+                new Update().unset(dslBindingsHashKey),
+                NewPage.class
+        );
+    }
+
+    /**
+     * Publishes the pages by copying their unpublished page into their published page on the DB server. Pages without
+     * a git sync id get one.
+     *
+     * @return Number of pages published
+     */
+    @Override
+    public Mono<Long> publishPages(Collection<String> pageIds, AclPermission aclPermission) {
+        Criteria idsCriterion = where(fieldName(QNewPage.newPage.id)).in(pageIds);
+
+        return copyFieldValue(
+                List.of(idsCriterion),
+                fieldName(QNewPage.newPage.unpublishedPage),
+                fieldName(QNewPage.newPage.publishedPage),
+                fieldName(QNewPage.newPage.gitSyncId),
+                fieldName(QNewPage.newPage.applicationId),
+                aclPermission
+        );
+    }
 }
@@ -22,6 +22,8 @@ public interface ActionCollectionService extends CrudService<ActionCollection, S
 
     Flux<ActionCollection> saveAll(List<ActionCollection> collections);
 
+    Mono<Void> publishActionCollections(String applicationId, AclPermission permission);
+
     Flux<ActionCollectionDTO> getPopulatedActionCollectionsByViewMode(MultiValueMap<String, String> params, Boolean viewMode);
 
     Mono<ActionCollectionDTO> populateActionCollectionByViewMode(ActionCollectionDTO actionCollectionDTO1, Boolean viewMode);
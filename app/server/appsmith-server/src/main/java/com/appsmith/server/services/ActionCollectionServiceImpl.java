@@ -99,6 +99,21 @@ public class ActionCollectionServiceImpl extends BaseService<ActionCollectionRep
         return repository.saveAll(collections);
     }
 
+    /**
+     * Publishes all the action collections of the application. Only the ids of the collections are read, the
+     * unpublished collections are copied into the published collections on the DB server. Collections deleted in edit
+     * mode are deleted for good.
+     */
+    @Override
+    public Mono<Void> publishActionCollections(String applicationId, AclPermission permission) {
+        return repository.findIdsAndDeletedAtByApplicationId(applicationId, permission)
+                .filter(collection -> collection.getUnpublishedCollection() != null
+                        && collection.getUnpublishedCollection().getDeletedAt() != null)
+                .flatMap(collection -> delete(collection.getId()))
+                .then(repository.publishByApplicationId(applicationId, permission))
+                .then();
+    }
+
     @Override
     public Flux<ActionCollectionDTO> getPopulatedActionCollectionsByViewMode(MultiValueMap<String, String> params, Boolean viewMode) {
         return this.getActionCollectionsByViewMode(params, viewMode)
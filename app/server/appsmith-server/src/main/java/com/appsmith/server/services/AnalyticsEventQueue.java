@@ -0,0 +1,199 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.configurations.AnalyticsQueueConfig;
+import com.segment.analytics.Analytics;
+import com.segment.analytics.messages.MessageBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Bounded in-memory queue of analytics events, drained by a single background thread which hands them over to Segment
+ * in batches. Queueing an event never blocks and never does any I/O, so that analytics don't add to the latency of the
+ * requests raising them. When the queue is full, events are dropped as per the configured overflow policy.
+ * <p>
+ * Events are queued as functions building the Segment message from the instance id, so that the instance id is looked
+ * up once per batch on the drainer thread, instead of once per event on the request path.
+ */
+@Component
+@Slf4j
+public class AnalyticsEventQueue {
+
+    private static final String METRIC_EVENTS = "appsmith.analytics.events";
+
+    private static final Duration INSTANCE_ID_TIMEOUT = Duration.ofSeconds(10);
+
+    private final Analytics analytics;
+    private final ConfigService configService;
+
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final AnalyticsQueueConfig.OverflowPolicy overflowPolicy;
+
+    private final Queue<Function<String, MessageBuilder>> queue = new ConcurrentLinkedQueue<>();
+
+    // Size of the queue, kept separately since `ConcurrentLinkedQueue.size()` walks the whole queue.
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running = false;
+
+    private Thread drainer;
+
+    @Autowired
+    public AnalyticsEventQueue(@Autowired(required = false) Analytics analytics,
+                               ConfigService configService,
+                               AnalyticsQueueConfig analyticsQueueConfig,
+                               MeterRegistry meterRegistry) {
+        this.analytics = analytics;
+        this.configService = configService;
+        this.capacity = Math.max(1, analyticsQueueConfig.getCapacity());
+        this.batchSize = Math.max(1, analyticsQueueConfig.getBatchSize());
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, analyticsQueueConfig.getFlushIntervalMillis()));
+        this.overflowPolicy = analyticsQueueConfig.getOverflowPolicy();
+
+        Gauge.builder("appsmith.analytics.queue.size", size, AtomicInteger::get).register(meterRegistry);
+        this.enqueuedCounter = Counter.builder(METRIC_EVENTS).tag("result", "enqueued").register(meterRegistry);
+        this.droppedCounter = Counter.builder(METRIC_EVENTS).tag("result", "dropped").register(meterRegistry);
+        this.sentCounter = Counter.builder(METRIC_EVENTS).tag("result", "sent").register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_EVENTS).tag("result", "failed").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (analytics == null || running) {
+            return;
+        }
+
+        drainer = new Thread(this::drain, "analytics-drainer");
+        drainer.setDaemon(true);
+        running = true;
+        drainer.start();
+    }
+
+    /**
+     * Stops the drainer after it has handed over all the queued events, and asks Segment to send them right away.
+     */
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) + INSTANCE_ID_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        analytics.flush();
+    }
+
+    /**
+     * Queues an event to be sent to Segment.
+     *
+     * @param messageBuilder Builds the message to be sent, given the instance id. It's called on the drainer thread.
+     * @return False if the event was dropped, either because analytics are disabled or because the queue is full.
+     */
+    public boolean offer(Function<String, MessageBuilder> messageBuilder) {
+        if (!running) {
+            return false;
+        }
+
+        if (size.incrementAndGet() > capacity) {
+            // Either this event or the oldest one is dropped, so the size stays the same.
+            size.decrementAndGet();
+            droppedCounter.increment();
+            if (overflowPolicy != AnalyticsQueueConfig.OverflowPolicy.DROP_OLDEST || queue.poll() == null) {
+                return false;
+            }
+        }
+
+        queue.offer(messageBuilder);
+        enqueuedCounter.increment();
+
+        // Wake the drainer up early if there's already a full batch waiting.
+        if (size.get() >= batchSize) {
+            LockSupport.unpark(drainer);
+        }
+
+        return true;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private void drain() {
+        final List<Function<String, MessageBuilder>> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            // Wait for events to pile up, unless there's already a full batch waiting or the queue is being stopped.
+            if (running && size.get() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+
+            Function<String, MessageBuilder> messageBuilder;
+            while (batch.size() < batchSize && (messageBuilder = queue.poll()) != null) {
+                size.decrementAndGet();
+                batch.add(messageBuilder);
+            }
+
+            if (!batch.isEmpty()) {
+                send(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<Function<String, MessageBuilder>> batch) {
+        final String instanceId = getInstanceId();
+        if (instanceId == null) {
+            log.warn("Unable to get the instance id, dropping {} analytics events.", batch.size());
+            failedCounter.increment(batch.size());
+            return;
+        }
+
+        for (Function<String, MessageBuilder> messageBuilder : batch) {
+            try {
+                analytics.enqueue(messageBuilder.apply(instanceId));
+                sentCounter.increment();
+            } catch (Exception e) {
+                log.warn("Error sending analytics event", e);
+                failedCounter.increment();
+            }
+        }
+    }
+
+    private String getInstanceId() {
+        try {
+            // This is the drainer's own thread, so it's fine to block here. The instance id is cached by the config
+            // service after the first lookup.
+            return configService.getInstanceId().block(INSTANCE_ID_TIMEOUT);
+        } catch (Exception e) {
+            log.warn("Error getting the instance id for analytics events", e);
+            return null;
+        }
+    }
+}
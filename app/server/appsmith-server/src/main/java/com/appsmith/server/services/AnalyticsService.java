@@ -16,7 +16,6 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -28,20 +27,20 @@ public class AnalyticsService {
     private final Analytics analytics;
     private final SessionUserService sessionUserService;
     private final CommonConfig commonConfig;
-    private final ConfigService configService;
     private final PolicyUtils policyUtils;
+    private final AnalyticsEventQueue analyticsEventQueue;
 
     @Autowired
     public AnalyticsService(@Autowired(required = false) Analytics analytics,
                             SessionUserService sessionUserService,
                             CommonConfig commonConfig,
-                            ConfigService configService,
-                            PolicyUtils policyUtils) {
+                            PolicyUtils policyUtils,
+                            AnalyticsEventQueue analyticsEventQueue) {
         this.analytics = analytics;
         this.sessionUserService = sessionUserService;
         this.commonConfig = commonConfig;
-        this.configService = configService;
         this.policyUtils = policyUtils;
+        this.analyticsEventQueue = analyticsEventQueue;
     }
 
     public boolean isActive() {
@@ -74,17 +73,18 @@ public class AnalyticsService {
                         email = hash(email);
                     }
 
-                    analytics.enqueue(IdentifyMessage.builder()
-                            .userId(ObjectUtils.defaultIfNull(username, ""))
-                            .traits(Map.of(
-                                    "name", ObjectUtils.defaultIfNull(name, ""),
-                                    "email", ObjectUtils.defaultIfNull(email, ""),
-                                    "isSuperUser", isSuperUser != null && isSuperUser,
-                                    "role", ObjectUtils.defaultIfNull(userData.getRole(), ""),
-                                    "goal", ObjectUtils.defaultIfNull(userData.getUseCase(), "")
-                            ))
+                    final Map<String, Object> traits = Map.of(
+                            "name", ObjectUtils.defaultIfNull(name, ""),
+                            "email", ObjectUtils.defaultIfNull(email, ""),
+                            "isSuperUser", isSuperUser != null && isSuperUser,
+                            "role", ObjectUtils.defaultIfNull(userData.getRole(), ""),
+                            "goal", ObjectUtils.defaultIfNull(userData.getUseCase(), "")
                     );
-                    analytics.flush();
+                    final String userId = ObjectUtils.defaultIfNull(username, "");
+
+                    // Events are handed over to Segment in the order they're queued, so this identify call still goes
+                    // out before any of the events raised by this user.
+                    analyticsEventQueue.offer(instanceId -> IdentifyMessage.builder().userId(userId).traits(traits));
                     return savedUser;
                 });
     }
@@ -128,14 +128,11 @@ public class AnalyticsService {
         }
 
         final String finalUserId = userId;
-        configService.getInstanceId().map(instanceId -> {
-            TrackMessage.Builder messageBuilder = TrackMessage.builder(event).userId(finalUserId);
-            analyticsProperties.put("originService", "appsmith-server");
+        analyticsProperties.put("originService", "appsmith-server");
+        analyticsEventQueue.offer(instanceId -> {
             analyticsProperties.put("instanceId", instanceId);
-            messageBuilder = messageBuilder.properties(analyticsProperties);
-            analytics.enqueue(messageBuilder);
-            return instanceId;
-        }).subscribeOn(Schedulers.boundedElastic()).subscribe();
+            return TrackMessage.builder(event).userId(finalUserId).properties(analyticsProperties);
+        });
     }
 
     public <T extends BaseDomain> Mono<T> sendObjectEvent(AnalyticsEvents event, T object, Map<String, Object> extraProperties) {
@@ -7,7 +7,6 @@ import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.PolicyGenerator;
 import com.appsmith.server.constants.AnalyticsEvents;
 import com.appsmith.server.constants.FieldName;
-import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationPage;
 import com.appsmith.server.domains.GitApplicationMetadata;
@@ -74,6 +73,7 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
     private final NewActionService newActionService;
     private final ActionCollectionService actionCollectionService;
     private final GitFileUtils gitFileUtils;
+    private final ApplicationViewBundleService applicationViewBundleService;
 
     public Mono<PageDTO> createPage(PageDTO page) {
         if (page.getId() != null) {
@@ -625,7 +625,7 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, applicationId)))
                 .cache();
 
-        Flux<NewPage> publishApplicationAndPages = applicationMono
+        Mono<Long> publishApplicationAndPages = applicationMono
                 //Return all the pages in the Application
                 .flatMap(application -> {
                     List<ApplicationPage> pages = application.getPages();
@@ -654,13 +654,11 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
                     publishedPageIds.addAll(editedPageIds);
                     publishedPageIds.removeAll(editedPageIds);
 
-                    Mono<List<Boolean>> archivePageListMono;
+                    Mono<Boolean> archivePagesMono;
                     if (!publishedPageIds.isEmpty()) {
-                        archivePageListMono = Flux.fromStream(publishedPageIds.stream())
-                                .flatMap(id -> newPageService.archiveById(id))
-                                .collectList();
+                        archivePagesMono = newPageService.archiveAllById(new ArrayList<>(publishedPageIds));
                     } else {
-                        archivePageListMono = Mono.just(new ArrayList<>());
+                        archivePagesMono = Mono.just(true);
                     }
 
                     application.setPublishedPages(pages);
@@ -671,56 +669,32 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
                     }
                     // Archive the deleted pages and save the application changes and then return the pages so that
                     // the pages can also be published
-                    return Mono.zip(archivePageListMono, applicationService.save(application))
+                    return Mono.zip(archivePagesMono, applicationService.save(application))
                             .thenReturn(pages);
                 })
-                .flatMapMany(Flux::fromIterable)
-                //In each page, copy each layout's dsl to publishedDsl field
-                .flatMap(applicationPage -> newPageService
-                        .findById(applicationPage.getId(), MANAGE_PAGES)
-                        .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PAGE, applicationPage.getId())))
-                        .map(page -> {
-                            page.setPublishedPage(page.getUnpublishedPage());
-                            return page;
-                        }))
-                .collectList()
-                .flatMapMany(newPageService::saveAll);
-
-        Flux<NewAction> publishedActionsFlux = newActionService
-                .findAllByApplicationIdAndViewMode(applicationId, false, MANAGE_ACTIONS, null)
-                .flatMap(newAction -> {
-                    // If the action was deleted in edit mode, now this can be safely deleted from the repository
-                    if (newAction.getUnpublishedAction().getDeletedAt() != null) {
-                        return newActionService.delete(newAction.getId())
-                                .then(Mono.empty());
-                    }
-                    // Publish the action by copying the unpublished actionDTO to published actionDTO
-                    newAction.setPublishedAction(newAction.getUnpublishedAction());
-                    return Mono.just(newAction);
-                })
-                .collectList()
-                .flatMapMany(newActionService::saveAll);
-
-        Flux<ActionCollection> publishedCollectionsFlux = actionCollectionService
-                .findAllByApplicationIdAndViewMode(applicationId, false, MANAGE_ACTIONS, null)
-                .flatMap(collection -> {
-                    // If the collection was deleted in edit mode, now this can be safely deleted from the repository
-                    if (collection.getUnpublishedCollection().getDeletedAt() != null) {
-                        return actionCollectionService.delete(collection.getId())
-                                .then(Mono.empty());
+                // Copy the unpublished page of each page into its published page, on the DB server
+                .flatMap(pages -> {
+                    Set<String> pageIds = pages.stream().map(ApplicationPage::getId).collect(Collectors.toSet());
+                    if (pageIds.isEmpty()) {
+                        return Mono.just(0L);
                     }
-                    // Publish the collection by copying the unpublished collectionDTO to published collectionDTO
-                    collection.setPublishedCollection(collection.getUnpublishedCollection());
-                    return Mono.just(collection);
-                })
-                .collectList()
-                .flatMapMany(actionCollectionService::saveAll);
+                    return newPageService.publishPages(pageIds, MANAGE_PAGES)
+                            .flatMap(publishedPageCount -> publishedPageCount < pageIds.size()
+                                    ? Mono.<Long>error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PAGE, pageIds))
+                                    : Mono.just(publishedPageCount));
+                });
 
         return Mono.when(
-                publishApplicationAndPages.collectList(),
-                publishedActionsFlux.collectList(),
-                publishedCollectionsFlux
+                publishApplicationAndPages,
+                newActionService.publishActions(applicationId, MANAGE_ACTIONS),
+                actionCollectionService.publishActionCollections(applicationId, MANAGE_ACTIONS)
         )
+                // A failure to build the view bundle doesn't fail the publish, the bundle gets built when it's viewed
+                .then(applicationViewBundleService.refreshViewBundle(applicationId)
+                        .onErrorResume(error -> {
+                            log.error("Error building the view bundle of application {}", applicationId, error);
+                            return Mono.empty();
+                        }))
                 .then(applicationMono);
     }
 
@@ -266,7 +266,8 @@ public class ApplicationServiceImpl extends BaseService<ApplicationRepository, A
                         ActionDTO unpublishedAction = action.getUnpublishedAction();
                         ActionDTO publishedAction = action.getPublishedAction();
 
-                        if (unpublishedAction.getDatasource() != null &&
+                        if (unpublishedAction != null &&
+                                unpublishedAction.getDatasource() != null &&
                                 unpublishedAction.getDatasource().getId() != null) {
                             datasourceIds.add(unpublishedAction.getDatasource().getId());
                         }
@@ -0,0 +1,23 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.dtos.ApplicationViewBundleDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves the view mode of published applications from a bundle built once per publish, instead of from the pages and
+ * actions in the DB. Bundles are stored in Redis for all the nodes, and cached on each node.
+ */
+public interface ApplicationViewBundleService {
+
+    /**
+     * Gets the bundle of the published application, checking that the current user can read the application. The
+     * bundle is built if the application hasn't got one yet, e.g. when it was published before bundles existed.
+     */
+    Mono<ApplicationViewBundleDTO> getViewBundle(String applicationId);
+
+    /**
+     * Builds the bundle of the published application, and replaces the stored one with it. Called on every publish. If
+     * the bundle can't be built, the stored one is dropped, and the bundle is built when the application is next viewed.
+     */
+    Mono<ApplicationViewBundleDTO> refreshViewBundle(String applicationId);
+}
@@ -0,0 +1,246 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.ApplicationPagesDTO;
+import com.appsmith.server.dtos.ApplicationViewBundleDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.server.acl.AclPermission.READ_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.READ_PAGES;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Service
+@Slf4j
+public class ApplicationViewBundleServiceImpl implements ApplicationViewBundleService {
+
+    // Bundles are stored by application id and ETag, and the ETag key of an application points to its current bundle.
+    // A stored bundle never changes, so a bundle and the ETag it's served with can't go out of sync.
+    static final String BUNDLE_KEY_PREFIX = "appsmith:view-bundle:";
+    static final String ETAG_KEY_PREFIX = "appsmith:view-bundle-etag:";
+
+    // Bundles of applications which aren't published again are built afresh when they're viewed after this long.
+    private static final Duration STORED_BUNDLE_TTL = Duration.ofDays(7);
+
+    // The ETag read on every request tells whether a cached bundle is current, so the expiry only bounds how long the
+    // bundles of applications no longer viewed stay in memory.
+    private static final long CACHE_EXPIRY_SECONDS = 60;
+
+    // Bundles are weighed by the length of their JSON
+    private static final long CACHE_MAXIMUM_WEIGHT = 256L * 1024 * 1024;
+
+    private final NewPageService newPageService;
+    private final NewActionService newActionService;
+    private final ApplicationRepository applicationRepository;
+    private final LayoutActionService layoutActionService;
+    private final ReactiveRedisTemplate<String, String> reactiveTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, CachedViewBundle> viewBundleCache;
+
+    private static class CachedViewBundle {
+        final ApplicationViewBundleDTO viewBundle;
+
+        final int weight;
+
+        CachedViewBundle(ApplicationViewBundleDTO viewBundle, int weight) {
+            this.viewBundle = viewBundle;
+            this.weight = weight;
+        }
+    }
+
+    @Autowired
+    public ApplicationViewBundleServiceImpl(NewPageService newPageService,
+                                            NewActionService newActionService,
+                                            ApplicationRepository applicationRepository,
+                                            LayoutActionService layoutActionService,
+                                            ReactiveRedisTemplate<String, String> reactiveTemplate,
+                                            ObjectMapper objectMapper) {
+        this.newPageService = newPageService;
+        this.newActionService = newActionService;
+        this.applicationRepository = applicationRepository;
+        this.layoutActionService = layoutActionService;
+        this.reactiveTemplate = reactiveTemplate;
+        this.objectMapper = objectMapper;
+        this.viewBundleCache = CacheBuilder.newBuilder()
+                .maximumWeight(CACHE_MAXIMUM_WEIGHT)
+                .weigher((String applicationId, CachedViewBundle cachedViewBundle) -> cachedViewBundle.weight)
+                .expireAfterWrite(CACHE_EXPIRY_SECONDS, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @Override
+    public Mono<ApplicationViewBundleDTO> getViewBundle(String applicationId) {
+        if (applicationId == null || applicationId.isEmpty()) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.APPLICATION_ID));
+        }
+
+        // Only the permission of the user and the ETag of the stored bundle are read on every request, so that a
+        // permission change or a publish on any node is seen right away
+        return checkPermission(applicationId)
+                .then(reactiveTemplate.opsForValue().get(ETAG_KEY_PREFIX + applicationId))
+                .flatMap(etag -> {
+                    final CachedViewBundle cachedViewBundle = viewBundleCache.getIfPresent(applicationId);
+                    if (cachedViewBundle != null && etag.equals(cachedViewBundle.viewBundle.getEtag())) {
+                        return Mono.just(cachedViewBundle.viewBundle);
+                    }
+                    return reactiveTemplate.opsForValue().get(getBundleKey(applicationId, etag))
+                            .map(json -> cache(applicationId, toViewBundle(json, etag), json.length()));
+                })
+                .switchIfEmpty(Mono.defer(() -> buildViewBundle(applicationId)
+                        .flatMap(tuple -> storeViewBundleIfAbsent(applicationId, tuple.getT1(), tuple.getT2())
+                                .thenReturn(tuple))
+                        .map(tuple -> cache(applicationId, tuple.getT1(), tuple.getT2().length()))));
+    }
+
+    @Override
+    public Mono<ApplicationViewBundleDTO> refreshViewBundle(String applicationId) {
+        return buildViewBundle(applicationId)
+                .flatMap(tuple -> storeViewBundle(applicationId, tuple.getT1(), tuple.getT2()).thenReturn(tuple.getT1()))
+                .doOnNext(viewBundle -> viewBundleCache.invalidate(applicationId))
+                // The stored bundle is of the previous publish now. Dropping it makes the next view build the bundle.
+                .onErrorResume(error -> reactiveTemplate.delete(ETAG_KEY_PREFIX + applicationId)
+                        .then(Mono.<ApplicationViewBundleDTO>error(error)));
+    }
+
+    /**
+     * Stores the bundle built on publish and points the ETag of the application to it, replacing the bundle of the
+     * previous publish.
+     */
+    private Mono<Void> storeViewBundle(String applicationId, ApplicationViewBundleDTO viewBundle, String json) {
+        final String etagKey = ETAG_KEY_PREFIX + applicationId;
+        // The bundle is stored before its ETag, so that the ETag never points to a bundle which isn't there
+        return reactiveTemplate.opsForValue().set(getBundleKey(applicationId, viewBundle.getEtag()), json, STORED_BUNDLE_TTL)
+                .then(reactiveTemplate.opsForValue().getAndSet(etagKey, viewBundle.getEtag()))
+                .filter(previousEtag -> !previousEtag.equals(viewBundle.getEtag()))
+                .flatMap(previousEtag -> reactiveTemplate.delete(getBundleKey(applicationId, previousEtag)))
+                .then(reactiveTemplate.expire(etagKey, STORED_BUNDLE_TTL))
+                .then();
+    }
+
+    /**
+     * Stores a bundle built when the application was viewed, unless the application has got a bundle meanwhile. A
+     * publish may have happened since this bundle was built, and its bundle must not be replaced by this older one.
+     */
+    private Mono<Void> storeViewBundleIfAbsent(String applicationId, ApplicationViewBundleDTO viewBundle, String json) {
+        return reactiveTemplate.opsForValue().set(getBundleKey(applicationId, viewBundle.getEtag()), json, STORED_BUNDLE_TTL)
+                .then(reactiveTemplate.opsForValue().setIfAbsent(ETAG_KEY_PREFIX + applicationId, viewBundle.getEtag(), STORED_BUNDLE_TTL))
+                .doOnNext(isStored -> {
+                    if (!isStored) {
+                        log.debug("Application {} got a view bundle while one was being built on view, not storing it.", applicationId);
+                    }
+                })
+                .then();
+    }
+
+    private static String getBundleKey(String applicationId, String etag) {
+        return BUNDLE_KEY_PREFIX + applicationId + ":" + etag;
+    }
+
+    /**
+     * Builds the bundle with the same services the individual view mode endpoints use.
+     *
+     * @return The bundle, along with its JSON
+     */
+    private Mono<Tuple2<ApplicationViewBundleDTO, String>> buildViewBundle(String applicationId) {
+        Mono<ApplicationPagesDTO> applicationPagesMono = newPageService
+                .findApplicationPagesByApplicationIdAndViewMode(applicationId, true)
+                .cache();
+
+        Mono<List<PageDTO>> pagesMono = applicationPagesMono
+                .flatMapMany(applicationPages -> Flux.fromIterable(applicationPages.getPages()))
+                .flatMapSequential(pageNameIdDTO -> newPageService.findPageById(pageNameIdDTO.getId(), READ_PAGES, true))
+                .map(this::toViewablePage)
+                .collectList();
+
+        // Sorted, so that the same published application always builds the same bundle, with the same ETag
+        Mono<List<ActionViewDTO>> actionsMono = newActionService.getActionsForViewMode(applicationId)
+                .sort(Comparator.comparing(ActionViewDTO::getId))
+                .collectList();
+
+        return Mono.zip(applicationPagesMono, pagesMono, actionsMono)
+                .flatMap(tuple -> {
+                    ApplicationViewBundleDTO viewBundle = new ApplicationViewBundleDTO();
+                    viewBundle.setApplicationId(applicationId);
+                    viewBundle.setApplicationPages(tuple.getT1());
+                    viewBundle.setPages(tuple.getT2());
+                    viewBundle.setActions(tuple.getT3());
+
+                    final String json;
+                    try {
+                        json = objectMapper.writeValueAsString(viewBundle);
+                    } catch (JsonProcessingException e) {
+                        return Mono.error(new AppsmithException(AppsmithError.JSON_PROCESSING_ERROR, e.getMessage()));
+                    }
+                    viewBundle.setEtag(DigestUtils.sha256Hex(json));
+                    return Mono.just(Tuples.of(viewBundle, json));
+                });
+    }
+
+    /**
+     * Unescapes the DSL of the layouts, like {@link ApplicationPageService#getPage} does, and drops the permissions of
+     * the user the bundle is built by.
+     */
+    private PageDTO toViewablePage(PageDTO page) {
+        if (page.getLayouts() != null) {
+            for (Layout layout : page.getLayouts()) {
+                if (layout.getDsl() != null
+                        && layout.getMongoEscapedWidgetNames() != null
+                        && !layout.getMongoEscapedWidgetNames().isEmpty()) {
+                    layout.setDsl(layoutActionService.unescapeMongoSpecialCharacters(layout));
+                }
+                layout.setUserPermissions(null);
+            }
+        }
+        page.setUserPermissions(null);
+        return page;
+    }
+
+    private ApplicationViewBundleDTO toViewBundle(String json, String etag) {
+        try {
+            ApplicationViewBundleDTO viewBundle = objectMapper.readValue(json, ApplicationViewBundleDTO.class);
+            viewBundle.setEtag(etag);
+            return viewBundle;
+        } catch (JsonProcessingException e) {
+            throw new AppsmithException(AppsmithError.JSON_PROCESSING_ERROR, e.getMessage());
+        }
+    }
+
+    private ApplicationViewBundleDTO cache(String applicationId, ApplicationViewBundleDTO viewBundle, int weight) {
+        viewBundleCache.put(applicationId, new CachedViewBundle(viewBundle, weight));
+        return viewBundle;
+    }
+
+    /**
+     * Checks that the current user can read the application, reading nothing but its id.
+     */
+    private Mono<Void> checkPermission(String applicationId) {
+        return applicationRepository
+                .queryAll(List.of(where(FieldName.ID).is(applicationId)), List.of(FieldName.ID), READ_APPLICATIONS, null)
+                .next()
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.APPLICATION, applicationId)))
+                .then();
+    }
+}
@@ -32,6 +32,7 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.appsmith.server.helpers.PermissionKeyUtils.generatePermissionKeys;
 import static java.util.stream.Collectors.toSet;
 
 @Slf4j
@@ -81,6 +82,7 @@ public abstract class BaseService<R extends BaseRepository<T, ID> & AppsmithRepo
         if (resource.getPolicies().isEmpty()) {
             resource.setPolicies(null);
         }
+        resource.setPermissionKeys(generatePermissionKeys(resource.getPolicies()));
 
         DBObject update = getDbObject(resource);
 
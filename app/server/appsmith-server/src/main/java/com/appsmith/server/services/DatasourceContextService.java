@@ -20,5 +20,13 @@ public interface DatasourceContextService {
 
     <T> Mono<T> retryOnce(Datasource datasource, Function<DatasourceContext, Mono<T>> task);
 
-    Mono<DatasourceContext> deleteDatasourceContext(String datasourceId);
+    /**
+     * Removes the given context of the datasource, and destroys its connection. Nothing is done if the datasource has
+     * got another context meanwhile, e.g. because a concurrent caller found the same context stale and replaced it.
+     *
+     * @param datasourceId
+     * @param datasourceContext The context to delete, usually the one whose connection was found stale
+     * @return The deleted context, or empty if it wasn't the context of the datasource anymore
+     */
+    Mono<DatasourceContext> deleteDatasourceContext(String datasourceId, DatasourceContext datasourceContext);
 }
@@ -5,17 +5,28 @@ import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.services.EncryptionService;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.domains.DatasourceContext;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static com.appsmith.server.acl.AclPermission.EXECUTE_DATASOURCES;
@@ -24,8 +35,17 @@ import static com.appsmith.server.acl.AclPermission.EXECUTE_DATASOURCES;
 @Slf4j
 public class DatasourceContextServiceImpl implements DatasourceContextService {
 
-    //This is DatasourceId mapped to the DatasourceContext
+    private static final String DATASOURCE_CONTEXT_CACHE_NAME = "datasourceContexts";
+
+    static final String DATASOURCE_CONTEXT_CONNECTIONS_METRIC = "cache.connections";
+
+    //This is DatasourceId mapped to the DatasourceContext. It is bounded by the number of connections held by the contexts
+    // and by idle time, see `DatasourceContextConfig`.
+    private final Cache<String, DatasourceContext> datasourceContextCache;
+    //This is a live view of `datasourceContextCache`
     private final Map<String, DatasourceContext> datasourceContextMap;
+    //This is DatasourceId mapped to the DatasourceContext creation currently in flight for it
+    private final Map<String, Mono<DatasourceContext>> datasourceContextMonoMap;
     private final DatasourceService datasourceService;
     private final PluginService pluginService;
     private final PluginExecutorHelper pluginExecutorHelper;
@@ -35,41 +55,122 @@ public class DatasourceContextServiceImpl implements DatasourceContextService {
     public DatasourceContextServiceImpl(DatasourceService datasourceService,
                                         PluginService pluginService,
                                         PluginExecutorHelper pluginExecutorHelper,
-                                        EncryptionService encryptionService) {
+                                        EncryptionService encryptionService,
+                                        DatasourceContextConfig datasourceContextConfig,
+                                        MeterRegistry meterRegistry) {
+        this(datasourceService, pluginService, pluginExecutorHelper, encryptionService, datasourceContextConfig,
+                meterRegistry, Ticker.systemTicker());
+    }
+
+    // The ticker is only replaced in tests, to expire idle contexts without waiting.
+    DatasourceContextServiceImpl(DatasourceService datasourceService,
+                                 PluginService pluginService,
+                                 PluginExecutorHelper pluginExecutorHelper,
+                                 EncryptionService encryptionService,
+                                 DatasourceContextConfig datasourceContextConfig,
+                                 MeterRegistry meterRegistry,
+                                 Ticker ticker) {
         this.datasourceService = datasourceService;
         this.pluginService = pluginService;
         this.pluginExecutorHelper = pluginExecutorHelper;
         this.encryptionService = encryptionService;
-        this.datasourceContextMap = new ConcurrentHashMap<>();
+        final long maxConnections = datasourceContextConfig.getMaxConnections();
+        this.datasourceContextCache = CacheBuilder.newBuilder()
+                // Guava splits the maximum weight evenly between the segments of the cache, so with more than one
+                // segment a context could be evicted while the cache as a whole is well under its budget.
+                .concurrencyLevel(1)
+                .maximumWeight(maxConnections)
+                .<String, DatasourceContext>weigher((datasourceId, datasourceContext) ->
+                        getWeight(datasourceId, datasourceContext, maxConnections))
+                .expireAfterAccess(datasourceContextConfig.getIdleTimeoutMinutes(), TimeUnit.MINUTES)
+                .ticker(ticker)
+                .<String, DatasourceContext>removalListener(this::onDatasourceContextRemoval)
+                .recordStats()
+                .build();
+        this.datasourceContextMap = datasourceContextCache.asMap();
+        // Exposes the cache size, evictions, hits and misses as `cache.*` metrics tagged with the cache name.
+        GuavaCacheMetrics.monitor(meterRegistry, datasourceContextCache, DATASOURCE_CONTEXT_CACHE_NAME);
+        // Exposes the number of connections held by the cached contexts, which is what the cache is bounded by.
+        Gauge.builder(DATASOURCE_CONTEXT_CONNECTIONS_METRIC, datasourceContextMap,
+                        contexts -> contexts.values().stream().mapToInt(this::getConnectionCount).sum())
+                .tag("cache", DATASOURCE_CONTEXT_CACHE_NAME)
+                .register(meterRegistry);
+        this.datasourceContextMonoMap = new ConcurrentHashMap<>();
     }
 
     @Override
     public Mono<DatasourceContext> getDatasourceContext(Datasource datasource) {
         String datasourceId = datasource.getId();
 
-        // Lengthy redundant expression because we need this variable to be final, so it can be used in a reactive callback.
-        final boolean isStale = datasourceId != null
-                && datasourceContextMap.get(datasourceId) != null
-                && datasource.getUpdatedAt() != null
-                && datasource.getUpdatedAt().isAfter(datasourceContextMap.get(datasourceId).getCreationTime());
-
         if (datasourceId == null) {
             log.debug("This is a dry run or an embedded datasource. The datasource context would not exist in this scenario");
+            return createDatasourceContext(datasource);
+        }
 
-        } else if (datasourceContextMap.get(datasourceId) != null
+        final DatasourceContext existingContext = datasourceContextCache.getIfPresent(datasourceId);
+        if (existingContext != null
                 // The following condition happens when there's a timeout in the middle of destroying a connection and
                 // the reactive flow interrupts, resulting in the destroy operation not completing.
-                && datasourceContextMap.get(datasourceId).getConnection() != null
-                && !isStale) {
+                && existingContext.getConnection() != null
+                && !isStale(existingContext, datasource)) {
             log.debug("Resource context exists. Returning the same.");
-            return Mono.just(datasourceContextMap.get(datasourceId));
+            return Mono.just(existingContext);
+        }
+
+        // Only one context creation is allowed to be in flight per datasource. Concurrent callers (e.g. all the
+        // actions on a page being run against a cold datasource) subscribe to the same creation instead of each of
+        // them creating (and leaking) a connection of their own. The entry is removed as soon as the creation
+        // terminates, after which callers are served from `datasourceContextMap`.
+        return datasourceContextMonoMap.computeIfAbsent(datasourceId, id -> {
+            log.debug("Datasource context doesn't exist. Creating connection.");
+            return createDatasourceContext(datasource)
+                    .doFinally(signalType -> datasourceContextMonoMap.remove(id))
+                    .cache();
+        });
+    }
+
+    /**
+     * A context heavier than the whole budget would be evicted, and its connections closed, as soon as it's cached. It's
+     * counted as the whole budget instead, so that it stays cached for as long as it's the most recently used context.
+     */
+    private int getWeight(String datasourceId, DatasourceContext datasourceContext, long maxConnections) {
+        final int connectionCount = getConnectionCount(datasourceContext);
+        if (connectionCount > maxConnections) {
+            log.warn("Datasource {} holds {} connections, more than the {} allowed for all the cached datasource " +
+                    "contexts. It's counted as {} connections.", datasourceId, connectionCount, maxConnections, maxConnections);
+            return (int) maxConnections;
         }
+        return connectionCount;
+    }
+
+    /**
+     * Number of connections held by the context, as reported by the plugin that created it. Contexts without a
+     * connection are counted as one so that the number of such contexts is bounded as well.
+     */
+    private int getConnectionCount(DatasourceContext datasourceContext) {
+        if (datasourceContext.getConnection() == null || datasourceContext.getPluginExecutor() == null) {
+            return 1;
+        }
+
+        try {
+            return Math.max(1, datasourceContext.getPluginExecutor().getConnectionCount(datasourceContext.getConnection()));
+        } catch (Exception e) {
+            log.info("Error getting the connection count of a datasource context", e);
+            return 1;
+        }
+    }
+
+    private boolean isStale(DatasourceContext datasourceContext, Datasource datasource) {
+        return datasource.getUpdatedAt() != null
+                && datasource.getUpdatedAt().isAfter(datasourceContext.getCreationTime());
+    }
 
-        log.debug("Datasource context doesn't exist. Creating connection.");
+    private Mono<DatasourceContext> createDatasourceContext(Datasource datasource) {
+        final String datasourceId = datasource.getId();
 
         Mono<Datasource> datasourceMono;
 
-        if (datasource.getId() != null) {
+        if (datasourceId != null) {
             datasourceMono = datasourceService.findById(datasourceId, EXECUTE_DATASOURCES);
         } else {
             datasourceMono = Mono.just(datasource);
@@ -88,24 +189,8 @@ public class DatasourceContextServiceImpl implements DatasourceContextService {
 
                     PluginExecutor<Object> pluginExecutor = objects.getT2();
 
-                    if (isStale) {
-                        final Object connection = datasourceContextMap.get(datasourceId).getConnection();
-                        if (connection != null) {
-                            try {
-                                pluginExecutor.datasourceDestroy(connection);
-                            } catch (Exception e) {
-                                log.info("Error destroying stale datasource connection", e);
-                            }
-                        }
-                    }
-
                     DatasourceContext datasourceContext = new DatasourceContext();
-
-                    if (datasource1.getId() != null) {
-                        // For this datasource, either the context doesn't exist, or the context is stale. Replace (or add)
-                        // with the new connection in the context map.
-                        datasourceContextMap.put(datasourceId, datasourceContext);
-                    }
+                    datasourceContext.setPluginExecutor(pluginExecutor);
 
                     Mono<Object> connectionMono = pluginExecutor.datasourceCreate(datasource1.getDatasourceConfiguration());
                     return connectionMono
@@ -132,48 +217,103 @@ public class DatasourceContextServiceImpl implements DatasourceContextService {
                                     // When a connection object doesn't make sense for the plugin, we get an empty mono
                                     // and we just return the context object as is.
                                     datasourceContext
-                            );
+                            )
+                            .map(context -> {
+                                if (datasourceId != null) {
+                                    // For this datasource, either the context doesn't exist, or the context is stale.
+                                    // Replace (or add) the new connection in the context map, and destroy the
+                                    // connection it replaces so that it doesn't leak.
+                                    final DatasourceContext previousContext = datasourceContextMap.put(datasourceId, context);
+                                    destroyReplacedConnection(pluginExecutor, previousContext, context);
+                                }
+                                return context;
+                            });
                 });
     }
 
+    private void destroyReplacedConnection(PluginExecutor<Object> pluginExecutor,
+                                           DatasourceContext previousContext,
+                                           DatasourceContext newContext) {
+        if (previousContext == null
+                || previousContext.getConnection() == null
+                || previousContext.getConnection() == newContext.getConnection()) {
+            return;
+        }
+
+        try {
+            pluginExecutor.datasourceDestroy(previousContext.getConnection());
+        } catch (Exception e) {
+            log.info("Error destroying stale datasource connection", e);
+        }
+    }
+
+    /**
+     * Contexts that are replaced or explicitly deleted are destroyed by the code replacing / deleting them. This only
+     * takes care of the contexts evicted from the cache because they were idle or because the cache is over budget.
+     */
+    private void onDatasourceContextRemoval(RemovalNotification<String, DatasourceContext> notification) {
+        final DatasourceContext datasourceContext = notification.getValue();
+        if (!notification.wasEvicted()
+                || datasourceContext == null
+                || datasourceContext.getConnection() == null
+                || datasourceContext.getPluginExecutor() == null) {
+            return;
+        }
+
+        log.info("Evicting datasource context for datasource ID {}, cause: {}.", notification.getKey(), notification.getCause());
+
+        // Destroying a connection pool can block, so it's not done on the thread that triggered the eviction.
+        Mono.fromRunnable(() -> datasourceContext.getPluginExecutor().datasourceDestroy(datasourceContext.getConnection()))
+                .subscribeOn(Schedulers.elastic())
+                .doOnError(error -> log.info("Error destroying evicted datasource connection", error))
+                .onErrorResume(error -> Mono.empty())
+                .subscribe();
+    }
+
+    /**
+     * Expired contexts are otherwise only cleaned up on cache writes, which may not happen on an idle node.
+     */
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedDelay = 60 * 1000 /* one minute */)
+    public void evictIdleDatasourceContexts() {
+        datasourceContextCache.cleanUp();
+    }
+
     @Override
     public <T> Mono<T> retryOnce(Datasource datasource, Function<DatasourceContext, Mono<T>> task) {
-        final Mono<T> taskRunnerMono = Mono.justOrEmpty(datasource)
+        return Mono.justOrEmpty(datasource)
                 .flatMap(this::getDatasourceContext)
                 // Now that we have the context (connection details), call the task.
-                .flatMap(task);
-
-        return taskRunnerMono
-                .onErrorResume(StaleConnectionException.class, error -> {
-                    log.info("Looks like the connection is stale. Retrying with a fresh context.");
-                    return deleteDatasourceContext(datasource.getId())
-                            .then(taskRunnerMono);
-                });
+                .flatMap(datasourceContext -> task.apply(datasourceContext)
+                        .onErrorResume(StaleConnectionException.class, error -> {
+                            log.info("Looks like the connection is stale. Retrying with a fresh context.");
+                            return deleteDatasourceContext(datasource.getId(), datasourceContext)
+                                    .then(getDatasourceContext(datasource))
+                                    .flatMap(task);
+                        })
+                );
     }
 
     @Override
-    public Mono<DatasourceContext> deleteDatasourceContext(String datasourceId) {
-        if (datasourceId == null) {
+    public Mono<DatasourceContext> deleteDatasourceContext(String datasourceId, DatasourceContext datasourceContext) {
+        if (datasourceId == null || datasourceContext == null) {
             return Mono.empty();
         }
 
-        DatasourceContext datasourceContext = datasourceContextMap.get(datasourceId);
-        if (datasourceContext == null) {
-            // No resource context exists for this resource. Return void.
+        // Concurrent callers may find the same context stale. Only the one that removes it from the map destroys it,
+        // and a fresh context that has replaced it meanwhile is left alone.
+        if (!datasourceContextMap.remove(datasourceId, datasourceContext)) {
             return Mono.empty();
         }
 
-        return datasourceService
-                .findById(datasourceId, EXECUTE_DATASOURCES)
-                .zipWhen(datasource1 ->
-                        pluginExecutorHelper.getPluginExecutor(pluginService.findById(datasource1.getPluginId()))
-                )
-                .map(tuple -> {
-                    final Datasource datasource = tuple.getT1();
-                    final PluginExecutor<Object> pluginExecutor = tuple.getT2();
-                    log.info("Clearing datasource context for datasource ID {}.", datasource.getId());
-                    pluginExecutor.datasourceDestroy(datasourceContext.getConnection());
-                    return datasourceContextMap.remove(datasourceId);
-                });
+        log.info("Clearing datasource context for datasource ID {}.", datasourceId);
+        if (datasourceContext.getConnection() != null && datasourceContext.getPluginExecutor() != null) {
+            try {
+                datasourceContext.getPluginExecutor().datasourceDestroy(datasourceContext.getConnection());
+            } catch (Exception e) {
+                log.info("Error destroying stale datasource connection", e);
+            }
+        }
+
+        return Mono.just(datasourceContext);
     }
 }
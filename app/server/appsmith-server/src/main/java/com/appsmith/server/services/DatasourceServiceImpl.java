@@ -56,6 +56,7 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
     private final PolicyGenerator policyGenerator;
     private final SequenceService sequenceService;
     private final NewActionRepository newActionRepository;
+    private final ExecutionMetadataCacheService executionMetadataCacheService;
 
 
     @Autowired
@@ -71,7 +72,8 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
                                  PluginExecutorHelper pluginExecutorHelper,
                                  PolicyGenerator policyGenerator,
                                  SequenceService sequenceService,
-                                 NewActionRepository newActionRepository) {
+                                 NewActionRepository newActionRepository,
+                                 ExecutionMetadataCacheService executionMetadataCacheService) {
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.organizationService = organizationService;
         this.sessionUserService = sessionUserService;
@@ -80,6 +82,7 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
         this.policyGenerator = policyGenerator;
         this.sequenceService = sequenceService;
         this.newActionRepository = newActionRepository;
+        this.executionMetadataCacheService = executionMetadataCacheService;
     }
 
     @Override
@@ -196,6 +199,7 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
                     return dbDatasource;
                 })
                 .flatMap(this::validateAndSaveDatasourceToRepository)
+                .flatMap(savedDatasource -> executionMetadataCacheService.evict(Set.of(id)).thenReturn(savedDatasource))
                 .flatMap(this::populateHintMessages);
     }
 
@@ -250,7 +254,8 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
         if (datasource.getGitSyncId() == null) {
             datasource.setGitSyncId(datasource.getOrganizationId() + "_" + Instant.now().toString());
         }
-        return repository.save(datasource);
+        return repository.save(datasource)
+                .flatMap(savedDatasource -> executionMetadataCacheService.evict(Set.of(savedDatasource.getId())).thenReturn(savedDatasource));
     }
 
     private Datasource sanitizeDatasource(Datasource datasource) {
@@ -394,6 +399,7 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
                     return Mono.just(objects.getT1());
                 })
                 .flatMap(toDelete -> repository.archive(toDelete).thenReturn(toDelete))
+                .flatMap(deleted -> executionMetadataCacheService.evict(Set.of(id)).thenReturn(deleted))
                 .flatMap(analyticsService::sendDeleteEvent);
     }
 }
@@ -0,0 +1,35 @@
+package com.appsmith.server.services;
+
+import com.appsmith.external.models.Datasource;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.Plugin;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * A short-lived, node local cache of the documents read on every action execution in view mode. Documents handed out
+ * are copies, so callers are free to modify them. Permissions are checked against the current user for every read,
+ * exactly like the ACL queries in the repositories.
+ */
+public interface ExecutionMetadataCacheService {
+
+    Mono<NewAction> findActionById(String id, AclPermission permission);
+
+    Mono<Datasource> findDatasourceById(String id, AclPermission permission);
+
+    Mono<Plugin> findPluginById(String id);
+
+    /**
+     * Evicts the documents with the given ids from the cache on this node, and publishes the eviction to all the other
+     * nodes. Failure to publish is logged and ignored, the entries on other nodes expire soon enough anyway.
+     */
+    Mono<Void> evict(Collection<String> ids);
+
+    /**
+     * Evicts the documents with the given ids from the cache on this node only. Called when an eviction published by
+     * any node is received.
+     */
+    void evictLocally(Collection<String> ids);
+}
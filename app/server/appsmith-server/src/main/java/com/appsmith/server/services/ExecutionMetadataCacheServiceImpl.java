@@ -0,0 +1,209 @@
+package com.appsmith.server.services;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.ExecutionMetadataEvictionRedisDTO;
+import com.appsmith.server.repositories.DatasourceRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.PluginRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@Slf4j
+public class ExecutionMetadataCacheServiceImpl implements ExecutionMetadataCacheService {
+
+    // Evictions are published on their own channel so that the install plugin listener never sees them.
+    public static final ChannelTopic EVICTION_TOPIC = new ChannelTopic("appsmith:execution-metadata-eviction");
+
+    // Evictions cover the edits made through Appsmith. The expiry bounds how long any other change (e.g. a permission
+    // change or a lost Redis message) can go unnoticed.
+    private static final long EXPIRY_SECONDS = 60;
+
+    private static final long MAXIMUM_SIZE = 10000;
+
+    private final NewActionRepository newActionRepository;
+    private final DatasourceRepository datasourceRepository;
+    private final PluginRepository pluginRepository;
+    private final MongoConverter mongoConverter;
+    private final ReactiveRedisTemplate<String, String> reactiveTemplate;
+    private final ObjectMapper objectMapper;
+
+    // Document id mapped to the document, as read from the DB.
+    private final Cache<String, BaseDomain> documentCache;
+
+    // Incremented on every eviction. A document read from the DB is only cached if no eviction happened while it was
+    // being read, so that a read which raced with an update can't put the old version back in the cache.
+    private final AtomicLong version = new AtomicLong();
+
+    @Autowired
+    public ExecutionMetadataCacheServiceImpl(NewActionRepository newActionRepository,
+                                             DatasourceRepository datasourceRepository,
+                                             PluginRepository pluginRepository,
+                                             MongoConverter mongoConverter,
+                                             ReactiveRedisTemplate<String, String> reactiveTemplate,
+                                             ObjectMapper objectMapper) {
+        this.newActionRepository = newActionRepository;
+        this.datasourceRepository = datasourceRepository;
+        this.pluginRepository = pluginRepository;
+        this.mongoConverter = mongoConverter;
+        this.reactiveTemplate = reactiveTemplate;
+        this.objectMapper = objectMapper;
+        this.documentCache = CacheBuilder.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(EXPIRY_SECONDS, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @Override
+    public Mono<NewAction> findActionById(String id, AclPermission permission) {
+        return findById(id, NewAction.class, newActionRepository.findById(id))
+                .flatMap(action -> checkPermission(action, permission));
+    }
+
+    @Override
+    public Mono<Datasource> findDatasourceById(String id, AclPermission permission) {
+        return findById(id, Datasource.class, datasourceRepository.findById(id))
+                .flatMap(datasource -> checkPermission(datasource, permission));
+    }
+
+    @Override
+    public Mono<Plugin> findPluginById(String id) {
+        return findById(id, Plugin.class, pluginRepository.findById(id));
+    }
+
+    @Override
+    public Mono<Void> evict(Collection<String> ids) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return Mono.empty();
+        }
+
+        final Set<String> idSet = new HashSet<>(ids);
+        evictLocally(idSet);
+
+        final String message;
+        try {
+            message = objectMapper.writeValueAsString(new ExecutionMetadataEvictionRedisDTO(idSet));
+        } catch (JsonProcessingException e) {
+            log.error("Unable to serialize execution metadata eviction for ids {}", idSet, e);
+            return Mono.empty();
+        }
+
+        return reactiveTemplate
+                .convertAndSend(EVICTION_TOPIC.getTopic(), message)
+                .doOnError(error -> log.error("Unable to publish execution metadata eviction for ids {}", idSet, error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    @Override
+    public void evictLocally(Collection<String> ids) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return;
+        }
+
+        version.incrementAndGet();
+        documentCache.invalidateAll(ids);
+    }
+
+    private <T extends BaseDomain> Mono<T> findById(String id, Class<T> domainClass, Mono<T> documentFromDbMono) {
+        if (id == null) {
+            return Mono.empty();
+        }
+
+        return Mono.defer(() -> {
+            final BaseDomain cachedDocument = documentCache.getIfPresent(id);
+            if (domainClass.isInstance(cachedDocument)) {
+                return Mono.just(copy(domainClass.cast(cachedDocument), domainClass));
+            }
+
+            final long versionBeforeRead = version.get();
+            return documentFromDbMono
+                    .map(document -> {
+                        // The cached document is never handed out, only copies of it are. This also means the caller
+                        // is free to modify the document returned here.
+                        final T documentToCache = copy(document, domainClass);
+                        if (version.get() == versionBeforeRead) {
+                            documentCache.put(id, documentToCache);
+                        }
+                        return document;
+                    });
+        });
+    }
+
+    /**
+     * Deep copies a document by converting it to the BSON form it's persisted in, and back. No lifecycle events are
+     * raised by the converter, so encrypted fields stay as they are in the source.
+     */
+    private <T extends BaseDomain> T copy(T source, Class<T> domainClass) {
+        final Document document = new Document();
+        mongoConverter.write(source, document);
+        return mongoConverter.read(domainClass, document);
+    }
+
+    /**
+     * Mirrors the criteria built in {@link com.appsmith.server.repositories.BaseAppsmithRepositoryImpl#userAcl}.
+     */
+    private <T extends BaseDomain> Mono<T> checkPermission(T document, AclPermission permission) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .map(auth -> auth.getPrincipal())
+                .flatMap(principal -> {
+                    final User user = (User) principal;
+                    if (isPermitted(document.getPolicies(), permission, user)) {
+                        return Mono.just(document);
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    private boolean isPermitted(Set<Policy> policies, AclPermission permission, User user) {
+        if (CollectionUtils.isEmpty(policies)) {
+            return false;
+        }
+
+        final Set<String> groupIds = user.getGroupIds();
+        for (Policy policy : policies) {
+            if (!permission.getValue().equals(policy.getPermission())) {
+                continue;
+            }
+
+            final Set<String> users = policy.getUsers();
+            if (users != null && (users.contains(user.getUsername()) || users.contains(FieldName.ANONYMOUS_USER))) {
+                return true;
+            }
+
+            // Mongo's `$all` with an empty list matches nothing, hence the check for empty groups.
+            final Set<String> groups = policy.getGroups();
+            if (!CollectionUtils.isEmpty(groupIds) && groups != null && groups.containsAll(groupIds)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -10,9 +10,13 @@ import com.appsmith.server.dtos.RefactorNameDTO;
 import net.minidev.json.JSONObject;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+
 public interface LayoutActionService {
     Mono<LayoutDTO> updateLayout(String pageId, String layoutId, Layout layout);
 
+    Mono<LayoutDTO> updateLayoutFromEditor(String pageId, String layoutId, Layout layout);
+
     Mono<ActionDTO> moveAction(ActionMoveDTO actionMoveDTO);
 
     Mono<LayoutDTO> refactorWidgetName(RefactorNameDTO refactorNameDTO);
@@ -21,6 +25,8 @@ public interface LayoutActionService {
 
     Mono<LayoutDTO> refactorName(String pageId, String layoutId, String oldName, String newName);
 
+    Mono<LayoutDTO> refactorNames(String pageId, String layoutId, Map<String, String> newNamesByOldName);
+
     Mono<Boolean> isNameAllowed(String pageId, String layoutId, String newName);
 
     Mono<ActionDTO> updateAction(String id, ActionDTO action);
@@ -23,16 +23,16 @@ import com.appsmith.server.dtos.RefactorActionNameDTO;
 import com.appsmith.server.dtos.RefactorNameDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.NameReplacer;
 import com.appsmith.server.helpers.WidgetSpecificUtils;
 import com.appsmith.server.solutions.PageLoadActionsUtil;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.TextNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
@@ -50,8 +50,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static com.appsmith.server.acl.AclPermission.MANAGE_ACTIONS;
@@ -76,15 +77,6 @@ public class LayoutActionServiceImpl implements LayoutActionService {
     private final ApplicationService applicationService;
 
 
-    /*
-     * To replace fetchUsers in `{{JSON.stringify(fetchUsers)}}` with getUsers, the following regex is required :
-     * `\\b(fetchUsers)\\b`. To achieve this the following strings preWord and postWord are declared here to be used
-     * at run time to create the regex pattern.
-     */
-    private final String preWord = "\\b(";
-    private final String postWord = ")\\b";
-
-
     /**
      * Called by Action controller to create Action
      */
@@ -263,8 +255,21 @@ public class LayoutActionServiceImpl implements LayoutActionService {
      */
     @Override
     public Mono<LayoutDTO> refactorName(String pageId, String layoutId, String oldName, String newName) {
-        String regexPattern = preWord + oldName + postWord;
-        Pattern oldNamePattern = Pattern.compile(regexPattern);
+        return refactorNames(pageId, layoutId, Map.of(oldName, newName));
+    }
+
+    /**
+     * Same as {@link #refactorName(String, String, String, String)}, for any number of names at once. All the names are
+     * replaced in a single pass over the DSL, and over each action and collection which refers to any of them.
+     *
+     * @param pageId
+     * @param layoutId
+     * @param newNamesByOldName Map of the old names to the names they should be replaced with
+     * @return
+     */
+    @Override
+    public Mono<LayoutDTO> refactorNames(String pageId, String layoutId, Map<String, String> newNamesByOldName) {
+        final NameReplacer nameReplacer = new NameReplacer(newNamesByOldName);
 
         Mono<PageDTO> updatePageMono = newPageService
                 // fetch the unpublished page
@@ -273,16 +278,18 @@ public class LayoutActionServiceImpl implements LayoutActionService {
                     List<Layout> layouts = page.getLayouts();
                     for (Layout layout : layouts) {
                         if (layoutId.equals(layout.getId()) && layout.getDsl() != null) {
-                            final JsonNode dslNode = objectMapper.convertValue(layout.getDsl(), JsonNode.class);
-                            final JsonNode dslNodeAfterReplacement = this.replaceStringInJsonNode(dslNode, oldNamePattern, newName);
-                            layout.setDsl(objectMapper.convertValue(dslNodeAfterReplacement, JSONObject.class));
+                            // The DSL is a tree of maps and lists, so the names are replaced in it in place.
+                            nameReplacer.replaceInTree(layout.getDsl());
 
                             // DSL has removed all the old names and replaced it with new name. If the change of name
                             // was one of the mongoEscaped widgets, then update the names in the set as well
                             Set<String> mongoEscapedWidgetNames = layout.getMongoEscapedWidgetNames();
-                            if (mongoEscapedWidgetNames != null && mongoEscapedWidgetNames.contains(oldName)) {
-                                mongoEscapedWidgetNames.remove(oldName);
-                                mongoEscapedWidgetNames.add(newName);
+                            if (mongoEscapedWidgetNames != null) {
+                                newNamesByOldName.forEach((oldName, newName) -> {
+                                    if (mongoEscapedWidgetNames.remove(oldName)) {
+                                        mongoEscapedWidgetNames.add(newName);
+                                    }
+                                });
                             }
                             page.setLayouts(layouts);
                             // Since the page has most probably changed, save the page and return.
@@ -315,9 +322,9 @@ public class LayoutActionServiceImpl implements LayoutActionService {
                         if (jsonPathKeys != null && !jsonPathKeys.isEmpty()) {
                             // Since json path keys actually contain the entire inline js function instead of just the widget/action
                             // name, we can not simply use the set.contains(obj) function. We need to iterate over all the keys
-                            // in the set and see if the old name is a substring of the json path key.
+                            // in the set and see if any old name is a substring of the json path key.
                             for (String key : jsonPathKeys) {
-                                if (oldNamePattern.matcher(key).find()) {
+                                if (nameReplacer.isPresentIn(key)) {
                                     actionUpdateRequired = true;
                                     break;
                                 }
@@ -331,10 +338,13 @@ public class LayoutActionServiceImpl implements LayoutActionService {
                         if (action.getCollectionId() != null) {
                             updatableCollectionIds.add(action.getCollectionId());
                         }
-                        final JsonNode actionConfigurationNode = objectMapper.convertValue(actionConfiguration, JsonNode.class);
-                        final JsonNode actionConfigurationNodeAfterReplacement = replaceStringInJsonNode(actionConfigurationNode, oldNamePattern, newName);
+                        // The action configuration is a typed object, so it's converted to a tree of maps and lists once
+                        // to replace the names in all of its fields in one go.
+                        final Map<String, Object> actionConfigurationMap = objectMapper.convertValue(actionConfiguration, new TypeReference<Map<String, Object>>() {
+                        });
+                        nameReplacer.replaceInTree(actionConfigurationMap);
 
-                        ActionConfiguration newActionConfiguration = objectMapper.convertValue(actionConfigurationNodeAfterReplacement, ActionConfiguration.class);
+                        ActionConfiguration newActionConfiguration = objectMapper.convertValue(actionConfigurationMap, ActionConfiguration.class);
                         action.setActionConfiguration(newActionConfiguration);
                         NewAction newAction2 = newActionService.extractAndSetJsonPathKeys(newAction);
                         return newActionService.save(newAction2);
@@ -349,9 +359,7 @@ public class LayoutActionServiceImpl implements LayoutActionService {
                             .flatMap(collectionId -> actionCollectionService.findById(collectionId, MANAGE_ACTIONS))
                             .flatMap(actionCollection -> {
                                 final ActionCollectionDTO unpublishedCollection = actionCollection.getUnpublishedCollection();
-                                Matcher matcher = oldNamePattern.matcher(unpublishedCollection.getBody());
-                                String newBodyAsString = matcher.replaceAll(newName);
-                                unpublishedCollection.setBody(newBodyAsString);
+                                unpublishedCollection.setBody(nameReplacer.replace(unpublishedCollection.getBody()));
                                 return actionCollectionService.save(actionCollection);
                             })
                             .collectList()
@@ -374,34 +382,6 @@ public class LayoutActionServiceImpl implements LayoutActionService {
                 });
     }
 
-    private JsonNode replaceStringInJsonNode(JsonNode jsonNode, Pattern oldNamePattern, String newName) {
-        // Is this is a text node, perform replacement directly
-        if (jsonNode.isTextual()) {
-            Matcher matcher = oldNamePattern.matcher(jsonNode.asText());
-            String valueAfterReplacement = matcher.replaceAll(newName);
-            return new TextNode(valueAfterReplacement);
-        }
-        final Iterator<Map.Entry<String, JsonNode>> iterator = jsonNode.fields();
-        // Go through each field to recursively operate on it
-        while (iterator.hasNext()) {
-            final Map.Entry<String, JsonNode> next = iterator.next();
-            final JsonNode value = next.getValue();
-            if (value.isArray()) {
-                // If this field is an array type, iterate through each element and perform replacement
-                final ArrayNode arrayNode = (ArrayNode) value;
-                final ArrayNode newArrayNode = objectMapper.createArrayNode();
-                arrayNode.forEach(x -> newArrayNode.add(replaceStringInJsonNode(x, oldNamePattern, newName)));
-                // Make this array node created from replaced values the new value
-                next.setValue(newArrayNode);
-            } else {
-                // This is either directly a text node or another json node
-                // In either case, recurse over the entire value to get the replaced value
-                next.setValue(replaceStringInJsonNode(value, oldNamePattern, newName));
-            }
-        }
-        return jsonNode;
-    }
-
     /**
      * Walks the DSL and extracts all the widget names from it.
      * A widget is expected to have a few properties defining its own behaviour, with any mustache bindings present
@@ -730,6 +710,21 @@ public class LayoutActionServiceImpl implements LayoutActionService {
 
     @Override
     public Mono<LayoutDTO> updateLayout(String pageId, String layoutId, Layout layout) {
+        return updateLayout(pageId, layoutId, layout, false);
+    }
+
+    /**
+     * Called on every autosave of the DSL from the editor. Unlike {@link #updateLayout(String, String, Layout)}, the on
+     * page load actions are only recomputed if the widget names or dynamic bindings in the DSL have changed since they
+     * were last computed. All changes to actions which could affect them go through
+     * {@link #updateLayout(String, String, Layout)}, or clear the stored hash.
+     */
+    @Override
+    public Mono<LayoutDTO> updateLayoutFromEditor(String pageId, String layoutId, Layout layout) {
+        return updateLayout(pageId, layoutId, layout, true);
+    }
+
+    private Mono<LayoutDTO> updateLayout(String pageId, String layoutId, Layout layout, boolean reuseOnLoadActionsIfUnchanged) {
         JSONObject dsl = layout.getDsl();
         if (dsl == null) {
             // There is no DSL here. No need to process anything. Return as is.
@@ -752,6 +747,9 @@ public class LayoutActionServiceImpl implements LayoutActionService {
             layout.setMongoEscapedWidgetNames(escapedWidgetNames);
         }
 
+        final String dslBindingsHash = computeDslBindingsHash(widgetNames, widgetDynamicBindingsMap);
+        layout.setDslBindingsHash(dslBindingsHash);
+
         Set<String> actionNames = new HashSet<>();
         Set<ActionDependencyEdge> edges = new HashSet<>();
         Set<String> actionsUsedInDSL = new HashSet<>();
@@ -761,17 +759,18 @@ public class LayoutActionServiceImpl implements LayoutActionService {
 
         AtomicReference<Boolean> validOnPageLoadActions = new AtomicReference<>(Boolean.TRUE);
 
-        Mono<List<Set<DslActionDTO>>> allOnLoadActionsMono = pageLoadActionsUtil
+        Mono<PageDTO> pageMono = newPageService.findByIdAndLayoutsId(pageId, layoutId, MANAGE_PAGES, false)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND,
+                        FieldName.PAGE_ID + " or " + FieldName.LAYOUT_ID, pageId + ", " + layoutId)))
+                .cache();
+
+        Mono<List<Set<DslActionDTO>>> allOnLoadActionsMono = Mono.defer(() -> pageLoadActionsUtil
                 .findAllOnLoadActions(pageId, widgetNames, edges, widgetDynamicBindingsMap, flatmapPageLoadActions, actionsUsedInDSL)
                 .onErrorResume(AppsmithException.class, error -> {
                     log.info(error.getMessage());
                     validOnPageLoadActions.set(FALSE);
                     return Mono.just(new ArrayList<>());
-                });
-
-        // First update the actions and set execute on load to true
-        JSONObject finalDsl = dsl;
-        return allOnLoadActionsMono
+                })
                 .flatMap(allOnLoadActions -> {
                     // If there has been an error (e.g. cyclical dependency), then dont update any actions.
                     // This is so that unnecessary updates don't happen to actions while the page is in invalid state.
@@ -782,10 +781,36 @@ public class LayoutActionServiceImpl implements LayoutActionService {
                     return newActionService
                             .updateActionsExecuteOnLoad(flatmapPageLoadActions, pageId, actionUpdates, messages)
                             .thenReturn(allOnLoadActions);
-                })
-                .zipWith(newPageService.findByIdAndLayoutsId(pageId, layoutId, MANAGE_PAGES, false)
-                        .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND,
-                                FieldName.PAGE_ID + " or " + FieldName.LAYOUT_ID, pageId + ", " + layoutId))))
+                }));
+
+        if (reuseOnLoadActionsIfUnchanged) {
+            // The on page load actions stored with the layout are still valid if they were computed for the same
+            // bindings. In that case the actions don't need to be fetched, nor the dependency graph built again.
+            allOnLoadActionsMono = pageMono
+                    .flatMap(page -> {
+                        Layout storedLayout = findLayoutById(page, layoutId);
+                        if (storedLayout == null
+                                || !dslBindingsHash.equals(storedLayout.getDslBindingsHash())
+                                || storedLayout.getLayoutOnLoadActions() == null) {
+                            return Mono.empty();
+                        }
+
+                        if (storedLayout.getAllOnPageLoadActionEdges() != null) {
+                            edges.addAll(storedLayout.getAllOnPageLoadActionEdges());
+                        }
+                        if (storedLayout.getActionsUsedInDynamicBindings() != null) {
+                            actionsUsedInDSL.addAll(storedLayout.getActionsUsedInDynamicBindings());
+                        }
+                        validOnPageLoadActions.set(!FALSE.equals(storedLayout.getValidOnPageLoadActions()));
+                        return Mono.just(storedLayout.getLayoutOnLoadActions());
+                    })
+                    .switchIfEmpty(allOnLoadActionsMono);
+        }
+
+        // First update the actions and set execute on load to true
+        JSONObject finalDsl = dsl;
+        return allOnLoadActionsMono
+                .zipWith(pageMono)
                 // Now update the page layout with the page load actions and the graph.
                 .flatMap(tuple -> {
                     List<Set<DslActionDTO>> onLoadActions = tuple.getT1();
@@ -838,6 +863,41 @@ public class LayoutActionServiceImpl implements LayoutActionService {
                 });
     }
 
+    private Layout findLayoutById(PageDTO page, String layoutId) {
+        if (page.getLayouts() == null) {
+            return null;
+        }
+
+        for (Layout storedLayout : page.getLayouts()) {
+            if (layoutId.equals(storedLayout.getId())) {
+                return storedLayout;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Computes a hash of everything in the DSL that the on page load actions depend on, i.e. the widget names and the
+     * dynamic bindings in each widget. The names and bindings are sorted first, so that the hash doesn't depend on the
+     * order of the widgets in the DSL.
+     */
+    private String computeDslBindingsHash(Set<String> widgetNames, Map<String, Set<String>> widgetDynamicBindingsMap) {
+        StringBuilder bindings = new StringBuilder();
+
+        for (String widgetName : new TreeSet<>(widgetNames)) {
+            bindings.append(widgetName).append('\n');
+        }
+
+        for (Map.Entry<String, Set<String>> entry : new TreeMap<>(widgetDynamicBindingsMap).entrySet()) {
+            bindings.append('\n').append(entry.getKey());
+            for (String binding : new TreeSet<>(entry.getValue())) {
+                bindings.append('\u0000').append(binding);
+            }
+        }
+
+        return DigestUtils.sha256Hex(bindings.toString());
+    }
+
     private LayoutDTO generateResponseDTO(Layout layout) {
 
         LayoutDTO layoutDTO = new LayoutDTO();
@@ -980,7 +1040,11 @@ public class LayoutActionServiceImpl implements LayoutActionService {
 
                     return Mono.just(newAction);
                 })
-                .flatMap(newActionService::validateAndSaveActionToRepository);
+                .flatMap(newActionService::validateAndSaveActionToRepository)
+                // A new action may already be referenced in the DSL, which changes the on page load actions even though
+                // the DSL doesn't change.
+                .flatMap(savedAction -> newPageService.clearDslBindingsHash(savedAction.getPageId())
+                        .thenReturn(savedAction));
     }
 
 }
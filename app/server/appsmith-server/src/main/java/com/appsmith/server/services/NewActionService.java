@@ -7,6 +7,7 @@ import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.BatchActionExecutionResultDTO;
 import com.appsmith.server.dtos.LayoutActionUpdateDTO;
 import org.springframework.data.domain.Sort;
 import org.springframework.util.MultiValueMap;
@@ -35,6 +36,8 @@ public interface NewActionService extends CrudService<NewAction, String> {
 
     Mono<ActionExecutionResult> executeAction(ExecuteActionDTO executeActionDTO);
 
+    Flux<BatchActionExecutionResultDTO> executeActions(List<ExecuteActionDTO> executeActionDTOs);
+
     <T> T variableSubstitution(T configuration, Map<String, String> replaceParamsMap);
 
     Mono<ActionDTO> findByUnpublishedNameAndPageId(String name, String pageId, AclPermission permission);
@@ -67,6 +70,8 @@ public interface NewActionService extends CrudService<NewAction, String> {
 
     Flux<NewAction> saveAll(List<NewAction> actions);
 
+    Mono<Void> publishActions(String applicationId, AclPermission permission);
+
     Flux<NewAction> findByPageId(String pageId);
 
     Mono<NewAction> archive(String id);
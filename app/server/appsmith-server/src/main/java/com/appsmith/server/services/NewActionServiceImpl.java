@@ -34,6 +34,7 @@ import com.appsmith.server.domains.PluginType;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.BatchActionExecutionResultDTO;
 import com.appsmith.server.dtos.LayoutActionUpdateDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
@@ -92,6 +93,9 @@ import static java.lang.Boolean.TRUE;
 @Slf4j
 public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAction, String> implements NewActionService {
 
+    // Maximum number of actions from a single batch that are executed at the same time
+    private static final int BATCH_EXECUTION_CONCURRENCY = 8;
+
     private final NewActionRepository repository;
     private final DatasourceService datasourceService;
     private final PluginService pluginService;
@@ -106,6 +110,7 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
     private final ObjectMapper objectMapper;
     private final AuthenticationValidator authenticationValidator;
     private final ConfigService configService;
+    private final ExecutionMetadataCacheService executionMetadataCacheService;
 
     public NewActionServiceImpl(Scheduler scheduler,
                                 Validator validator,
@@ -124,7 +129,8 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                                 SessionUserService sessionUserService,
                                 PolicyUtils policyUtils,
                                 AuthenticationValidator authenticationValidator,
-                                ConfigService configService) {
+                                ConfigService configService,
+                                ExecutionMetadataCacheService executionMetadataCacheService) {
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.repository = repository;
         this.datasourceService = datasourceService;
@@ -139,6 +145,7 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
         this.policyUtils = policyUtils;
         this.authenticationValidator = authenticationValidator;
         this.configService = configService;
+        this.executionMetadataCacheService = executionMetadataCacheService;
         this.objectMapper = new ObjectMapper();
     }
 
@@ -478,8 +485,14 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
         AtomicReference<String> actionName = new AtomicReference<>();
         // Initialize the name to be empty value
         actionName.set("");
+        // In view mode, the published action, its datasource and plugin rarely change between executions. So these
+        // are served from a short-lived cache that is evicted whenever they are updated.
+        final boolean isViewMode = TRUE.equals(executeActionDTO.getViewMode());
+
         // 2. Fetch the action from the DB and check if it can be executed
-        Mono<NewAction> actionMono = repository.findById(actionId, EXECUTE_ACTIONS)
+        Mono<NewAction> actionMono = (isViewMode
+                ? executionMetadataCacheService.findActionById(actionId, EXECUTE_ACTIONS)
+                : repository.findById(actionId, EXECUTE_ACTIONS))
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, actionId)))
                 .cache();
 
@@ -521,10 +534,13 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                 .flatMap(action -> {
                     // Global datasource requires us to fetch the datasource from DB.
                     if (action.getDatasource() != null && action.getDatasource().getId() != null) {
-                        return datasourceService.findById(action.getDatasource().getId(), EXECUTE_DATASOURCES)
+                        final String datasourceId = action.getDatasource().getId();
+                        return (isViewMode
+                                ? executionMetadataCacheService.findDatasourceById(datasourceId, EXECUTE_DATASOURCES)
+                                : datasourceService.findById(datasourceId, EXECUTE_DATASOURCES))
                                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND,
                                         FieldName.DATASOURCE,
-                                        action.getDatasource().getId())));
+                                        datasourceId)));
                     }
 
                     // This is a nested datasource. Return as is.
@@ -551,7 +567,9 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                                 datasource.getName(),
                                 ArrayUtils.toString(invalids)));
                     }
-                    return pluginService.findById(datasource.getPluginId());
+                    return isViewMode
+                            ? executionMetadataCacheService.findPluginById(datasource.getPluginId())
+                            : pluginService.findById(datasource.getPluginId());
                 })
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN)))
                 .cache();
@@ -585,16 +603,18 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
 
                     Mono<Datasource> validatedDatasourceMono = authenticationValidator.validateAuthentication(datasource).cache();
 
-                    Mono<ActionExecutionResult> executionMono = validatedDatasourceMono
+                    Mono<DatasourceContext> datasourceContextMono = validatedDatasourceMono
                             .flatMap(datasource1 -> {
                                 if (plugin.isRemotePlugin()) {
                                     return this.getRemoteDatasourceContext(plugin, datasource1);
                                 } else {
                                     return datasourceContextService.getDatasourceContext(datasource1);
                                 }
-                            })
-                            // Now that we have the context (connection details), execute the action.
-                            .flatMap(resourceContext -> validatedDatasourceMono
+                            });
+
+                    // Now that we have the context (connection details), execute the action.
+                    Function<DatasourceContext, Mono<ActionExecutionResult>> executeWithContext = resourceContext ->
+                            validatedDatasourceMono
                                     .flatMap(datasource1 -> {
                                         return (Mono<ActionExecutionResult>) pluginExecutor.executeParameterized(
                                                 resourceContext.getConnection(),
@@ -602,16 +622,22 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                                                 datasource1.getDatasourceConfiguration(),
                                                 actionConfiguration
                                         );
+                                    });
+
+                    Mono<ActionExecutionResult> executionMono = datasourceContextMono
+                            .flatMap(resourceContext -> executeWithContext.apply(resourceContext)
+                                    .onErrorResume(StaleConnectionException.class, error -> {
+                                        log.info("Looks like the connection is stale. Retrying with a fresh context.");
+                                        // Only the context this execution found stale is deleted, not one that another
+                                        // execution may have replaced it with meanwhile.
+                                        return datasourceContextService
+                                                .deleteDatasourceContext(datasource.getId(), resourceContext)
+                                                .then(datasourceContextMono)
+                                                .flatMap(executeWithContext);
                                     })
                             );
 
                     return executionMono
-                            .onErrorResume(StaleConnectionException.class, error -> {
-                                log.info("Looks like the connection is stale. Retrying with a fresh context.");
-                                return datasourceContextService
-                                        .deleteDatasourceContext(datasource.getId())
-                                        .then(executionMono);
-                            })
                             .timeout(Duration.ofMillis(timeoutDuration))
                             .onErrorMap(TimeoutException.class,
                                     error -> new AppsmithPluginException(
@@ -667,7 +693,16 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                                             ActionDTO actionDTO = tuple2.getT2();
                                             Datasource datasourceFromDb = tuple2.getT3();
 
-                                            return Mono.when(sendExecuteAnalyticsEvent(actionFromDb, actionDTO, datasourceFromDb, executeActionDTO.getViewMode(), actionExecutionResult, timeElapsed))
+                                            // The analytics event is sent in the background, so that the loading of the
+                                            // application, page and plugin it needs doesn't hold up the execution result.
+                                            // The subscriber context is carried over for the current user to be available.
+                                            // A failure to send it is only logged, it never fails the execution.
+                                            return Mono.subscriberContext()
+                                                    .doOnNext(context -> sendExecuteAnalyticsEvent(actionFromDb, actionDTO, datasourceFromDb, executeActionDTO.getViewMode(), actionExecutionResult, timeElapsed)
+                                                            .subscriberContext(context)
+                                                            .subscribeOn(scheduler)
+                                                            .subscribe(null, error -> log.warn("Unable to send the execute analytics event for action {}",
+                                                                    actionFromDb.getId(), error)))
                                                     .thenReturn(result);
                                         });
                                     }
@@ -685,7 +720,8 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
 
         Mono<Map> editorConfigLabelMapMono = datasourceMono
                 .flatMap(datasource -> {
-                    if (datasource.getId() != null) {
+                    // The labels are only used to transform the request params, which aren't returned in view mode.
+                    if (datasource.getId() != null && !isViewMode) {
                         return pluginService.getEditorConfigLabelMap(datasource.getPluginId());
                     }
 
@@ -713,6 +749,37 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                 .map(result -> addDataTypesAndSetSuggestedWidget(result, executeActionDTO.getViewMode()));
     }
 
+    /**
+     * Executes all the given actions concurrently, with at most {@link #BATCH_EXECUTION_CONCURRENCY} of them in flight
+     * at any time. Results are emitted in the order in which the executions complete, and a failure in one action
+     * is returned as its result instead of failing the whole batch.
+     */
+    @Override
+    public Flux<BatchActionExecutionResultDTO> executeActions(List<ExecuteActionDTO> executeActionDTOs) {
+        if (CollectionUtils.isEmpty(executeActionDTOs)) {
+            return Flux.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.ACTIONS));
+        }
+
+        return Flux.fromIterable(executeActionDTOs)
+                .flatMap(executeActionDTO -> executeAction(executeActionDTO)
+                                .onErrorResume(error -> {
+                                    log.debug("Error executing action {} in batch", executeActionDTO.getActionId(), error);
+                                    ActionExecutionResult result = new ActionExecutionResult();
+                                    result.setIsExecutionSuccess(false);
+                                    result.setBody(error.getMessage());
+                                    if (error instanceof AppsmithException) {
+                                        result.setStatusCode(((AppsmithException) error).getAppErrorCode().toString());
+                                        result.setTitle(((AppsmithException) error).getTitle());
+                                        result.setErrorType(((AppsmithException) error).getErrorType());
+                                    } else {
+                                        result.setStatusCode(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode().toString());
+                                    }
+                                    return Mono.just(result);
+                                })
+                                .map(result -> new BatchActionExecutionResultDTO(executeActionDTO.getActionId(), result)),
+                        BATCH_EXECUTION_CONCURRENCY);
+    }
+
     /*
      * - Get label for request params.
      * - Transform request params list: [""] to a map: {"label": {"value": ...}}
@@ -1144,7 +1211,8 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
         if (action.getGitSyncId() == null) {
             action.setGitSyncId(action.getApplicationId() + "_" + Instant.now().toString());
         }
-        return repository.save(action);
+        return repository.save(action)
+                .flatMap(savedAction -> executionMetadataCacheService.evict(Set.of(savedAction.getId())).thenReturn(savedAction));
     }
 
     @Override
@@ -1152,7 +1220,38 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
         actions.stream()
             .filter(action -> action.getGitSyncId() == null)
             .forEach(action -> action.setGitSyncId(action.getApplicationId() + "_" + Instant.now().toString()));
-        return repository.saveAll(actions);
+        return repository.saveAll(actions)
+                .collectList()
+                .flatMapMany(savedActions -> executionMetadataCacheService
+                        .evict(savedActions.stream().map(NewAction::getId).collect(Collectors.toSet()))
+                        .thenMany(Flux.fromIterable(savedActions)));
+    }
+
+    /**
+     * Publishes all the actions of the application. Only the ids of the actions are read, the unpublished actions are
+     * copied into the published actions on the DB server. Actions deleted in edit mode are deleted for good.
+     */
+    @Override
+    public Mono<Void> publishActions(String applicationId, AclPermission permission) {
+        return repository.findIdsAndDeletedAtByApplicationId(applicationId, permission)
+                .collectList()
+                .flatMap(actions -> {
+                    Set<String> deletedActionIds = new HashSet<>();
+                    Set<String> publishedActionIds = new HashSet<>();
+                    for (NewAction action : actions) {
+                        if (action.getUnpublishedAction() != null && action.getUnpublishedAction().getDeletedAt() != null) {
+                            deletedActionIds.add(action.getId());
+                        } else {
+                            publishedActionIds.add(action.getId());
+                        }
+                    }
+
+                    // Only the actions deleted since the last publish are left to delete, so these go one by one
+                    return Flux.fromIterable(deletedActionIds)
+                            .flatMap(this::delete)
+                            .then(repository.publishByApplicationId(applicationId, permission))
+                            .then(executionMetadataCacheService.evict(publishedActionIds));
+                });
     }
 
     @Override
@@ -1310,6 +1409,7 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, id)));
         return actionMono
                 .flatMap(toDelete -> repository.delete(toDelete).thenReturn(toDelete))
+                .flatMap(deleted -> executionMetadataCacheService.evict(Set.of(deleted.getId())).thenReturn(deleted))
                 .flatMap(analyticsService::sendDeleteEvent);
     }
 
@@ -1329,7 +1429,10 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
     public Mono<List<NewAction>> archiveActionsByApplicationId(String applicationId, AclPermission permission) {
         return repository.findByApplicationId(applicationId, permission)
                 .flatMap(repository::archive)
-                .collectList();
+                .collectList()
+                .flatMap(archivedActions -> executionMetadataCacheService
+                        .evict(archivedActions.stream().map(NewAction::getId).collect(Collectors.toSet()))
+                        .thenReturn(archivedActions));
     }
 
     public List<String> extractMustacheKeysInOrder(String query) {
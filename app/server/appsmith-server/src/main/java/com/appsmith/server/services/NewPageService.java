@@ -8,6 +8,7 @@ import com.appsmith.server.dtos.PageDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface NewPageService extends CrudService<NewPage, String> {
@@ -20,6 +21,8 @@ public interface NewPageService extends CrudService<NewPage, String> {
 
     Flux<PageDTO> findByApplicationId(String applicationId, AclPermission permission, Boolean view);
 
+    Flux<PageDTO> findByApplicationIdWithoutLayouts(String applicationId, AclPermission permission, Boolean view);
+
     Flux<NewPage> findNewPagesByApplicationId(String applicationId, AclPermission permission);
 
     Mono<PageDTO> saveUnpublishedPage(PageDTO page);
@@ -54,5 +57,11 @@ public interface NewPageService extends CrudService<NewPage, String> {
 
     Flux<NewPage> saveAll(List<NewPage> pages);
 
+    Mono<Boolean> archiveAllById(List<String> ids);
+
+    Mono<Long> publishPages(Collection<String> pageIds, AclPermission permission);
+
     Mono<String> getNameByPageId(String pageId, boolean isPublishedName);
+
+    Mono<Void> clearDslBindingsHash(String pageId);
 }
@@ -28,6 +28,7 @@ import reactor.core.scheduler.Scheduler;
 import javax.validation.Validator;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -109,6 +110,16 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
                 .flatMap(page -> getPageByViewMode(page, view));
     }
 
+    /**
+     * Finds the pages of the application in the given mode, without their layouts. Meant for listing pages, where the
+     * DSLs in the layouts would only be loaded to be thrown away.
+     */
+    @Override
+    public Flux<PageDTO> findByApplicationIdWithoutLayouts(String applicationId, AclPermission permission, Boolean view) {
+        return repository.findByApplicationIdWithoutLayouts(applicationId, permission)
+                .flatMap(page -> getPageByViewMode(page, view));
+    }
+
     @Override
     public Mono<PageDTO> saveUnpublishedPage(PageDTO page) {
 
@@ -220,7 +231,7 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
                     }
                     return pages.stream().map(page -> page.getId()).collect(Collectors.toList());
                 })
-                .flatMapMany(pageIds -> repository.findAllByIds(pageIds, READ_PAGES))
+                .flatMapMany(pageIds -> repository.findAllByIdsWithoutLayouts(pageIds, READ_PAGES))
                 .collectList()
                 .flatMap( pagesFromDb -> Mono.zip(
                         Mono.just(pagesFromDb),
@@ -325,7 +336,7 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
             pages = application.getPages();
         }
 
-        return findByApplicationId(application.getId(), READ_PAGES, viewMode)
+        return findByApplicationIdWithoutLayouts(application.getId(), READ_PAGES, viewMode)
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.PAGE + " by application id", application.getId())))
                 .map(page -> {
                     PageNameIdDTO pageNameIdDTO = new PageNameIdDTO();
@@ -360,7 +371,7 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
 
     @Override
     public Mono<List<String>> findAllPageIdsInApplication(String applicationId, AclPermission aclPermission, Boolean view) {
-        return findNewPagesByApplicationId(applicationId, aclPermission)
+        return repository.findByApplicationIdWithoutLayouts(applicationId, aclPermission)
                 .flatMap(newPage -> {
                     if (Boolean.TRUE.equals(view)) {
                         if (newPage.getPublishedPage().getDeletedAt() != null) {
@@ -419,8 +430,23 @@ public class NewPageServiceImpl extends BaseService<NewPageRepository, NewPage,
         return repository.saveAll(pages);
     }
 
+    @Override
+    public Mono<Boolean> archiveAllById(List<String> ids) {
+        return repository.archiveAllById(ids);
+    }
+
+    @Override
+    public Mono<Long> publishPages(Collection<String> pageIds, AclPermission permission) {
+        return repository.publishPages(pageIds, permission);
+    }
+
     @Override
     public Mono<String> getNameByPageId(String pageId, boolean isPublishedName) {
         return repository.getNameByPageId(pageId, isPublishedName);
     }
+
+    @Override
+    public Mono<Void> clearDslBindingsHash(String pageId) {
+        return repository.clearDslBindingsHash(pageId).then();
+    }
 }
@@ -32,6 +32,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import static com.appsmith.server.helpers.PermissionKeyUtils.generatePermissionKeys;
 import static com.appsmith.server.repositories.BaseAppsmithRepositoryImpl.fieldName;
 
 @Service
@@ -129,6 +130,7 @@ public class UserDataServiceImpl extends BaseService<UserDataRepository, UserDat
         if (resource.getPolicies().isEmpty()) {
             resource.setPolicies(null);
         }
+        resource.setPermissionKeys(generatePermissionKeys(resource.getPolicies()));
 
         DBObject update = getDbObject(resource);
 
@@ -391,7 +391,7 @@ public class CreateDBTablePageSolution {
                 });
         }
 
-        return newPageService.findByApplicationId(applicationId, AclPermission.MANAGE_PAGES, false)
+        return newPageService.findByApplicationIdWithoutLayouts(applicationId, AclPermission.MANAGE_PAGES, false)
             .collectList()
             .flatMap(pages -> {
                 // Avoid duplicating page names
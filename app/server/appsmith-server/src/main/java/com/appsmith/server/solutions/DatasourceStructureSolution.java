@@ -9,6 +9,7 @@ import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.Property;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.configurations.DatasourceStructureConfig;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.server.exceptions.AppsmithError;
@@ -21,13 +22,22 @@ import com.appsmith.server.services.DatasourceService;
 import com.appsmith.server.services.PluginService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Component
 @RequiredArgsConstructor
@@ -42,6 +52,15 @@ public class DatasourceStructureSolution {
     private final DatasourceContextService datasourceContextService;
     private final CustomDatasourceRepository datasourceRepository;
     private final AuthenticationValidator authenticationValidator;
+    private final DatasourceStructureConfig datasourceStructureConfig;
+
+    // Ids of the datasources whose cached structure was found to be stale when it was read, mapped to the security
+    // context of the user who read it. These are refreshed by the scheduled task below, so that the user never waits on
+    // a refresh they didn't ask for. The scheduler thread has no security context of its own, and the datasource can
+    // only be loaded and connected to on behalf of a user who has access to it.
+    private final Map<String, SecurityContext> staleDatasources = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean isRefreshing = new AtomicBoolean(false);
 
     public Mono<DatasourceStructure> getStructure(String datasourceId, boolean ignoreCache) {
         return datasourceService.getById(datasourceId)
@@ -76,10 +95,69 @@ public class DatasourceStructureSolution {
         }
 
         if (!ignoreCache && datasource.getStructure() != null) {
-            // Return the cached structure if available.
+            // Return the cached structure if available, even if it's stale. Stale structures are refreshed in the
+            // background for the next time they're asked for.
+            if (datasource.getId() != null && isStale(datasource.getStructure())) {
+                return ReactiveSecurityContextHolder.getContext()
+                        .doOnNext(securityContext -> staleDatasources.put(datasource.getId(), securityContext))
+                        .thenReturn(datasource.getStructure());
+            }
             return Mono.just(datasource.getStructure());
         }
 
+        return fetchStructure(datasource);
+    }
+
+    private boolean isStale(DatasourceStructure structure) {
+        final Instant refreshedAt = structure.getRefreshedAt();
+        return refreshedAt == null
+                || refreshedAt.plus(Duration.ofMinutes(datasourceStructureConfig.getTtlMinutes())).isBefore(Instant.now());
+    }
+
+    /**
+     * Refreshes the structures of the datasources which were found to be stale since the last run. At most
+     * `refresh-concurrency` datasources are queried at the same time, and a run is skipped if the previous one is still
+     * in progress. Each datasource is refreshed in the security context of the user who found its structure stale.
+     *
+     * @return Mono that completes when this run is over. The scheduler ignores it, tests can wait on it.
+     */
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedDelay = 60 * 1000 /* one minute */)
+    public Mono<Void> refreshStaleStructures() {
+        if (staleDatasources.isEmpty() || !isRefreshing.compareAndSet(false, true)) {
+            return Mono.empty();
+        }
+
+        final Map<String, SecurityContext> datasources = new HashMap<>(staleDatasources);
+        datasources.forEach(staleDatasources::remove);
+
+        final Mono<Void> refreshMono = Flux.fromIterable(datasources.entrySet())
+                .flatMap(
+                        entry -> refreshStructure(entry.getKey())
+                                .subscriberContext(ReactiveSecurityContextHolder.withSecurityContext(Mono.just(entry.getValue()))),
+                        datasourceStructureConfig.getRefreshConcurrency()
+                )
+                .doFinally(signalType -> isRefreshing.set(false))
+                .then()
+                .cache();
+
+        refreshMono.subscribe();
+        return refreshMono;
+    }
+
+    private Mono<DatasourceStructure> refreshStructure(String datasourceId) {
+        return datasourceService.findById(datasourceId)
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.debug("Datasource {} no longer exists, not refreshing its structure.", datasourceId);
+                    return Mono.empty();
+                }))
+                .filter(datasource -> CollectionUtils.isEmpty(datasource.getInvalids()))
+                .flatMap(this::fetchStructure)
+                .doOnNext(structure -> log.debug("Refreshed the structure of datasource {}", datasourceId))
+                .doOnError(error -> log.warn("Unable to refresh the structure of datasource {}", datasourceId, error))
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    private Mono<DatasourceStructure> fetchStructure(Datasource datasource) {
         // This mono, when computed, will load the structure of the datasource by calling the plugin method.
         return pluginExecutorHelper
                 .getPluginExecutor(pluginService.findById(datasource.getPluginId()))
@@ -125,10 +203,13 @@ public class DatasourceStructureSolution {
 
                     return e;
                 })
-                .flatMap(structure -> datasource.getId() == null
-                        ? Mono.empty()
-                        : datasourceRepository.saveStructure(datasource.getId(), structure).thenReturn(structure)
-                );
+                .flatMap(structure -> {
+                    if (datasource.getId() == null) {
+                        return Mono.empty();
+                    }
+                    structure.setRefreshedAt(Instant.now());
+                    return datasourceRepository.saveStructure(datasource.getId(), structure).thenReturn(structure);
+                });
     }
 
     /**
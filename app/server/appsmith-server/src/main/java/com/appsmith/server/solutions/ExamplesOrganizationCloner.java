@@ -510,6 +510,7 @@ public class ExamplesOrganizationCloner {
         if (domain.getPolicies() != null) {
             domain.getPolicies().clear();
         }
+        domain.setPermissionKeys(null);
     }
 
 }
@@ -33,12 +33,15 @@ import com.appsmith.server.repositories.PluginRepository;
 import com.appsmith.server.services.ActionCollectionService;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ApplicationService;
+import com.appsmith.server.services.ApplicationViewBundleService;
 import com.appsmith.server.services.DatasourceService;
 import com.appsmith.server.services.NewActionService;
 import com.appsmith.server.services.NewPageService;
 import com.appsmith.server.services.OrganizationService;
 import com.appsmith.server.services.SequenceService;
 import com.appsmith.server.services.SessionUserService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import lombok.RequiredArgsConstructor;
@@ -46,6 +49,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.StringUtils;
 import org.bson.types.ObjectId;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.multipart.Part;
@@ -53,11 +57,17 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -81,10 +91,15 @@ public class ImportExportApplicationService {
     private final ExamplesOrganizationCloner examplesOrganizationCloner;
     private final ActionCollectionRepository actionCollectionRepository;
     private final ActionCollectionService actionCollectionService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationViewBundleService applicationViewBundleService;
 
     private static final Set<MediaType> ALLOWED_CONTENT_TYPES = Set.of(MediaType.APPLICATION_JSON);
     private static final String INVALID_JSON_FILE = "invalid json file";
 
+    // Number of new actions inserted into the DB in one go when importing an application
+    private static final int IMPORT_BATCH_SIZE = 100;
+
     private enum PublishType {
         UNPUBLISHED, PUBLISHED
     }
@@ -237,6 +252,7 @@ public class ImportExportApplicationService {
                                     newAction.setPluginId(pluginMap.get(newAction.getPluginId()));
                                     newAction.setOrganizationId(null);
                                     newAction.setPolicies(null);
+                                    newAction.setPermissionKeys(null);
                                     newAction.setApplicationId(null);
                                     concernedDBNames.add(
                                             sanitizeDatasourceInActionDTO(newAction.getPublishedAction(), datasourceIdToNameMap, pluginMap, null)
@@ -291,6 +307,7 @@ public class ImportExportApplicationService {
                                 // Remove references to ids since the serialized version does not have this information
                                 actionCollection.setOrganizationId(null);
                                 actionCollection.setPolicies(null);
+                                actionCollection.setPermissionKeys(null);
                                 actionCollection.setApplicationId(null);
 
                                 if (actionCollection.getUnpublishedCollection() != null) {
@@ -322,6 +339,81 @@ public class ImportExportApplicationService {
         return exportApplicationById(applicationId, SerialiseApplicationObjective.SHARE);
     }
 
+    /**
+     * This function will serialise the application resource to JSON as a stream of buffers, with every datasource,
+     * page, action and action collection written to a buffer of its own. This way the exported file is written to the
+     * response as it gets serialised, instead of being held in memory as a single byte array first.
+     *
+     * @param applicationJson application resource to be serialised
+     * @param bufferFactory   factory for the buffers of the stream
+     * @return JSON of the application resource, split across buffers
+     */
+    public Flux<DataBuffer> streamApplicationJson(ApplicationJson applicationJson, DataBufferFactory bufferFactory) {
+        Map<String, List<?>> entityLists = new LinkedHashMap<>();
+        entityLists.put("datasourceList", applicationJson.getDatasourceList());
+        entityLists.put("pageList", applicationJson.getPageList());
+        entityLists.put("actionList", applicationJson.getActionList());
+        entityLists.put("actionCollectionList", applicationJson.getActionCollectionList());
+
+        // Rest of the fields are small, and are written together at the end
+        ApplicationJson remainingFields = new ApplicationJson();
+        remainingFields.setExportedApplication(applicationJson.getExportedApplication());
+        remainingFields.setPublishedDefaultPageName(applicationJson.getPublishedDefaultPageName());
+        remainingFields.setUnpublishedDefaultPageName(applicationJson.getUnpublishedDefaultPageName());
+        remainingFields.setDecryptedFields(applicationJson.getDecryptedFields());
+        remainingFields.setPublishedLayoutmongoEscapedWidgets(applicationJson.getPublishedLayoutmongoEscapedWidgets());
+        remainingFields.setUnpublishedLayoutmongoEscapedWidgets(applicationJson.getUnpublishedLayoutmongoEscapedWidgets());
+
+        List<Flux<DataBuffer>> parts = new ArrayList<>();
+        String fieldSeparator = "{";
+        for (Map.Entry<String, List<?>> entityList : entityLists.entrySet()) {
+            // Null lists are left out, the same as in the object mapper's output
+            if (entityList.getValue() == null) {
+                continue;
+            }
+            final String listStart = fieldSeparator + "\"" + entityList.getKey() + "\":[";
+            parts.add(Flux.defer(() -> Flux.just(toDataBuffer(bufferFactory, listStart, null))));
+            parts.add(Flux.fromIterable(entityList.getValue())
+                    .index()
+                    .map(tuple -> toDataBuffer(bufferFactory, tuple.getT1() == 0 ? "" : ",", writeValueAsBytes(tuple.getT2())))
+            );
+            parts.add(Flux.defer(() -> Flux.just(toDataBuffer(bufferFactory, "]", null))));
+            fieldSeparator = ",";
+        }
+
+        final boolean isAnyListWritten = !"{".equals(fieldSeparator);
+        parts.add(Flux.defer(() -> {
+            final byte[] remainingFieldsJson = writeValueAsBytes(remainingFields);
+            if (!isAnyListWritten) {
+                return Flux.just(toDataBuffer(bufferFactory, "", remainingFieldsJson));
+            }
+            // Drop the opening brace, so that the fields carry on from the lists written before them
+            final byte[] fields = Arrays.copyOfRange(remainingFieldsJson, 1, remainingFieldsJson.length);
+            return Flux.just(toDataBuffer(bufferFactory, fields.length > 1 ? "," : "", fields));
+        }));
+
+        return Flux.concat(parts);
+    }
+
+    private byte[] writeValueAsBytes(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new AppsmithException(AppsmithError.JSON_PROCESSING_ERROR, e.getMessage());
+        }
+    }
+
+    private static DataBuffer toDataBuffer(DataBufferFactory bufferFactory, String prefix, byte[] json) {
+        final byte[] prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+        final int length = prefixBytes.length + (json == null ? 0 : json.length);
+        final DataBuffer dataBuffer = bufferFactory.allocateBuffer(length);
+        dataBuffer.write(prefixBytes);
+        if (json != null) {
+            dataBuffer.write(json);
+        }
+        return dataBuffer;
+    }
+
     /**
      * This function will take the Json filepart and saves the application in organization
      *
@@ -346,23 +438,18 @@ public class ImportExportApplicationService {
             return Mono.error(new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE));
         }
 
-        final Flux<DataBuffer> contentCache = filePart.content().cache();
-        Mono<String> stringifiedFile = DataBufferUtils.join(contentCache)
+        // The file is parsed straight from the joined buffer, without copying it into a byte array and a string first
+        return DataBufferUtils.join(filePart.content())
                 .map(dataBuffer -> {
-                    byte[] data = new byte[dataBuffer.readableByteCount()];
-                    dataBuffer.read(data);
-                    DataBufferUtils.release(dataBuffer);
-                    return new String(data);
-                });
-
-        return stringifiedFile
-                .flatMap(data -> {
-                    Gson gson = new Gson();
                     Type fileType = new TypeToken<ApplicationJson>() {
                     }.getType();
-                    ApplicationJson jsonFile = gson.fromJson(data, fileType);
-                    return importApplicationInOrganization(orgId, jsonFile);
-                });
+                    try (Reader reader = new InputStreamReader(dataBuffer.asInputStream(true), StandardCharsets.UTF_8)) {
+                        return new Gson().<ApplicationJson>fromJson(reader, fileType);
+                    } catch (IOException e) {
+                        throw new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE);
+                    }
+                })
+                .flatMap(jsonFile -> importApplicationInOrganization(orgId, jsonFile));
     }
 
     /**
@@ -613,41 +700,52 @@ public class ImportExportApplicationService {
 
                     assert importedNewActionList != null;
 
-                    return Flux.fromIterable(importedNewActionList)
-                            .flatMap(newAction -> {
-                                NewPage parentPage = new NewPage();
-                                if (newAction.getUnpublishedAction() != null && newAction.getUnpublishedAction().getName() != null) {
-                                    parentPage = pageNameMap.get(newAction.getUnpublishedAction().getPageId());
-                                    actionIdMap.put(newAction.getUnpublishedAction().getName() + parentPage.getId(), newAction.getId());
-                                    newAction.getUnpublishedAction().setPageId(parentPage.getId());
-                                    sanitizeDatasourceInActionDTO(newAction.getUnpublishedAction(), datasourceMap, pluginMap, organizationId);
-                                }
+                    List<NewAction> actionsToInsert = new ArrayList<>();
+                    List<NewAction> actionsToUpdate = new ArrayList<>();
+                    for (NewAction newAction : importedNewActionList) {
+                        NewPage parentPage = new NewPage();
+                        if (newAction.getUnpublishedAction() != null && newAction.getUnpublishedAction().getName() != null) {
+                            parentPage = pageNameMap.get(newAction.getUnpublishedAction().getPageId());
+                            actionIdMap.put(newAction.getUnpublishedAction().getName() + parentPage.getId(), newAction.getId());
+                            newAction.getUnpublishedAction().setPageId(parentPage.getId());
+                            sanitizeDatasourceInActionDTO(newAction.getUnpublishedAction(), datasourceMap, pluginMap, organizationId);
+                        }
 
-                                if (newAction.getPublishedAction() != null && newAction.getPublishedAction().getName() != null) {
-                                    parentPage = pageNameMap.get(newAction.getPublishedAction().getPageId());
-                                    actionIdMap.put(newAction.getPublishedAction().getName() + parentPage.getId(), newAction.getId());
-                                    newAction.getPublishedAction().setPageId(parentPage.getId());
-                                    sanitizeDatasourceInActionDTO(newAction.getPublishedAction(), datasourceMap, pluginMap, organizationId);
-                                }
+                        if (newAction.getPublishedAction() != null && newAction.getPublishedAction().getName() != null) {
+                            parentPage = pageNameMap.get(newAction.getPublishedAction().getPageId());
+                            actionIdMap.put(newAction.getPublishedAction().getName() + parentPage.getId(), newAction.getId());
+                            newAction.getPublishedAction().setPageId(parentPage.getId());
+                            sanitizeDatasourceInActionDTO(newAction.getPublishedAction(), datasourceMap, pluginMap, organizationId);
+                        }
 
-                                examplesOrganizationCloner.makePristine(newAction);
-                                newAction.setOrganizationId(organizationId);
-                                newAction.setApplicationId(importedApplication.getId());
-                                newAction.setPluginId(pluginMap.get(newAction.getPluginId()));
-                                newActionService.generateAndSetActionPolicies(parentPage, newAction);
-
-                                // Check if the action has gitSyncId and if it's already in DB
-                                if (newAction.getGitSyncId() != null
-                                        && savedActionsGitIdToActionsMap.containsKey(newAction.getGitSyncId())) {
-
-                                    //Since the resource is already present in DB, just update resource
-                                    NewAction existingAction = savedActionsGitIdToActionsMap.get(newAction.getGitSyncId());
-                                    newAction.setId(savedActionsGitIdToActionsMap.get(newAction.getGitSyncId()).getId());
-                                    BeanCopyUtils.copyNewFieldValuesIntoOldObject(newAction, existingAction);
-                                    return newActionService.update(newAction.getId(), existingAction);
-                                }
-                                return newActionService.save(newAction);
-                            })
+                        examplesOrganizationCloner.makePristine(newAction);
+                        newAction.setOrganizationId(organizationId);
+                        newAction.setApplicationId(importedApplication.getId());
+                        newAction.setPluginId(pluginMap.get(newAction.getPluginId()));
+                        newActionService.generateAndSetActionPolicies(parentPage, newAction);
+
+                        // Check if the action has gitSyncId and if it's already in DB
+                        if (newAction.getGitSyncId() != null
+                                && savedActionsGitIdToActionsMap.containsKey(newAction.getGitSyncId())) {
+
+                            //Since the resource is already present in DB, just update resource
+                            NewAction existingAction = savedActionsGitIdToActionsMap.get(newAction.getGitSyncId());
+                            newAction.setId(savedActionsGitIdToActionsMap.get(newAction.getGitSyncId()).getId());
+                            BeanCopyUtils.copyNewFieldValuesIntoOldObject(newAction, existingAction);
+                            actionsToUpdate.add(existingAction);
+                        } else {
+                            actionsToInsert.add(newAction);
+                        }
+                    }
+
+                    // New actions are inserted in batches, instead of with a round trip to the DB for every action
+                    return Flux.merge(
+                                    Flux.fromIterable(actionsToUpdate)
+                                            .flatMap(existingAction -> newActionService.update(existingAction.getId(), existingAction)),
+                                    Flux.fromIterable(actionsToInsert)
+                                            .buffer(IMPORT_BATCH_SIZE)
+                                            .concatMap(newActionService::saveAll)
+                            )
                             .map(newAction -> {
                                 // Populate actionIdsMap to associate the appropriate actions to be run on page load
                                 if (newAction.getUnpublishedAction() != null) {
@@ -751,6 +849,19 @@ public class ImportExportApplicationService {
                     return Flux.fromIterable(importedNewPageList)
                             .flatMap(newPageService::save)
                             .then(applicationService.update(importedApplication.getId(), importedApplication));
+                })
+                .flatMap(application -> {
+                    if (applicationId == null) {
+                        return Mono.just(application);
+                    }
+                    // The published pages and actions of the existing application have been replaced, like on a
+                    // publish. A failure to rebuild the view bundle drops the stored one, which then gets built on view.
+                    return applicationViewBundleService.refreshViewBundle(application.getId())
+                            .onErrorResume(error -> {
+                                log.error("Error building the view bundle of application {}", application.getId(), error);
+                                return Mono.empty();
+                            })
+                            .thenReturn(application);
                 });
     }
 
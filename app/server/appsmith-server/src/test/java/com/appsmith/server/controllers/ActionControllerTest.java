@@ -0,0 +1,82 @@
+package com.appsmith.server.controllers;
+
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.configurations.SecurityTestConfig;
+import com.appsmith.server.services.ActionCollectionService;
+import com.appsmith.server.services.LayoutActionService;
+import com.appsmith.server.services.NewActionService;
+import com.appsmith.server.services.UserService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.BodyInserters;
+import reactor.core.publisher.Flux;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@RunWith(SpringRunner.class)
+@WebFluxTest(ActionController.class)
+@Import(SecurityTestConfig.class)
+public class ActionControllerTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ActionCollectionService actionCollectionService;
+
+    @MockBean
+    private LayoutActionService layoutActionService;
+
+    @MockBean
+    private NewActionService newActionService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private CommonConfig commonConfig;
+
+    private static String batchOfActions(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "{\"actionId\": \"action" + i + "\"}")
+                .collect(Collectors.joining(",", "{\"actions\": [", "]}"));
+    }
+
+    @Test
+    @WithMockUser
+    public void executeActionsWithinBatchLimit() {
+        Mockito.when(newActionService.executeActions(Mockito.anyList())).thenReturn(Flux.empty());
+
+        webTestClient.post().uri("/api/v1/actions/execute/batch").
+                contentType(MediaType.APPLICATION_JSON).
+                accept(MediaType.APPLICATION_STREAM_JSON).
+                body(BodyInserters.fromValue(batchOfActions(50))).
+                exchange().
+                expectStatus().isOk();
+    }
+
+    @Test
+    @WithMockUser
+    public void executeActionsOverBatchLimit() {
+        webTestClient.post().uri("/api/v1/actions/execute/batch").
+                contentType(MediaType.APPLICATION_JSON).
+                accept(MediaType.APPLICATION_STREAM_JSON).
+                body(BodyInserters.fromValue(batchOfActions(51))).
+                exchange().
+                expectStatus().isEqualTo(400).
+                expectBody().
+                jsonPath("$.responseMeta.status").isEqualTo(400).
+                jsonPath("$.responseMeta.error.code").isEqualTo(4028);
+
+        Mockito.verifyNoInteractions(newActionService);
+    }
+}
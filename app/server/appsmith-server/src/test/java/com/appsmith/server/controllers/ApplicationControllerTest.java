@@ -0,0 +1,105 @@
+package com.appsmith.server.controllers;
+
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.configurations.SecurityTestConfig;
+import com.appsmith.server.dtos.ApplicationViewBundleDTO;
+import com.appsmith.server.services.ApplicationPageService;
+import com.appsmith.server.services.ApplicationService;
+import com.appsmith.server.services.ApplicationViewBundleService;
+import com.appsmith.server.services.GitService;
+import com.appsmith.server.services.UserService;
+import com.appsmith.server.solutions.ApplicationFetcher;
+import com.appsmith.server.solutions.ApplicationForkingService;
+import com.appsmith.server.solutions.ImportExportApplicationService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+@RunWith(SpringRunner.class)
+@WebFluxTest(ApplicationController.class)
+@Import(SecurityTestConfig.class)
+public class ApplicationControllerTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ApplicationService applicationService;
+
+    @MockBean
+    private ApplicationPageService applicationPageService;
+
+    @MockBean
+    private ApplicationFetcher applicationFetcher;
+
+    @MockBean
+    private ApplicationForkingService applicationForkingService;
+
+    @MockBean
+    private ImportExportApplicationService importExportApplicationService;
+
+    @MockBean
+    private GitService gitService;
+
+    @MockBean
+    private ApplicationViewBundleService applicationViewBundleService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private CommonConfig commonConfig;
+
+    private void mockViewBundle(String etag) {
+        ApplicationViewBundleDTO viewBundle = new ApplicationViewBundleDTO();
+        viewBundle.setApplicationId("applicationId");
+        viewBundle.setEtag(etag);
+        Mockito.when(applicationViewBundleService.getViewBundle("applicationId")).thenReturn(Mono.just(viewBundle));
+    }
+
+    @Test
+    @WithMockUser
+    public void getViewBundleWithEtag() {
+        mockViewBundle("firstEtag");
+
+        webTestClient.get().uri("/api/v1/applications/view/applicationId/bundle").
+                exchange().
+                expectStatus().isOk().
+                expectHeader().valueEquals("ETag", "\"firstEtag\"").
+                expectBody().jsonPath("$.data.applicationId").isEqualTo("applicationId");
+    }
+
+    @Test
+    @WithMockUser
+    public void getViewBundleNotModified() {
+        mockViewBundle("firstEtag");
+
+        webTestClient.get().uri("/api/v1/applications/view/applicationId/bundle").
+                ifNoneMatch("\"firstEtag\"").
+                exchange().
+                expectStatus().isNotModified().
+                expectHeader().valueEquals("ETag", "\"firstEtag\"").
+                expectBody().isEmpty();
+    }
+
+    @Test
+    @WithMockUser
+    public void getViewBundleModifiedAfterRepublish() {
+        // The client's copy is of the first publish
+        mockViewBundle("secondEtag");
+
+        webTestClient.get().uri("/api/v1/applications/view/applicationId/bundle").
+                ifNoneMatch("\"firstEtag\"").
+                exchange().
+                expectStatus().isOk().
+                expectHeader().valueEquals("ETag", "\"secondEtag\"").
+                expectBody().jsonPath("$.data.applicationId").isEqualTo("applicationId");
+    }
+}
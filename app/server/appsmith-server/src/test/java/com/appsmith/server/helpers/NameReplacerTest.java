@@ -0,0 +1,90 @@
+package com.appsmith.server.helpers;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class NameReplacerTest {
+
+    @Test
+    public void testReplaceOnlyWholeWords() {
+        NameReplacer nameReplacer = NameReplacer.of("Api1", "getUsers");
+
+        Assert.assertEquals("{{getUsers.data}}", nameReplacer.replace("{{Api1.data}}"));
+        Assert.assertEquals("{{JSON.stringify(getUsers)}}", nameReplacer.replace("{{JSON.stringify(Api1)}}"));
+        Assert.assertEquals("{{Api12.data + myApi1.data}}", nameReplacer.replace("{{Api12.data + myApi1.data}}"));
+        Assert.assertEquals("getUsers getUsers", nameReplacer.replace("Api1 Api1"));
+    }
+
+    @Test
+    public void testReplaceMultipleNamesInOnePass() {
+        NameReplacer nameReplacer = new NameReplacer(Map.of(
+                "Api1", "Api2",
+                "Api2", "Api1",
+                "JSObject1.run", "JSObject1.execute",
+                "Table1", "UsersTable"
+        ));
+
+        // Swapping names works since the replaced text is never scanned again
+        Assert.assertEquals(
+                "{{Api2.data.concat(Api1.data, UsersTable.selectedRow)}}",
+                nameReplacer.replace("{{Api1.data.concat(Api2.data, Table1.selectedRow)}}")
+        );
+
+        // The longest name matching at a position is the one replaced
+        Assert.assertEquals("{{JSObject1.execute()}}", nameReplacer.replace("{{JSObject1.run()}}"));
+        Assert.assertEquals("{{JSObject1.runAll()}}", nameReplacer.replace("{{JSObject1.runAll()}}"));
+    }
+
+    @Test
+    public void testReplaceIsLiteral() {
+        NameReplacer nameReplacer = NameReplacer.of("JSObject1.run", "$1\\run");
+
+        Assert.assertEquals("{{JSObject1Xrun}}", nameReplacer.replace("{{JSObject1Xrun}}"));
+        Assert.assertEquals("{{$1\\run()}}", nameReplacer.replace("{{JSObject1.run()}}"));
+    }
+
+    @Test
+    public void testUnchangedStringIsReturnedAsIs() {
+        NameReplacer nameReplacer = NameReplacer.of("Api1", "Api2");
+        String value = "{{Query1.data}}";
+
+        Assert.assertSame(value, nameReplacer.replace(value));
+        Assert.assertFalse(nameReplacer.isPresentIn(value));
+        Assert.assertTrue(nameReplacer.isPresentIn("{{Api1.run()}}"));
+    }
+
+    @Test
+    public void testReplaceInTree() {
+        NameReplacer nameReplacer = new NameReplacer(Map.of("Input1", "NameInput", "Api1", "getUsers"));
+
+        Map<String, Object> child = new HashMap<>();
+        child.put("widgetName", "Input1");
+        child.put("text", "{{getUsers.data}}");
+        child.put("topRow", 4);
+
+        List<Object> children = new ArrayList<>();
+        children.add(child);
+        children.add(new ArrayList<>(List.of("{{Api1.data}}")));
+
+        Map<String, Object> dsl = new HashMap<>();
+        dsl.put("widgetName", "MainContainer");
+        dsl.put("Input1", "{{Input1.text}}");
+        dsl.put("children", children);
+
+        Assert.assertTrue(nameReplacer.replaceInTree(dsl));
+
+        Assert.assertEquals("NameInput", child.get("widgetName"));
+        Assert.assertEquals("{{getUsers.data}}", child.get("text"));
+        Assert.assertEquals(4, child.get("topRow"));
+        Assert.assertEquals(List.of("{{getUsers.data}}"), children.get(1));
+        // Keys are left as they are
+        Assert.assertEquals("{{NameInput.text}}", dsl.get("Input1"));
+
+        Assert.assertFalse(nameReplacer.replaceInTree(dsl));
+    }
+}
@@ -0,0 +1,72 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.domains.User;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+public class PermissionKeyUtilsTest {
+
+    @Test
+    public void testGeneratePermissionKeysForUsersAndGroups() {
+        Policy readPolicy = Policy.builder()
+                .permission("read:applications")
+                .users(Set.of("api_user", "anonymousUser"))
+                .groups(Set.of("group1"))
+                .build();
+        Policy managePolicy = Policy.builder()
+                .permission("manage:applications")
+                .users(Set.of("api_user"))
+                .build();
+
+        Set<String> permissionKeys = PermissionKeyUtils.generatePermissionKeys(List.of(readPolicy, managePolicy));
+
+        Assert.assertEquals(
+                Set.of(
+                        "user:api_user:read:applications",
+                        "user:anonymousUser:read:applications",
+                        "group:group1:read:applications",
+                        "user:api_user:manage:applications"
+                ),
+                permissionKeys
+        );
+    }
+
+    @Test
+    public void testGeneratePermissionKeysWithoutPolicies() {
+        Assert.assertNull(PermissionKeyUtils.generatePermissionKeys((List<Policy>) null));
+        Assert.assertTrue(PermissionKeyUtils.generatePermissionKeys(List.of()).isEmpty());
+    }
+
+    @Test
+    public void testHasPermissionForUserAndAnonymousUser() {
+        Set<String> permissionKeys = Set.of("user:api_user:read:applications");
+
+        User user = new User();
+        user.setEmail("api_user");
+        Assert.assertTrue(PermissionKeyUtils.hasPermission(permissionKeys, user, "read:applications"));
+        Assert.assertFalse(PermissionKeyUtils.hasPermission(permissionKeys, user, "manage:applications"));
+
+        User otherUser = new User();
+        otherUser.setEmail("other_user");
+        Assert.assertFalse(PermissionKeyUtils.hasPermission(permissionKeys, otherUser, "read:applications"));
+        Assert.assertTrue(PermissionKeyUtils.hasPermission(
+                Set.of("user:anonymousUser:read:applications"), otherUser, "read:applications"));
+        Assert.assertFalse(PermissionKeyUtils.hasPermission(null, otherUser, "read:applications"));
+    }
+
+    @Test
+    public void testHasPermissionRequiresAllGroupsOfUser() {
+        User user = new User();
+        user.setEmail("api_user");
+        user.setGroupIds(Set.of("group1", "group2"));
+
+        Assert.assertFalse(PermissionKeyUtils.hasPermission(
+                Set.of("group:group1:read:applications"), user, "read:applications"));
+        Assert.assertTrue(PermissionKeyUtils.hasPermission(
+                Set.of("group:group1:read:applications", "group:group2:read:applications"), user, "read:applications"));
+    }
+}
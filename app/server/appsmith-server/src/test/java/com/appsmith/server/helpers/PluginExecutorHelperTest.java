@@ -0,0 +1,84 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.domains.Plugin;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.pf4j.PluginManager;
+import org.pf4j.PluginState;
+import org.pf4j.PluginStateEvent;
+import org.pf4j.PluginStateListener;
+import org.pf4j.PluginWrapper;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PluginExecutorHelperTest {
+
+    private static final String PACKAGE_NAME = "test-plugin";
+
+    private PluginManager pluginManager;
+
+    private PluginExecutorHelper pluginExecutorHelper;
+
+    private PluginStateListener pluginStateListener;
+
+    @Before
+    public void setUp() {
+        pluginManager = Mockito.mock(PluginManager.class);
+        Mockito.when(pluginManager.getExtensions(PluginExecutor.class, PACKAGE_NAME))
+                .thenAnswer(invocation -> List.of(new MockPluginExecutor()));
+
+        pluginExecutorHelper = new PluginExecutorHelper(pluginManager);
+
+        ArgumentCaptor<PluginStateListener> listenerCaptor = ArgumentCaptor.forClass(PluginStateListener.class);
+        Mockito.verify(pluginManager).addPluginStateListener(listenerCaptor.capture());
+        pluginStateListener = listenerCaptor.getValue();
+    }
+
+    private Mono<Plugin> pluginMono() {
+        Plugin plugin = new Plugin();
+        plugin.setPackageName(PACKAGE_NAME);
+        return Mono.just(plugin);
+    }
+
+    @Test
+    public void getPluginExecutor_repeatedLookups_resolvesExtensionOnce() {
+        PluginExecutor first = pluginExecutorHelper.getPluginExecutor(pluginMono()).block();
+        PluginExecutor second = pluginExecutorHelper.getPluginExecutor(pluginMono()).block();
+
+        assertThat(first).isNotNull();
+        assertThat(second).isSameAs(first);
+        Mockito.verify(pluginManager, Mockito.times(1)).getExtensions(PluginExecutor.class, PACKAGE_NAME);
+    }
+
+    @Test
+    public void getPluginExecutor_afterPluginStateChange_resolvesExtensionAgain() {
+        PluginExecutor first = pluginExecutorHelper.getPluginExecutor(pluginMono()).block();
+
+        PluginWrapper pluginWrapper = Mockito.mock(PluginWrapper.class);
+        Mockito.when(pluginWrapper.getPluginId()).thenReturn(PACKAGE_NAME);
+        Mockito.when(pluginWrapper.getPluginState()).thenReturn(PluginState.STOPPED);
+        pluginStateListener.pluginStateChanged(new PluginStateEvent(pluginManager, pluginWrapper, PluginState.STARTED));
+
+        PluginExecutor second = pluginExecutorHelper.getPluginExecutor(pluginMono()).block();
+
+        assertThat(second).isNotSameAs(first);
+        Mockito.verify(pluginManager, Mockito.times(2)).getExtensions(PluginExecutor.class, PACKAGE_NAME);
+    }
+
+    @Test
+    public void getPluginExecutor_noExtension_throwsError() {
+        Plugin plugin = new Plugin();
+        plugin.setPackageName("missing-plugin");
+
+        StepVerifier.create(pluginExecutorHelper.getPluginExecutor(Mono.just(plugin)))
+                .expectError()
+                .verify();
+    }
+}
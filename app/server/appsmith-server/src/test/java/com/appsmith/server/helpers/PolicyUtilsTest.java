@@ -1,10 +1,12 @@
 package com.appsmith.server.helpers;
 
+import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.repositories.CommentThreadRepository;
+import com.appsmith.server.repositories.DatasourceRepository;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -33,6 +35,9 @@ public class PolicyUtilsTest {
     @Autowired
     private CommentThreadRepository commentThreadRepository;
 
+    @Autowired
+    private DatasourceRepository datasourceRepository;
+
     @Before
     public void cleanUp() {
         commentThreadRepository.deleteAll().block();
@@ -135,4 +140,59 @@ public class PolicyUtilsTest {
                 })
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithUserDetails("api_user")
+    public void updateWithNewPoliciesToDatasourcesByOrgId_AddAndRemovePermissions_OnlyPoliciesUpdated() {
+        String testOrgId = "policy-utils-test-org-id";
+        String newUserName = "new_test_user";
+
+        Datasource datasource = new Datasource();
+        datasource.setName("Policy utils test datasource");
+        datasource.setOrganizationId(testOrgId);
+        datasource.setPolicies(new HashSet<>(policyUtils.generatePolicyFromPermission(
+                Set.of(AclPermission.EXECUTE_DATASOURCES), "api_user"
+        ).values()));
+        Datasource savedDatasource = datasourceRepository.save(datasource).block();
+
+        // The new user gets execute permission, which the datasource has a policy for already, and manage permission,
+        // which it doesn't have a policy for yet.
+        Map<String, Policy> datasourcePoliciesForNewUser = policyUtils.generatePolicyFromPermission(
+                Set.of(AclPermission.EXECUTE_DATASOURCES, AclPermission.MANAGE_DATASOURCES), newUserName
+        );
+
+        Mono<Datasource> addedDatasourceMono = policyUtils
+                .updateWithNewPoliciesToDatasourcesByOrgId(testOrgId, datasourcePoliciesForNewUser, true)
+                .collectList()
+                .then(datasourceRepository.findById(savedDatasource.getId()));
+
+        StepVerifier.create(addedDatasourceMono)
+                .assertNext(datasource1 -> {
+                    Set<Policy> policies = datasource1.getPolicies();
+                    assertThat(datasource1.getName()).isEqualTo("Policy utils test datasource");
+                    assertThat(policyUtils.isPermissionPresentForUser(policies, AclPermission.EXECUTE_DATASOURCES.getValue(), "api_user")).isTrue();
+                    assertThat(policyUtils.isPermissionPresentForUser(policies, AclPermission.MANAGE_DATASOURCES.getValue(), "api_user")).isFalse();
+                    for (String permission : datasourcePoliciesForNewUser.keySet()) {
+                        assertThat(policyUtils.isPermissionPresentForUser(policies, permission, newUserName)).isTrue();
+                    }
+                    // There is still a single policy per permission
+                    assertThat(policies.stream().map(Policy::getPermission).distinct().count()).isEqualTo(policies.size());
+                })
+                .verifyComplete();
+
+        Mono<Datasource> removedDatasourceMono = policyUtils
+                .updateWithNewPoliciesToDatasourcesByOrgId(testOrgId, datasourcePoliciesForNewUser, false)
+                .collectList()
+                .then(datasourceRepository.findById(savedDatasource.getId()));
+
+        StepVerifier.create(removedDatasourceMono)
+                .assertNext(datasource1 -> {
+                    Set<Policy> policies = datasource1.getPolicies();
+                    assertThat(policyUtils.isPermissionPresentForUser(policies, AclPermission.EXECUTE_DATASOURCES.getValue(), "api_user")).isTrue();
+                    for (String permission : datasourcePoliciesForNewUser.keySet()) {
+                        assertThat(policyUtils.isPermissionPresentForUser(policies, permission, newUserName)).isFalse();
+                    }
+                })
+                .verifyComplete();
+    }
+}
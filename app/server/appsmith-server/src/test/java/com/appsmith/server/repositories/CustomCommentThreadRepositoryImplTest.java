@@ -14,6 +14,7 @@ import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.junit4.SpringRunner;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
 
 import java.util.HashSet;
 import java.util.List;
@@ -75,6 +76,31 @@ public class CustomCommentThreadRepositoryImplTest {
         }).verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void removeSubscriber_WhenThreadsNotReadable_OnlyReadableOnesUpdated() {
+        CommentThread readableThread = createThreadWithPolicies("api_user");
+        readableThread.setSubscribers(Set.of("a", "b"));
+
+        CommentThread unreadableThread = createThreadWithPolicies("api_user2");
+        unreadableThread.setSubscribers(Set.of("a", "b"));
+
+        Mono<Tuple2<CommentThread, CommentThread>> threadsMono = commentThreadRepository
+                .saveAll(List.of(readableThread, unreadableThread))
+                .map(CommentThread::getId)
+                .collectList()
+                .flatMap(threadIds -> commentThreadRepository.removeSubscriber(threadIds, "a")
+                        .then(Mono.zip(
+                                commentThreadRepository.findById(threadIds.get(0)),
+                                commentThreadRepository.findById(threadIds.get(1))
+                        )));
+
+        StepVerifier.create(threadsMono).assertNext(tuple -> {
+            assertThat(tuple.getT1().getSubscribers()).containsExactly("b");
+            assertThat(tuple.getT2().getSubscribers()).containsExactlyInAnyOrder("a", "b");
+        }).verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void findPrivateThread_WhenNoneExists_ReturnsEmpty() {
@@ -60,6 +60,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit4.SpringRunner;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -778,6 +779,59 @@ public class ActionServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void publish_WhenActionDeletedInEditMode_DeletesItAndPublishesTheRest() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        ActionDTO action = new ActionDTO();
+        action.setName("actionPublishedTwice");
+        action.setPageId(testPage.getId());
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.GET);
+        actionConfiguration.setBody("first body");
+        action.setActionConfiguration(actionConfiguration);
+        action.setDatasource(datasource);
+
+        ActionDTO action1 = new ActionDTO();
+        action1.setName("actionDeletedAfterPublish");
+        action1.setPageId(testPage.getId());
+        ActionConfiguration actionConfiguration1 = new ActionConfiguration();
+        actionConfiguration1.setHttpMethod(HttpMethod.GET);
+        action1.setActionConfiguration(actionConfiguration1);
+        action1.setDatasource(datasource);
+
+        ActionDTO createdAction = layoutActionService.createSingleAction(action).block();
+        ActionDTO createdAction1 = layoutActionService.createSingleAction(action1).block();
+        applicationPageService.publish(testPage.getApplicationId(), true).block();
+
+        // Edit the first action and delete the second one in edit mode, then publish again
+        ActionDTO updatedAction = new ActionDTO();
+        ActionConfiguration updatedActionConfiguration = new ActionConfiguration();
+        updatedActionConfiguration.setHttpMethod(HttpMethod.GET);
+        updatedActionConfiguration.setBody("second body");
+        updatedAction.setActionConfiguration(updatedActionConfiguration);
+
+        Mono<Tuple2<NewAction, Boolean>> actionsMono = layoutActionService.updateSingleAction(createdAction.getId(), updatedAction)
+                .then(layoutActionService.deleteUnpublishedAction(createdAction1.getId()))
+                .then(applicationPageService.publish(testPage.getApplicationId(), true))
+                .then(Mono.zip(
+                        newActionService.findById(createdAction.getId(), READ_ACTIONS),
+                        newActionService.findById(createdAction1.getId(), READ_ACTIONS).hasElement()
+                ));
+
+        StepVerifier
+                .create(actionsMono)
+                .assertNext(tuple -> {
+                    NewAction publishedAction = tuple.getT1();
+                    assertThat(publishedAction.getPublishedAction().getActionConfiguration().getBody()).isEqualTo("second body");
+                    assertThat(publishedAction.getPublishedAction().getName()).isEqualTo("actionPublishedTwice");
+
+                    assertThat(tuple.getT2()).isFalse();
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void checkRecoveryFromStaleConnections() {
@@ -817,6 +871,62 @@ public class ActionServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testBatchActionExecute() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
+        Mockito.when(pluginExecutor.getHintMessages(Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.zip(Mono.just(new HashSet<>()), Mono.just(new HashSet<>())));
+
+        ActionExecutionResult mockResult = new ActionExecutionResult();
+        mockResult.setIsExecutionSuccess(true);
+        mockResult.setBody("response-body");
+        mockResult.setStatusCode("200");
+
+        List<ExecuteActionDTO> executeActionDTOs = new ArrayList<>();
+        Set<String> actionIds = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            ActionDTO action = new ActionDTO();
+            ActionConfiguration actionConfiguration = new ActionConfiguration();
+            actionConfiguration.setHttpMethod(HttpMethod.GET);
+            action.setActionConfiguration(actionConfiguration);
+            action.setPageId(testPage.getId());
+            action.setName("testBatchActionExecute" + i);
+            action.setDatasource(datasource);
+            ActionDTO createdAction = layoutActionService.createSingleAction(action).block();
+
+            ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+            executeActionDTO.setActionId(createdAction.getId());
+            executeActionDTO.setViewMode(false);
+            executeActionDTOs.add(executeActionDTO);
+            actionIds.add(createdAction.getId());
+        }
+
+        // An action that doesn't exist must fail on its own, without failing the rest of the batch
+        ExecuteActionDTO missingActionDTO = new ExecuteActionDTO();
+        missingActionDTO.setActionId("missing-action-id");
+        missingActionDTO.setViewMode(false);
+        executeActionDTOs.add(missingActionDTO);
+
+        Mockito.when(pluginExecutor.executeParameterized(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(Mono.just(mockResult));
+        Mockito.when(pluginExecutor.datasourceCreate(Mockito.any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(newActionService.executeActions(executeActionDTOs).collectList())
+                .assertNext(results -> {
+                    assertThat(results).hasSize(4);
+                    results.forEach(batchResult -> {
+                        if (actionIds.contains(batchResult.getActionId())) {
+                            assertThat(batchResult.getResult().getIsExecutionSuccess()).isTrue();
+                            assertThat(batchResult.getResult().getBody()).isEqualTo("response-body");
+                        } else {
+                            assertThat(batchResult.getActionId()).isEqualTo("missing-action-id");
+                            assertThat(batchResult.getResult().getIsExecutionSuccess()).isFalse();
+                        }
+                    });
+                })
+                .verifyComplete();
+    }
+
     private void executeAndAssertAction(ExecuteActionDTO executeActionDTO, ActionConfiguration actionConfiguration,
                                         ActionExecutionResult mockResult, List<ParsedDataType> expectedReturnDataTypes) {
 
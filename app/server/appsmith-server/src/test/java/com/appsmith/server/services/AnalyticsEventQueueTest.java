@@ -0,0 +1,126 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.configurations.AnalyticsQueueConfig;
+import com.segment.analytics.Analytics;
+import com.segment.analytics.messages.MessageBuilder;
+import com.segment.analytics.messages.TrackMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class AnalyticsEventQueueTest {
+
+    Analytics analytics;
+
+    ConfigService configService;
+
+    AnalyticsQueueConfig analyticsQueueConfig;
+
+    SimpleMeterRegistry meterRegistry;
+
+    AnalyticsEventQueue analyticsEventQueue;
+
+    @Before
+    public void setUp() {
+        analytics = Mockito.mock(Analytics.class);
+        configService = Mockito.mock(ConfigService.class);
+        Mockito.when(configService.getInstanceId()).thenReturn(Mono.just("test-instance-id"));
+
+        // A small queue whose drainer doesn't wake up on its own during the test
+        analyticsQueueConfig = Mockito.mock(AnalyticsQueueConfig.class);
+        Mockito.when(analyticsQueueConfig.getCapacity()).thenReturn(2);
+        Mockito.when(analyticsQueueConfig.getBatchSize()).thenReturn(10);
+        Mockito.when(analyticsQueueConfig.getFlushIntervalMillis()).thenReturn(60_000L);
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @After
+    public void tearDown() {
+        if (analyticsEventQueue != null) {
+            analyticsEventQueue.stop();
+        }
+    }
+
+    private AnalyticsEventQueue createQueue(AnalyticsQueueConfig.OverflowPolicy overflowPolicy) {
+        Mockito.when(analyticsQueueConfig.getOverflowPolicy()).thenReturn(overflowPolicy);
+        analyticsEventQueue = new AnalyticsEventQueue(analytics, configService, analyticsQueueConfig, meterRegistry);
+        analyticsEventQueue.start();
+        return analyticsEventQueue;
+    }
+
+    private static MessageBuilder trackMessage(String event, String instanceId) {
+        return TrackMessage.builder(event).userId("user").properties(Map.of("instanceId", instanceId));
+    }
+
+    private List<String> stopAndGetSentEvents() {
+        analyticsEventQueue.stop();
+
+        ArgumentCaptor<MessageBuilder> captor = ArgumentCaptor.forClass(MessageBuilder.class);
+        Mockito.verify(analytics, Mockito.atLeast(0)).enqueue(captor.capture());
+        return captor.getAllValues().stream()
+                .map(messageBuilder -> {
+                    final TrackMessage message = (TrackMessage) messageBuilder.build();
+                    Assert.assertEquals("test-instance-id", message.properties().get("instanceId"));
+                    return message.event();
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testEventsAreSentInOrderWithInstanceId() {
+        createQueue(AnalyticsQueueConfig.OverflowPolicy.DROP_NEWEST);
+
+        Assert.assertTrue(analyticsEventQueue.offer(instanceId -> trackMessage("first", instanceId)));
+        Assert.assertTrue(analyticsEventQueue.offer(instanceId -> trackMessage("second", instanceId)));
+
+        Assert.assertEquals(List.of("first", "second"), stopAndGetSentEvents());
+        Assert.assertEquals(0, analyticsEventQueue.size());
+        Mockito.verify(analytics).flush();
+        Mockito.verify(configService, Mockito.times(1)).getInstanceId();
+    }
+
+    @Test
+    public void testNewestEventIsDroppedWhenQueueIsFull() {
+        createQueue(AnalyticsQueueConfig.OverflowPolicy.DROP_NEWEST);
+
+        Assert.assertTrue(analyticsEventQueue.offer(instanceId -> trackMessage("first", instanceId)));
+        Assert.assertTrue(analyticsEventQueue.offer(instanceId -> trackMessage("second", instanceId)));
+        Assert.assertFalse(analyticsEventQueue.offer(instanceId -> trackMessage("third", instanceId)));
+        Assert.assertEquals(2, analyticsEventQueue.size());
+
+        Assert.assertEquals(List.of("first", "second"), stopAndGetSentEvents());
+        Assert.assertEquals(1.0, meterRegistry.counter("appsmith.analytics.events", "result", "dropped").count(), 0);
+    }
+
+    @Test
+    public void testOldestEventIsDroppedWhenQueueIsFull() {
+        createQueue(AnalyticsQueueConfig.OverflowPolicy.DROP_OLDEST);
+
+        Assert.assertTrue(analyticsEventQueue.offer(instanceId -> trackMessage("first", instanceId)));
+        Assert.assertTrue(analyticsEventQueue.offer(instanceId -> trackMessage("second", instanceId)));
+        Assert.assertTrue(analyticsEventQueue.offer(instanceId -> trackMessage("third", instanceId)));
+        Assert.assertEquals(2, analyticsEventQueue.size());
+
+        Assert.assertEquals(List.of("second", "third"), stopAndGetSentEvents());
+        Assert.assertEquals(1.0, meterRegistry.counter("appsmith.analytics.events", "result", "dropped").count(), 0);
+    }
+
+    @Test
+    public void testEventsAreDroppedWhenAnalyticsIsDisabled() {
+        analyticsEventQueue = new AnalyticsEventQueue(null, configService, analyticsQueueConfig, meterRegistry);
+        analyticsEventQueue.start();
+
+        Assert.assertFalse(analyticsEventQueue.offer(instanceId -> trackMessage("first", instanceId)));
+        Assert.assertEquals(0, analyticsEventQueue.size());
+    }
+}
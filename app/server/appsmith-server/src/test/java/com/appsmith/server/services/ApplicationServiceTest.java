@@ -43,6 +43,10 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
@@ -130,6 +134,9 @@ public class ApplicationServiceTest {
     @Autowired
     PolicyUtils policyUtils;
 
+    @Autowired
+    ReactiveMongoOperations mongoOperations;
+
     @MockBean
     ReleaseNotesService releaseNotesService;
 
@@ -809,6 +816,39 @@ public class ApplicationServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void publishApplication_setsMissingGitSyncIdOfPages() {
+        Application testApplication = new Application();
+        testApplication.setName("publishApplication_setsMissingGitSyncIdOfPages");
+        Application application = applicationPageService.createApplication(testApplication, orgId).block();
+        NewPage defaultPage = newPageRepository.findById(application.getPages().get(0).getId()).block();
+        assertThat(defaultPage.getGitSyncId()).isNotNull();
+
+        PageDTO page = new PageDTO();
+        page.setName("Page without git sync id");
+        page.setApplicationId(application.getId());
+        PageDTO pageWithoutGitSyncId = applicationPageService.createPage(page).block();
+        // Like a page created before git sync ids existed
+        mongoOperations.updateFirst(
+                Query.query(Criteria.where(FieldName.ID).is(pageWithoutGitSyncId.getId())),
+                new Update().unset("gitSyncId"),
+                NewPage.class
+        ).block();
+
+        applicationPageService.publish(application.getId(), true).block();
+
+        StepVerifier
+                .create(newPageRepository.findByApplicationId(application.getId()).collectMap(NewPage::getId))
+                .assertNext(pages -> {
+                    assertThat(pages.get(defaultPage.getId()).getGitSyncId()).isEqualTo(defaultPage.getGitSyncId());
+                    assertThat(pages.get(pageWithoutGitSyncId.getId()).getGitSyncId()).startsWith(application.getId() + "_");
+                    assertThat(pages.get(pageWithoutGitSyncId.getId()).getPublishedPage().getName())
+                            .isEqualTo("Page without git sync id");
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void deleteUnpublishedPageFromApplication() {
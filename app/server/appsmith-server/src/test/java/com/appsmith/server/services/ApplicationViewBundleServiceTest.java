@@ -0,0 +1,257 @@
+package com.appsmith.server.services;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Organization;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.ApplicationViewBundleDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PolicyUtils;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.util.Map;
+import java.util.Set;
+
+import static com.appsmith.server.acl.AclPermission.READ_APPLICATIONS;
+import static com.appsmith.server.services.ApplicationViewBundleServiceImpl.BUNDLE_KEY_PREFIX;
+import static com.appsmith.server.services.ApplicationViewBundleServiceImpl.ETAG_KEY_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@DirtiesContext
+public class ApplicationViewBundleServiceTest {
+
+    @Autowired
+    ApplicationViewBundleService applicationViewBundleService;
+
+    @Autowired
+    ApplicationPageService applicationPageService;
+
+    @Autowired
+    OrganizationService organizationService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ApplicationRepository applicationRepository;
+
+    @Autowired
+    PolicyUtils policyUtils;
+
+    @Autowired
+    ReactiveRedisTemplate<String, String> reactiveTemplate;
+
+    private Mono<Application> createApplication(String name) {
+        Organization organization = new Organization();
+        organization.setName(name + " organization");
+
+        Application application = new Application();
+        application.setName(name);
+
+        return organizationService.create(organization)
+                .flatMap(organization1 -> applicationPageService.createApplication(application, organization1.getId()));
+    }
+
+    private Context getSecurityContext(String email) {
+        User user = userRepository.findByEmail(email).block();
+        return ReactiveSecurityContextHolder.withAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities())
+        );
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void publishBuildsViewBundle() {
+        Application application = createApplication("publishBuildsViewBundle").block();
+
+        applicationPageService.publish(application.getId(), true).block();
+
+        String storedEtag = reactiveTemplate.opsForValue().get(ETAG_KEY_PREFIX + application.getId()).block();
+        assertThat(storedEtag).isNotBlank();
+        assertThat(reactiveTemplate.hasKey(BUNDLE_KEY_PREFIX + application.getId() + ":" + storedEtag).block()).isTrue();
+
+        // Read twice, once from Redis and once from the cache of this node
+        Mono<ApplicationViewBundleDTO> viewBundleMono = applicationViewBundleService.getViewBundle(application.getId())
+                .then(applicationViewBundleService.getViewBundle(application.getId()));
+
+        StepVerifier
+                .create(viewBundleMono)
+                .assertNext(viewBundle -> {
+                    assertThat(viewBundle.getEtag()).isEqualTo(storedEtag);
+                    assertThat(viewBundle.getApplicationId()).isEqualTo(application.getId());
+                    assertThat(viewBundle.getApplicationPages().getPages()).hasSize(1);
+                    assertThat(viewBundle.getPages()).hasSize(1);
+                    assertThat(viewBundle.getPages().get(0).getUserPermissions()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void republishChangesEtag() {
+        Application application = createApplication("republishChangesEtag").block();
+
+        ApplicationViewBundleDTO firstViewBundle = applicationPageService.publish(application.getId(), true)
+                .then(applicationViewBundleService.getViewBundle(application.getId()))
+                .block();
+
+        PageDTO page = new PageDTO();
+        page.setName("Second page");
+        page.setApplicationId(application.getId());
+
+        Mono<ApplicationViewBundleDTO> viewBundleMono = applicationPageService.createPage(page)
+                .then(applicationPageService.publish(application.getId(), true))
+                .then(applicationViewBundleService.getViewBundle(application.getId()));
+
+        StepVerifier
+                .create(viewBundleMono)
+                .assertNext(viewBundle -> {
+                    assertThat(viewBundle.getEtag()).isNotEqualTo(firstViewBundle.getEtag());
+                    assertThat(viewBundle.getPages()).hasSize(2);
+                })
+                .verifyComplete();
+
+        // The bundle of the previous publish is dropped
+        assertThat(reactiveTemplate.hasKey(BUNDLE_KEY_PREFIX + application.getId() + ":" + firstViewBundle.getEtag()).block())
+                .isFalse();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void viewBundleIsBuiltWhenApplicationHasNone() {
+        Application application = createApplication("viewBundleIsBuiltWhenApplicationHasNone").block();
+
+        // Like an application published before view bundles existed
+        applicationPageService.publish(application.getId(), true)
+                .then(reactiveTemplate.delete(ETAG_KEY_PREFIX + application.getId()))
+                .block();
+
+        ApplicationViewBundleDTO viewBundle = applicationViewBundleService.getViewBundle(application.getId()).block();
+
+        assertThat(viewBundle.getPages()).hasSize(1);
+        assertThat(reactiveTemplate.opsForValue().get(ETAG_KEY_PREFIX + application.getId()).block())
+                .isEqualTo(viewBundle.getEtag());
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void viewBundleBuiltOnViewDoesNotReplaceBundleStoredMeanwhile() {
+        Application application = createApplication("viewBundleBuiltOnViewDoesNotReplaceBundleStoredMeanwhile").block();
+
+        // Like a publish which stored its ETag after the bundle being built on view had been found missing
+        applicationPageService.publish(application.getId(), true)
+                .then(reactiveTemplate.opsForValue().set(ETAG_KEY_PREFIX + application.getId(), "etagOfLaterPublish"))
+                .block();
+
+        StepVerifier
+                .create(applicationViewBundleService.getViewBundle(application.getId()))
+                .assertNext(viewBundle -> assertThat(viewBundle.getPages()).hasSize(1))
+                .verifyComplete();
+
+        assertThat(reactiveTemplate.opsForValue().get(ETAG_KEY_PREFIX + application.getId()).block())
+                .isEqualTo("etagOfLaterPublish");
+    }
+
+    /**
+     * Runs without `@WithUserDetails`, so that each call is made as the user whose security context is attached to it.
+     */
+    @Test
+    public void viewBundleNotFoundWithoutReadPermission() {
+        final Context apiUserContext = getSecurityContext("api_user");
+        final Context otherUserContext = getSecurityContext("usertest@usertest.com");
+
+        final String applicationId = createApplication("viewBundleNotFoundWithoutReadPermission")
+                .flatMap(application -> applicationPageService.publish(application.getId(), true))
+                .subscriberContext(apiUserContext)
+                .block()
+                .getId();
+
+        final Mono<ApplicationViewBundleDTO> otherUserViewBundleMono = applicationViewBundleService.getViewBundle(applicationId)
+                .subscriberContext(otherUserContext);
+
+        // Bundle stored in Redis, but not cached on this node
+        StepVerifier
+                .create(otherUserViewBundleMono)
+                .expectErrorMatches(throwable -> isNoResourceFound(throwable, applicationId))
+                .verify();
+
+        // Bundle cached on this node
+        StepVerifier
+                .create(applicationViewBundleService.getViewBundle(applicationId).subscriberContext(apiUserContext))
+                .assertNext(viewBundle -> assertThat(viewBundle.getApplicationId()).isEqualTo(applicationId))
+                .verifyComplete();
+        StepVerifier
+                .create(otherUserViewBundleMono)
+                .expectErrorMatches(throwable -> isNoResourceFound(throwable, applicationId))
+                .verify();
+
+        // No bundle stored, so it's built on view
+        reactiveTemplate.delete(ETAG_KEY_PREFIX + applicationId).block();
+        StepVerifier
+                .create(otherUserViewBundleMono)
+                .expectErrorMatches(throwable -> isNoResourceFound(throwable, applicationId))
+                .verify();
+        assertThat(reactiveTemplate.hasKey(ETAG_KEY_PREFIX + applicationId).block()).isFalse();
+    }
+
+    /**
+     * Runs without `@WithUserDetails`, so that each call is made as the user whose security context is attached to it.
+     */
+    @Test
+    public void viewBundleFollowsPermissionChangesRightAway() {
+        final Context apiUserContext = getSecurityContext("api_user");
+        final Context otherUserContext = getSecurityContext("usertest@usertest.com");
+
+        final String applicationId = createApplication("viewBundleFollowsPermissionChangesRightAway")
+                .flatMap(application -> applicationPageService.publish(application.getId(), true))
+                .flatMap(application -> applicationViewBundleService.getViewBundle(application.getId()))
+                .subscriberContext(apiUserContext)
+                .block()
+                .getApplicationId();
+
+        final Mono<ApplicationViewBundleDTO> otherUserViewBundleMono = applicationViewBundleService.getViewBundle(applicationId)
+                .subscriberContext(otherUserContext);
+        final Map<String, Policy> readPolicyMap = policyUtils
+                .generatePolicyFromPermission(Set.of(READ_APPLICATIONS), "usertest@usertest.com");
+
+        // The bundle is cached on this node by now, and is served as soon as the user may read the application
+        applicationRepository.updatePolicies(Set.of(applicationId), readPolicyMap, true).block();
+        StepVerifier
+                .create(otherUserViewBundleMono)
+                .assertNext(viewBundle -> assertThat(viewBundle.getApplicationId()).isEqualTo(applicationId))
+                .verifyComplete();
+
+        // And no longer as soon as the user may not
+        applicationRepository.updatePolicies(Set.of(applicationId), readPolicyMap, false).block();
+        StepVerifier
+                .create(otherUserViewBundleMono)
+                .expectErrorMatches(throwable -> isNoResourceFound(throwable, applicationId))
+                .verify();
+    }
+
+    private static boolean isNoResourceFound(Throwable throwable, String applicationId) {
+        return throwable instanceof AppsmithException
+                && throwable.getMessage().equals(AppsmithError.ACL_NO_RESOURCE_FOUND.getMessage(FieldName.APPLICATION, applicationId));
+    }
+}
@@ -1,15 +1,21 @@
 package com.appsmith.server.services;
 
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.services.EncryptionService;
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.external.models.Datasource;
+import com.appsmith.server.domains.DatasourceContext;
 import com.appsmith.server.domains.Organization;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.helpers.MockPluginExecutor;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.OrganizationRepository;
+import com.google.common.base.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Assert;
 import org.junit.Before;
@@ -21,9 +27,21 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @RunWith(SpringRunner.class)
 @SpringBootTest
 @Slf4j
@@ -41,6 +59,9 @@ public class DatasourceContextServiceTest {
     @Autowired
     DatasourceService datasourceService;
 
+    @Autowired
+    DatasourceContextService datasourceContextService;
+
     @MockBean
     PluginExecutorHelper pluginExecutorHelper;
 
@@ -132,4 +153,274 @@ public class DatasourceContextServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void concurrentContextRequestsShareSingleConnection() {
+        final AtomicInteger createCount = new AtomicInteger();
+        final AtomicInteger destroyCount = new AtomicInteger();
+        MockPluginExecutor pluginExecutor = new MockPluginExecutor() {
+            @Override
+            public Mono<Object> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+                return Mono.fromCallable(() -> (Object) createCount.incrementAndGet())
+                        .delayElement(Duration.ofMillis(200));
+            }
+
+            @Override
+            public void datasourceDestroy(Object connection) {
+                destroyCount.incrementAndGet();
+            }
+        };
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
+
+        Mono<Plugin> pluginMono = pluginService.findByName("Installed Plugin Name");
+        Datasource datasource = new Datasource();
+        datasource.setName("test datasource name for concurrent datasource context creation");
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("http://test.com");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+        datasource.setOrganizationId(orgId);
+
+        final Datasource createdDatasource = pluginMono
+                .map(plugin -> {
+                    datasource.setPluginId(plugin.getId());
+                    return datasource;
+                })
+                .flatMap(datasourceService::create)
+                .block();
+
+        assert createdDatasource != null;
+        // Only the id is needed to look up the context, and a missing `updatedAt` keeps the context from being stale.
+        Datasource datasourceReference = new Datasource();
+        datasourceReference.setId(createdDatasource.getId());
+
+        Mono<List<DatasourceContext>> contextsMono = Flux.range(0, 10)
+                .flatMap(i -> datasourceContextService.getDatasourceContext(datasourceReference))
+                .collectList();
+
+        StepVerifier
+                .create(contextsMono)
+                .assertNext(contexts -> {
+                    Assert.assertEquals(10, contexts.size());
+                    Set<Object> connections = contexts.stream()
+                            .map(DatasourceContext::getConnection)
+                            .collect(Collectors.toSet());
+                    Assert.assertEquals(1, connections.size());
+                    Assert.assertEquals(1, createCount.get());
+                    Assert.assertEquals(0, destroyCount.get());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void concurrentStaleRetriesDestroyOnlyTheStaleConnection() {
+        final AtomicInteger createCount = new AtomicInteger();
+        final Set<Object> destroyedConnections = ConcurrentHashMap.newKeySet();
+        MockPluginExecutor pluginExecutor = new MockPluginExecutor() {
+            @Override
+            public Mono<Object> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+                return Mono.fromCallable(() -> (Object) createCount.incrementAndGet());
+            }
+
+            @Override
+            public void datasourceDestroy(Object connection) {
+                destroyedConnections.add(connection);
+            }
+        };
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
+
+        final Datasource createdDatasource = createDatasource("test datasource for concurrent stale connection retries");
+        Datasource datasourceReference = new Datasource();
+        datasourceReference.setId(createdDatasource.getId());
+
+        // Both tasks run on the first connection and find it stale. Their retries run on the second one.
+        Function<DatasourceContext, Mono<Object>> task = datasourceContext -> {
+            if (Integer.valueOf(1).equals(datasourceContext.getConnection())) {
+                return Mono.delay(Duration.ofMillis(100)).then(Mono.error(new StaleConnectionException()));
+            }
+            return Mono.just(datasourceContext.getConnection());
+        };
+
+        Mono<List<Object>> connectionsMono = Flux.range(0, 2)
+                .flatMap(i -> datasourceContextService.retryOnce(datasourceReference, task))
+                .collectList();
+
+        StepVerifier
+                .create(connectionsMono)
+                .assertNext(connections -> {
+                    Assert.assertEquals(List.of(2, 2), connections);
+                    Assert.assertEquals(2, createCount.get());
+                    Assert.assertEquals(Set.of(1), destroyedConnections);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void contextsOverConnectionBudgetAreEvictedAndDestroyed() throws InterruptedException {
+        final Set<Object> destroyedConnections = ConcurrentHashMap.newKeySet();
+        final CountDownLatch destroyLatch = new CountDownLatch(1);
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any()))
+                .thenReturn(Mono.just(new PooledMockPluginExecutor(destroyedConnections, destroyLatch, 5)));
+
+        // Each context holds a pool of 5 connections, so only two of them fit in a budget of 10 connections.
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final DatasourceContextServiceImpl boundedContextService = createDatasourceContextService(10, meterRegistry, Ticker.systemTicker());
+
+        final Datasource datasource1 = createDatasource("test datasource 1 for datasource context budget");
+        final Datasource datasource2 = createDatasource("test datasource 2 for datasource context budget");
+        final Datasource datasource3 = createDatasource("test datasource 3 for datasource context budget");
+
+        final DatasourceContext context1 = boundedContextService.getDatasourceContext(datasource1).block();
+        boundedContextService.getDatasourceContext(datasource2).block();
+        boundedContextService.getDatasourceContext(datasource3).block();
+
+        Assert.assertTrue(destroyLatch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(Set.of(context1.getConnection()), destroyedConnections);
+        Assert.assertEquals(1, meterRegistry.get("cache.evictions").tag("cache", "datasourceContexts").functionCounter().count(), 0);
+        Assert.assertEquals(2, meterRegistry.get("cache.size").tag("cache", "datasourceContexts").gauge().value(), 0);
+        Assert.assertEquals(10, meterRegistry.get(DatasourceContextServiceImpl.DATASOURCE_CONTEXT_CONNECTIONS_METRIC)
+                .tag("cache", "datasourceContexts").gauge().value(), 0);
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void contextsLargerThanAQuarterOfTheBudgetAreKeptWithinBudget() {
+        final Set<Object> destroyedConnections = ConcurrentHashMap.newKeySet();
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any()))
+                .thenReturn(Mono.just(new PooledMockPluginExecutor(destroyedConnections, new CountDownLatch(1), 30)));
+
+        // A budget this large would be split into four segments of 25 connections each by default, none of which a
+        // pool of 30 connections fits in.
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final DatasourceContextServiceImpl boundedContextService = createDatasourceContextService(100, meterRegistry, Ticker.systemTicker());
+
+        for (int i = 1; i <= 3; i++) {
+            final Datasource datasource = createDatasource("test datasource " + i + " for large datasource context pools");
+            boundedContextService.getDatasourceContext(datasource).block();
+        }
+
+        Assert.assertTrue(destroyedConnections.isEmpty());
+        Assert.assertEquals(0, meterRegistry.get("cache.evictions").tag("cache", "datasourceContexts").functionCounter().count(), 0);
+        Assert.assertEquals(3, meterRegistry.get("cache.size").tag("cache", "datasourceContexts").gauge().value(), 0);
+        Assert.assertEquals(90, meterRegistry.get(DatasourceContextServiceImpl.DATASOURCE_CONTEXT_CONNECTIONS_METRIC)
+                .tag("cache", "datasourceContexts").gauge().value(), 0);
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void contextLargerThanTheBudgetIsCachedAsTheWholeBudget() throws InterruptedException {
+        final Set<Object> destroyedConnections = ConcurrentHashMap.newKeySet();
+        final CountDownLatch destroyLatch = new CountDownLatch(1);
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any()))
+                .thenReturn(Mono.just(new PooledMockPluginExecutor(destroyedConnections, destroyLatch, 15)));
+
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final DatasourceContextServiceImpl boundedContextService = createDatasourceContextService(10, meterRegistry, Ticker.systemTicker());
+
+        final Datasource datasource1 = createDatasource("test datasource 1 for datasource context over budget");
+        final Datasource datasource2 = createDatasource("test datasource 2 for datasource context over budget");
+
+        final DatasourceContext context1 = boundedContextService.getDatasourceContext(datasource1).block();
+        // Not evicted as soon as it's cached, so it's reused
+        Assert.assertSame(context1, boundedContextService.getDatasourceContext(datasource1).block());
+        Assert.assertTrue(destroyedConnections.isEmpty());
+
+        // Until another context takes its place
+        final DatasourceContext context2 = boundedContextService.getDatasourceContext(datasource2).block();
+        Assert.assertTrue(destroyLatch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(Set.of(context1.getConnection()), destroyedConnections);
+        Assert.assertSame(context2, boundedContextService.getDatasourceContext(datasource2).block());
+        Assert.assertEquals(1, meterRegistry.get("cache.size").tag("cache", "datasourceContexts").gauge().value(), 0);
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void idleContextsAreEvictedAndDestroyed() throws InterruptedException {
+        final Set<Object> destroyedConnections = ConcurrentHashMap.newKeySet();
+        final CountDownLatch destroyLatch = new CountDownLatch(1);
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any()))
+                .thenReturn(Mono.just(new PooledMockPluginExecutor(destroyedConnections, destroyLatch, 5)));
+
+        final AtomicLong nanos = new AtomicLong();
+        final Ticker ticker = new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        };
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final DatasourceContextServiceImpl boundedContextService = createDatasourceContextService(1000, meterRegistry, ticker);
+
+        final Datasource datasource = createDatasource("test datasource for idle datasource context eviction");
+        final DatasourceContext context = boundedContextService.getDatasourceContext(datasource).block();
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(31));
+        boundedContextService.evictIdleDatasourceContexts();
+
+        Assert.assertTrue(destroyLatch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(Set.of(context.getConnection()), destroyedConnections);
+        Assert.assertEquals(1, meterRegistry.get("cache.evictions").tag("cache", "datasourceContexts").functionCounter().count(), 0);
+        Assert.assertEquals(0, meterRegistry.get(DatasourceContextServiceImpl.DATASOURCE_CONTEXT_CONNECTIONS_METRIC)
+                .tag("cache", "datasourceContexts").gauge().value(), 0);
+    }
+
+    private DatasourceContextServiceImpl createDatasourceContextService(long maxConnections,
+                                                                        MeterRegistry meterRegistry,
+                                                                        Ticker ticker) {
+        DatasourceContextConfig datasourceContextConfig = Mockito.mock(DatasourceContextConfig.class);
+        Mockito.when(datasourceContextConfig.getMaxConnections()).thenReturn(maxConnections);
+        Mockito.when(datasourceContextConfig.getIdleTimeoutMinutes()).thenReturn(30L);
+        return new DatasourceContextServiceImpl(datasourceService, pluginService, pluginExecutorHelper,
+                encryptionService, datasourceContextConfig, meterRegistry, ticker);
+    }
+
+    private Datasource createDatasource(String name) {
+        Datasource datasource = new Datasource();
+        datasource.setName(name);
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("http://test.com");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+        datasource.setOrganizationId(orgId);
+
+        return pluginService.findByName("Installed Plugin Name")
+                .map(plugin -> {
+                    datasource.setPluginId(plugin.getId());
+                    return datasource;
+                })
+                .flatMap(datasourceService::create)
+                .block();
+    }
+
+    /**
+     * Creates a new connection object for every context, which counts as a pool of the given number of connections.
+     */
+    private static class PooledMockPluginExecutor extends MockPluginExecutor {
+        private final Set<Object> destroyedConnections;
+        private final CountDownLatch destroyLatch;
+        private final int connectionCount;
+
+        PooledMockPluginExecutor(Set<Object> destroyedConnections, CountDownLatch destroyLatch, int connectionCount) {
+            this.destroyedConnections = destroyedConnections;
+            this.destroyLatch = destroyLatch;
+            this.connectionCount = connectionCount;
+        }
+
+        @Override
+        public Mono<Object> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            return Mono.fromCallable(Object::new);
+        }
+
+        @Override
+        public void datasourceDestroy(Object connection) {
+            destroyedConnections.add(connection);
+            destroyLatch.countDown();
+        }
+
+        @Override
+        public int getConnectionCount(Object connection) {
+            return connectionCount;
+        }
+    }
+
 }
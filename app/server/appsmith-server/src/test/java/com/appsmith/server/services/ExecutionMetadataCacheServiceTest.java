@@ -0,0 +1,177 @@
+package com.appsmith.server.services;
+
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Organization;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.PolicyUtils;
+import com.appsmith.server.repositories.DatasourceRepository;
+import com.appsmith.server.repositories.OrganizationRepository;
+import com.appsmith.server.repositories.PluginRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.junit4.SpringRunner;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+import java.util.Set;
+
+import static com.appsmith.server.acl.AclPermission.EXECUTE_DATASOURCES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class ExecutionMetadataCacheServiceTest {
+
+    @Autowired
+    ExecutionMetadataCacheService executionMetadataCacheService;
+
+    @Autowired
+    PluginService pluginService;
+
+    @Autowired
+    PluginRepository pluginRepository;
+
+    @Autowired
+    DatasourceService datasourceService;
+
+    @Autowired
+    DatasourceRepository datasourceRepository;
+
+    @Autowired
+    OrganizationRepository organizationRepository;
+
+    @Autowired
+    PolicyUtils policyUtils;
+
+    String orgId;
+
+    @Before
+    @WithUserDetails(value = "api_user")
+    public void setup() {
+        Organization testOrg = organizationRepository.findByName("Another Test Organization", AclPermission.READ_ORGANIZATIONS).block();
+        orgId = testOrg.getId();
+    }
+
+    private Datasource createDatasource(String name) {
+        Plugin plugin = pluginService.findByName("Installed Plugin Name").block();
+        Datasource datasource = new Datasource();
+        datasource.setName(name);
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("http://test.com");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+        datasource.setOrganizationId(orgId);
+        datasource.setPluginId(plugin.getId());
+        return datasourceService.create(datasource).block();
+    }
+
+    private boolean isExecutableByAnonymousUser(Datasource datasource) {
+        return policyUtils.isPermissionPresentForUser(
+                datasource.getPolicies(), EXECUTE_DATASOURCES.getValue(), FieldName.ANONYMOUS_USER);
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void findPluginById_servesCopiesUntilEvicted() {
+        Plugin plugin = pluginService.findByName("Installed Plugin Name").block();
+        assert plugin != null;
+        final String originalName = plugin.getName();
+
+        Plugin cachedPlugin = executionMetadataCacheService.findPluginById(plugin.getId()).block();
+        assertThat(cachedPlugin).isNotNull();
+        // Modifying what was handed out must not modify the cached copy
+        cachedPlugin.setName("Modified by the caller");
+
+        // Changes made to the DB without an eviction aren't seen until the entry expires
+        Plugin dbPlugin = pluginRepository.findById(plugin.getId()).block();
+        dbPlugin.setName("Modified in the DB");
+        pluginRepository.save(dbPlugin).block();
+
+        StepVerifier.create(executionMetadataCacheService.findPluginById(plugin.getId()))
+                .assertNext(plugin1 -> assertThat(plugin1.getName()).isEqualTo(originalName))
+                .verifyComplete();
+
+        executionMetadataCacheService.evict(Set.of(plugin.getId())).block();
+
+        StepVerifier.create(executionMetadataCacheService.findPluginById(plugin.getId()))
+                .assertNext(plugin1 -> assertThat(plugin1.getName()).isEqualTo("Modified in the DB"))
+                .verifyComplete();
+
+        dbPlugin.setName(originalName);
+        pluginRepository.save(dbPlugin).block();
+        executionMetadataCacheService.evictLocally(Set.of(plugin.getId()));
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void findDatasourceById_updateThroughService_evictsCachedDatasource() {
+        Datasource datasource = createDatasource("test datasource for execution metadata cache eviction");
+
+        StepVerifier.create(executionMetadataCacheService.findDatasourceById(datasource.getId(), EXECUTE_DATASOURCES))
+                .assertNext(datasource1 -> assertThat(datasource1.getDatasourceConfiguration().getUrl()).isEqualTo("http://test.com"))
+                .verifyComplete();
+
+        Datasource update = new Datasource();
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("http://updated.test.com");
+        update.setDatasourceConfiguration(datasourceConfiguration);
+        datasourceService.update(datasource.getId(), update).block();
+
+        StepVerifier.create(executionMetadataCacheService.findDatasourceById(datasource.getId(), EXECUTE_DATASOURCES))
+                .assertNext(datasource1 -> assertThat(datasource1.getDatasourceConfiguration().getUrl()).isEqualTo("http://updated.test.com"))
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void findDatasourceById_policiesUpdated_evictsCachedDatasource() {
+        Datasource datasource = createDatasource("test datasource for execution metadata cache policy eviction");
+
+        StepVerifier.create(executionMetadataCacheService.findDatasourceById(datasource.getId(), EXECUTE_DATASOURCES))
+                .assertNext(datasource1 -> assertThat(isExecutableByAnonymousUser(datasource1)).isFalse())
+                .verifyComplete();
+
+        // Like making an application public, which gives the anonymous user permission to execute its datasources
+        Map<String, Policy> datasourcePolicyMap = policyUtils
+                .generatePolicyFromPermission(Set.of(EXECUTE_DATASOURCES), FieldName.ANONYMOUS_USER);
+        policyUtils.updateWithNewPoliciesToDatasourcesByDatasourceIds(Set.of(datasource.getId()), datasourcePolicyMap, true)
+                .blockLast();
+
+        StepVerifier.create(executionMetadataCacheService.findDatasourceById(datasource.getId(), EXECUTE_DATASOURCES))
+                .assertNext(datasource1 -> assertThat(isExecutableByAnonymousUser(datasource1)).isTrue())
+                .verifyComplete();
+
+        // Like the permission given to a datasource when a public action is executed with it
+        Datasource savedDatasource = datasourceRepository.findById(datasource.getId()).block();
+        savedDatasource.setName("test datasource for execution metadata cache policy eviction, saved");
+        datasourceService.save(savedDatasource).block();
+
+        StepVerifier.create(executionMetadataCacheService.findDatasourceById(datasource.getId(), EXECUTE_DATASOURCES))
+                .assertNext(datasource1 -> assertThat(datasource1.getName()).endsWith(", saved"))
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "usertest@usertest.com")
+    public void findDatasourceById_userWithoutPermission_returnsEmpty() {
+        Plugin plugin = pluginService.findByName("Installed Plugin Name").block();
+        Datasource datasource = new Datasource();
+        datasource.setName("test datasource for execution metadata cache permissions");
+        datasource.setOrganizationId(orgId);
+        datasource.setPluginId(plugin.getId());
+        // Saved directly without any policies, so that nobody has permission to execute it
+        datasource.setPolicies(Set.of());
+        Datasource savedDatasource = datasourceRepository.save(datasource).block();
+
+        StepVerifier.create(executionMetadataCacheService.findDatasourceById(savedDatasource.getId(), EXECUTE_DATASOURCES))
+                .verifyComplete();
+    }
+
+}
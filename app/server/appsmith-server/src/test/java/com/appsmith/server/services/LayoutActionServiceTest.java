@@ -1203,4 +1203,76 @@ public class LayoutActionServiceTest {
                 .verifyComplete();
 
     }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void updateLayoutFromEditor_withUnchangedBindings_reusesOnPageLoadActionsUntilActionCreated() throws JsonProcessingException {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        ActionDTO action1 = new ActionDTO();
+        action1.setName("firstAction");
+        action1.setPageId(testPage.getId());
+        ActionConfiguration actionConfiguration1 = new ActionConfiguration();
+        actionConfiguration1.setHttpMethod(HttpMethod.GET);
+        action1.setActionConfiguration(actionConfiguration1);
+        action1.setDatasource(datasource);
+
+        // This action is referenced in the DSL, but only gets created after the DSL has been saved.
+        ActionDTO action2 = new ActionDTO();
+        action2.setName("secondAction");
+        action2.setPageId(testPage.getId());
+        ActionConfiguration actionConfiguration2 = new ActionConfiguration();
+        actionConfiguration2.setHttpMethod(HttpMethod.GET);
+        action2.setActionConfiguration(actionConfiguration2);
+        action2.setDatasource(datasource);
+
+        JSONObject parentDsl = new JSONObject(objectMapper.readValue(DEFAULT_PAGE_LAYOUT, new TypeReference<HashMap<String, Object>>() {
+        }));
+
+        ArrayList children = (ArrayList) parentDsl.get("children");
+
+        JSONObject firstWidget = new JSONObject();
+        firstWidget.put("widgetName", "firstWidget");
+        JSONArray temp = new JSONArray();
+        temp.addAll(List.of(new JSONObject(Map.of("key", "testField")), new JSONObject(Map.of("key", "testField2"))));
+        firstWidget.put("dynamicBindingPathList", temp);
+        firstWidget.put("testField", "{{ firstAction.data }}");
+        firstWidget.put("testField2", "{{ secondAction.data }}");
+        firstWidget.put("topRow", 1);
+        children.add(firstWidget);
+
+        parentDsl.put("children", children);
+
+        Layout layout = testPage.getLayouts().get(0);
+        layout.setDsl(parentDsl);
+
+        layoutActionService.createSingleAction(action1).block();
+
+        LayoutDTO firstLayout = layoutActionService.updateLayoutFromEditor(testPage.getId(), layout.getId(), layout).block();
+        assertThat(firstLayout.getLayoutOnLoadActions()).hasSize(1);
+        assertThat(firstLayout.getLayoutOnLoadActions().get(0).iterator().next().getName()).isEqualTo("firstAction");
+        assertThat(firstLayout.getActionUpdates()).hasSize(1);
+
+        // Moving the widget doesn't change any bindings, so the on page load actions stored with the layout are used.
+        firstWidget.put("topRow", 2);
+        LayoutDTO movedLayout = layoutActionService.updateLayoutFromEditor(testPage.getId(), layout.getId(), layout).block();
+        assertThat(movedLayout.getLayoutOnLoadActions()).isEqualTo(firstLayout.getLayoutOnLoadActions());
+        assertThat(movedLayout.getActionUpdates()).isEmpty();
+
+        // Creating an action which the DSL refers to invalidates the stored on page load actions.
+        layoutActionService.createSingleAction(action2).block();
+
+        Mono<LayoutDTO> updateLayoutMono = layoutActionService.updateLayoutFromEditor(testPage.getId(), layout.getId(), layout);
+
+        StepVerifier.create(updateLayoutMono)
+                .assertNext(updatedLayout -> {
+                    assertThat(updatedLayout.getLayoutOnLoadActions()).hasSize(1);
+                    Set<String> onLoadActionNames = updatedLayout.getLayoutOnLoadActions().get(0)
+                            .stream()
+                            .map(DslActionDTO::getName)
+                            .collect(Collectors.toSet());
+                    assertThat(onLoadActionNames).containsExactlyInAnyOrder("firstAction", "secondAction");
+                })
+                .verifyComplete();
+    }
 }
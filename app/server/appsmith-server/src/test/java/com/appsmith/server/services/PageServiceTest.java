@@ -512,6 +512,36 @@ public class PageServiceTest {
                 .verify();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void findByApplicationIdWithoutLayouts_WhenPageHasLayout_ReturnsPageWithoutLayouts() {
+        PageDTO testPage = new PageDTO();
+        testPage.setName("PageServiceTest Layoutless");
+        setupTestApplication();
+        testPage.setApplicationId(application.getId());
+
+        final Layout layout = new Layout();
+        layout.setDsl(new JSONObject(Map.of("text", "{{ query1.data }}")));
+        testPage.setLayouts(List.of(layout));
+
+        Mono<List<PageDTO>> pagesMono = applicationPageService.createPage(testPage)
+                .thenMany(newPageService.findByApplicationIdWithoutLayouts(applicationId, READ_PAGES, false))
+                .collectList();
+
+        StepVerifier
+                .create(pagesMono)
+                .assertNext(pages -> {
+                    PageDTO page = pages.stream()
+                            .filter(pageDTO -> "PageServiceTest Layoutless".equals(pageDTO.getName()))
+                            .findFirst()
+                            .orElseThrow();
+                    assertThat(page.getId()).isNotNull();
+                    assertThat(page.getApplicationId()).isEqualTo(applicationId);
+                    assertThat(page.getLayouts()).isNull();
+                })
+                .verifyComplete();
+    }
+
 
     @After
     public void purgeAllPages() {
@@ -0,0 +1,135 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.external.models.DatasourceStructure.Table;
+import com.appsmith.external.models.DatasourceStructure.TableType;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.Organization;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.helpers.MockPluginExecutor;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.repositories.DatasourceRepository;
+import com.appsmith.server.repositories.OrganizationRepository;
+import com.appsmith.server.repositories.UserRepository;
+import com.appsmith.server.services.DatasourceService;
+import com.appsmith.server.services.PluginService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@DirtiesContext
+public class DatasourceStructureSolutionTest {
+
+    @Autowired
+    DatasourceStructureSolution datasourceStructureSolution;
+
+    @Autowired
+    DatasourceService datasourceService;
+
+    @Autowired
+    DatasourceRepository datasourceRepository;
+
+    @Autowired
+    OrganizationRepository organizationRepository;
+
+    @Autowired
+    PluginService pluginService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @MockBean
+    PluginExecutorHelper pluginExecutorHelper;
+
+    // This test deliberately runs without `@WithUserDetails`, the way the scheduler runs the background refresh. The
+    // user's security context is only attached to the calls made on their behalf.
+    Context apiUserContext;
+
+    @Before
+    public void setup() {
+        User apiUser = userRepository.findByEmail("api_user").block();
+        apiUserContext = ReactiveSecurityContextHolder.withAuthentication(
+                new UsernamePasswordAuthenticationToken(apiUser, null, apiUser.getAuthorities())
+        );
+    }
+
+    @Test
+    public void refreshStaleStructureWithoutSecurityContext() {
+        PluginExecutor pluginExecutor = Mockito.spy(new MockPluginExecutor());
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
+
+        DatasourceStructure staleStructure = new DatasourceStructure(List.of(
+                new Table(TableType.TABLE, null, "stale_table", List.of(), List.of(), List.of())
+        ));
+        staleStructure.setRefreshedAt(Instant.now().minus(Duration.ofDays(1)));
+        DatasourceStructure freshStructure = new DatasourceStructure(List.of(
+                new Table(TableType.TABLE, null, "fresh_table", List.of(), List.of(), List.of())
+        ));
+        Mockito.doReturn(Mono.just(freshStructure)).when(pluginExecutor).getStructure(Mockito.any(), Mockito.any());
+
+        Organization organization = organizationRepository
+                .findByName("Another Test Organization", AclPermission.READ_ORGANIZATIONS)
+                .subscriberContext(apiUserContext)
+                .block();
+        Plugin plugin = pluginService.findByName("Installed Plugin Name").block();
+
+        Datasource datasource = new Datasource();
+        datasource.setName("refreshStaleStructureWithoutSecurityContext");
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("http://test.com");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+        datasource.setOrganizationId(organization.getId());
+        datasource.setPluginId(plugin.getId());
+
+        Datasource createdDatasource = datasourceService.create(datasource)
+                .flatMap(datasource1 -> datasourceRepository
+                        .saveStructure(datasource1.getId(), staleStructure)
+                        .thenReturn(datasource1))
+                .subscriberContext(apiUserContext)
+                .block();
+
+        // Reading the stale structure returns it as is, and marks it for a refresh.
+        StepVerifier
+                .create(datasourceStructureSolution.getStructure(createdDatasource.getId(), false)
+                        .subscriberContext(apiUserContext))
+                .assertNext(structure -> assertThat(structure.getTables().get(0).getName()).isEqualTo("stale_table"))
+                .verifyComplete();
+
+        StepVerifier
+                .create(datasourceStructureSolution.refreshStaleStructures())
+                .verifyComplete();
+
+        StepVerifier
+                .create(datasourceService.findById(createdDatasource.getId()).subscriberContext(apiUserContext))
+                .assertNext(savedDatasource -> {
+                    assertThat(savedDatasource.getStructure().getTables().get(0).getName()).isEqualTo("fresh_table");
+                    assertThat(savedDatasource.getStructure().getRefreshedAt()).isAfter(staleStructure.getRefreshedAt());
+                })
+                .verifyComplete();
+    }
+}
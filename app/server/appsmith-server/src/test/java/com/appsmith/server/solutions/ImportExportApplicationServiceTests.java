@@ -22,6 +22,7 @@ import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.PluginType;
 import com.appsmith.server.dtos.ActionCollectionDTO;
 import com.appsmith.server.dtos.ActionDTO;
+import com.appsmith.server.dtos.ApplicationViewBundleDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
@@ -32,6 +33,7 @@ import com.appsmith.server.repositories.PluginRepository;
 import com.appsmith.server.services.ActionCollectionService;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.ApplicationService;
+import com.appsmith.server.services.ApplicationViewBundleService;
 import com.appsmith.server.services.DatasourceService;
 import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.LayoutCollectionService;
@@ -40,6 +42,10 @@ import com.appsmith.server.services.NewPageService;
 import com.appsmith.server.services.OrganizationService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.UserService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
@@ -64,7 +70,13 @@ import org.springframework.util.LinkedMultiValueMap;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -72,6 +84,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.appsmith.server.acl.AclPermission.EXPORT_APPLICATIONS;
 import static com.appsmith.server.acl.AclPermission.MANAGE_ACTIONS;
@@ -119,6 +132,9 @@ public class ImportExportApplicationServiceTests {
     @Autowired
     private SessionUserService sessionUserService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Autowired
     private LayoutActionService layoutActionService;
 
@@ -131,6 +147,9 @@ public class ImportExportApplicationServiceTests {
     @Autowired
     private ActionCollectionService actionCollectionService;
 
+    @Autowired
+    private ApplicationViewBundleService applicationViewBundleService;
+
     @MockBean
     private PluginExecutorHelper pluginExecutorHelper;
 
@@ -263,6 +282,50 @@ public class ImportExportApplicationServiceTests {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void streamApplicationJson_WhenSerialisedInParts_MatchesApplicationJson() {
+
+        final Mono<Tuple2<ApplicationJson, String>> resultMono = importExportApplicationService.exportApplicationById(testAppId)
+                .flatMap(applicationJson -> DataBufferUtils
+                        .join(importExportApplicationService.streamApplicationJson(applicationJson, new DefaultDataBufferFactory()))
+                        .map(dataBuffer -> {
+                            String json = dataBuffer.toString(StandardCharsets.UTF_8);
+                            DataBufferUtils.release(dataBuffer);
+                            return Tuples.of(applicationJson, json);
+                        })
+                );
+
+        StepVerifier.create(resultMono)
+                .assertNext(tuple -> {
+                    try {
+                        JsonNode expected = objectMapper.valueToTree(tuple.getT1());
+                        JsonNode actual = objectMapper.readTree(tuple.getT2());
+                        assertThat(actual).isEqualTo(expected);
+                        assertThat(actual.get("pageList").size()).isEqualTo(tuple.getT1().getPageList().size());
+                    } catch (JsonProcessingException e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .verifyComplete();
+
+        // All the fields apart from the lists
+        ApplicationJson applicationJson = new ApplicationJson();
+        applicationJson.setPublishedDefaultPageName("Page1");
+        final String json = DataBufferUtils
+                .join(importExportApplicationService.streamApplicationJson(applicationJson, new DefaultDataBufferFactory()))
+                .map(dataBuffer -> dataBuffer.toString(StandardCharsets.UTF_8))
+                .block();
+        assertThat(json).isEqualTo("{\"publishedDefaultPageName\":\"Page1\"}");
+
+        // None of the fields
+        assertThat(DataBufferUtils
+                .join(importExportApplicationService.streamApplicationJson(new ApplicationJson(), new DefaultDataBufferFactory()))
+                .map(dataBuffer -> dataBuffer.toString(StandardCharsets.UTF_8))
+                .block()
+        ).isEqualTo("{}");
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void createExportAppJsonWithDatasourceButWithoutActionsTest() {
@@ -791,6 +854,49 @@ public class ImportExportApplicationServiceTests {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void importApplicationIntoExistingApplication_refreshesViewBundle() throws IOException {
+        Application testApplication = new Application();
+        testApplication.setName("importApplicationIntoExistingApplication_refreshesViewBundle");
+        Application application = applicationPageService.createApplication(testApplication, orgId)
+                .flatMap(application1 -> applicationPageService.publish(application1.getId(), true))
+                .block();
+        ApplicationViewBundleDTO viewBundleBeforeImport = applicationViewBundleService.getViewBundle(application.getId()).block();
+
+        ApplicationJson applicationJson;
+        try (Reader reader = new InputStreamReader(
+                new ClassPathResource("test_assets/ImportExportServiceTest/valid-application.json").getInputStream(),
+                StandardCharsets.UTF_8)) {
+            applicationJson = new Gson().fromJson(reader, ApplicationJson.class);
+        }
+
+        // Like a git pull, which replaces the published pages and actions of the application
+        final Mono<Tuple2<Application, ApplicationViewBundleDTO>> resultMono = importExportApplicationService
+                .importApplicationInOrganization(orgId, applicationJson, application.getId())
+                .flatMap(importedApplication -> Mono.zip(
+                        Mono.just(importedApplication),
+                        applicationViewBundleService.getViewBundle(importedApplication.getId())
+                ));
+
+        StepVerifier
+                .create(resultMono)
+                .assertNext(tuple -> {
+                    final Application importedApplication = tuple.getT1();
+                    final ApplicationViewBundleDTO viewBundle = tuple.getT2();
+
+                    assertThat(importedApplication.getId()).isEqualTo(application.getId());
+                    assertThat(viewBundle.getEtag()).isNotEqualTo(viewBundleBeforeImport.getEtag());
+                    assertThat(viewBundle.getPages())
+                            .extracting(PageDTO::getId)
+                            .containsExactlyInAnyOrderElementsOf(importedApplication.getPublishedPages()
+                                    .stream()
+                                    .map(ApplicationPage::getId)
+                                    .collect(Collectors.toList()));
+                })
+                .verifyComplete();
+    }
+
     private FilePart createFilePart(String filePath) {
         FilePart filepart = Mockito.mock(FilePart.class, Mockito.RETURNS_DEEP_STUBS);
         Flux<DataBuffer> dataBufferFlux = DataBufferUtils